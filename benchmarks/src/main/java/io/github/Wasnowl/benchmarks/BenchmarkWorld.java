@@ -0,0 +1,80 @@
+package io.github.Wasnowl.benchmarks;
+
+import com.badlogic.gdx.math.Vector2;
+import io.github.Wasnowl.controllers.GameController;
+import io.github.Wasnowl.managers.EnemyPool;
+import io.github.Wasnowl.managers.EnemyAssetManager;
+import io.github.Wasnowl.managers.TowerAssetManager;
+import io.github.Wasnowl.model.EnemyStore;
+import java.util.Random;
+
+/**
+ * BenchmarkWorld : construction d'un monde de test reproductible pour les benchmarks.
+ * Chemin en serpentin sur un carre de {@link #WORLD_SIZE} pixels ; les ennemis sont
+ * repartis aleatoirement le long du chemin (graine fixe), sans texture.
+ */
+final class BenchmarkWorld {
+    /** Pas de simulation utilise par tous les benchmarks. */
+    static final float STEP = GameController.DEFAULT_FIXED_STEP;
+    /** Cote du monde (pixels). */
+    static final float WORLD_SIZE = 2048f;
+    /** Graine des tirages aleatoires. */
+    static final long SEED = 42L;
+
+    private static final float ROW_SPACING = 64f;
+
+    private BenchmarkWorld() {}
+
+    /**
+     * Desactive le chargement des textures (pas de contexte GL dans les benchmarks).
+     */
+    static void disableAssets() {
+        EnemyAssetManager.getInstance().setLoadingEnabled(false);
+        TowerAssetManager.getInstance().setLoadingEnabled(false);
+    }
+
+    /**
+     * Construit un chemin en serpentin couvrant le monde.
+     * @return points du chemin
+     */
+    static Vector2[] serpentinePath() {
+        int rows = (int) (WORLD_SIZE / ROW_SPACING);
+        Vector2[] path = new Vector2[rows * 2];
+        for (int r = 0; r < rows; r++) {
+            float y = r * ROW_SPACING;
+            boolean leftToRight = (r & 1) == 0;
+            path[r * 2] = new Vector2(leftToRight ? 0f : WORLD_SIZE, y);
+            path[r * 2 + 1] = new Vector2(leftToRight ? WORLD_SIZE : 0f, y);
+        }
+        return path;
+    }
+
+    /**
+     * Ajoute des ennemis places aleatoirement sur les segments du chemin.
+     * @param store store cible
+     * @param pool pool des vues ennemies
+     * @param pathId identifiant du chemin enregistre dans le store
+     * @param count nombre d'ennemis a ajouter
+     * @param maxHp vie maximale
+     * @param random generateur aleatoire
+     */
+    static void spawn(EnemyStore store, EnemyPool pool, int pathId, int count, float maxHp, Random random) {
+        float length = store.getArcLengthPath(pathId).getLength();
+        for (int i = 0; i < count; i++) {
+            store.add(pool.acquire(-1), random.nextFloat() * length, maxHp, 50f, -1, pathId);
+        }
+    }
+
+    /**
+     * Renvoie au debut du chemin les ennemis arrives au bout (regime permanent).
+     * @param store store des ennemis
+     */
+    static void recycleFinished(EnemyStore store) {
+        float[] distance = store.getDistance();
+        int[] pathId = store.getPathId();
+        for (int i = 0, n = store.size(); i < n; i++) {
+            if (distance[i] >= store.getArcLengthPath(pathId[i]).getLength()) distance[i] = 0f;
+        }
+        store.invalidatePositions();
+    }
+}
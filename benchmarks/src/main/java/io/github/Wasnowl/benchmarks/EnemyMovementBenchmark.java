@@ -0,0 +1,63 @@
+package io.github.Wasnowl.benchmarks;
+
+import io.github.Wasnowl.entities.EnemyHealth;
+import io.github.Wasnowl.entities.EnemyMovement;
+import io.github.Wasnowl.managers.EnemyPool;
+import io.github.Wasnowl.model.EnemyStore;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Un tick de EnemyMovement.update sur N ennemis en marche.
+ * updateAndResolve ajoute l'evaluation des positions depuis les distances (lecture des colonnes X/Y).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnemyMovementBenchmark {
+    private static final int RECYCLE_PERIOD = 1024;
+
+    @Param({"100", "1000", "10000", "100000"})
+    public int enemyCount;
+
+    private EnemyStore store;
+    private EnemyMovement movement;
+    private int ticks;
+
+    @Setup
+    public void setup() {
+        BenchmarkWorld.disableAssets();
+        store = new EnemyStore(enemyCount);
+        int pathId = store.registerPath(BenchmarkWorld.serpentinePath());
+        BenchmarkWorld.spawn(store, new EnemyPool(store, new EnemyHealth(store)), pathId, enemyCount, 100f, new Random(BenchmarkWorld.SEED));
+        movement = new EnemyMovement(store);
+    }
+
+    @Benchmark
+    public void update() {
+        movement.update(BenchmarkWorld.STEP);
+        // Cout amorti negligeable : evite que les ennemis s'arretent en fin de chemin
+        if (++ticks % RECYCLE_PERIOD == 0) BenchmarkWorld.recycleFinished(store);
+    }
+
+    @Benchmark
+    public float[] updateAndResolve() {
+        movement.update(BenchmarkWorld.STEP);
+        if (++ticks % RECYCLE_PERIOD == 0) BenchmarkWorld.recycleFinished(store);
+        return store.getX();
+    }
+}
@@ -0,0 +1,98 @@
+package io.github.Wasnowl.benchmarks;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import io.github.Wasnowl.entities.Enemy;
+import io.github.Wasnowl.entities.EnemyHealth;
+import io.github.Wasnowl.managers.EnemyPool;
+import io.github.Wasnowl.entities.Projectile;
+import io.github.Wasnowl.entities.ProjectileType;
+import io.github.Wasnowl.managers.ProjectileManager;
+import io.github.Wasnowl.managers.ProjectilePool;
+import io.github.Wasnowl.model.EnemyStore;
+import io.github.Wasnowl.model.SpatialIndex;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Un tick de ProjectileManager.update sur P projectiles (simples et AOE) en vol.
+ * Les projectiles termines retournent au pool et sont relances pour garder P constant.
+ * analytic=true mesure la resolution par impacts planifies au lieu du guidage par frame.
+ * Chaque tick inclut l'application des degats enregistres par les impacts.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProjectileManagerBenchmark {
+    @Param({"100", "1000", "10000", "100000"})
+    public int projectileCount;
+
+    @Param({"1000"})
+    public int enemyCount;
+
+    @Param({"false", "true"})
+    public boolean analytic;
+
+    private final Array<Projectile> projectiles = new Array<>(false, 256);
+    private final Vector2 start = new Vector2();
+    private Array<Enemy> enemies;
+    private SpatialIndex index;
+    private EnemyHealth health;
+    private ProjectileManager projectileManager;
+    private Random random;
+
+    @Setup
+    public void setup() {
+        BenchmarkWorld.disableAssets();
+        EnemyStore store = new EnemyStore(enemyCount);
+        random = new Random(BenchmarkWorld.SEED);
+        int pathId = store.registerPath(BenchmarkWorld.serpentinePath());
+        health = new EnemyHealth(store);
+        BenchmarkWorld.spawn(store, new EnemyPool(store, health), pathId, enemyCount, Float.MAX_VALUE, random);
+        // Ennemis immobiles (pas de systeme de mouvement) : vitesse nulle pour que la prediction d'interception soit exacte
+        Arrays.fill(store.getSpeed(), 0, enemyCount, 0f);
+        enemies = store.getEnemies();
+        index = new SpatialIndex();
+        index.rebuild(store);
+        projectileManager = new ProjectileManager(projectiles);
+        projectileManager.setAnalyticResolution(analytic);
+        refill();
+    }
+
+    @Benchmark
+    public void update() {
+        projectileManager.update(BenchmarkWorld.STEP);
+        // passe de degats du tick (comme GameController.update)
+        health.applyQueuedDamage(null);
+        refill();
+    }
+
+    private void refill() {
+        while (projectiles.size < projectileCount) {
+            Enemy target = enemies.get(random.nextInt(enemies.size));
+            float angle = random.nextFloat() * 6.2831855f;
+            float distance = 100f + random.nextFloat() * 200f;
+            Vector2 at = target.getPosition();
+            start.set(at.x + (float) Math.cos(angle) * distance, at.y + (float) Math.sin(angle) * distance);
+            ProjectileType type = (projectiles.size & 1) == 0 ? ProjectileType.SIMPLE : ProjectileType.AOE_STRONG;
+            Projectile p = ProjectilePool.getInstance().acquire(start, target, type, enemies);
+            p.setSpatialIndex(index);
+            projectiles.add(p);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package io.github.Wasnowl.benchmarks;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import io.github.Wasnowl.entities.Enemy;
+import io.github.Wasnowl.entities.EnemyHealth;
+import io.github.Wasnowl.managers.EnemyPool;
+import io.github.Wasnowl.entities.Projectile;
+import io.github.Wasnowl.entities.ProjectileType;
+import io.github.Wasnowl.managers.ProjectilePool;
+import io.github.Wasnowl.model.EnemyStore;
+import io.github.Wasnowl.model.SpatialIndex;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Une chaine complete de RicochetProjectile : tir, impacts et rebonds jusqu'a la fin.
+ * La densite d'ennemis determine la longueur des chaines (rebonds a 100 px).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RicochetBenchmark {
+    private static final int MAX_TICKS = 10000;
+
+    @Param({"100", "1000", "10000", "100000"})
+    public int enemyCount;
+
+    private final Vector2 start = new Vector2();
+    private Array<Enemy> enemies;
+    private SpatialIndex index;
+    private EnemyHealth health;
+    private Random random;
+
+    @Setup
+    public void setup() {
+        BenchmarkWorld.disableAssets();
+        EnemyStore store = new EnemyStore(enemyCount);
+        random = new Random(BenchmarkWorld.SEED);
+        int pathId = store.registerPath(BenchmarkWorld.serpentinePath());
+        health = new EnemyHealth(store);
+        BenchmarkWorld.spawn(store, new EnemyPool(store, health), pathId, enemyCount, Float.MAX_VALUE, random);
+        enemies = store.getEnemies();
+        index = new SpatialIndex();
+        index.rebuild(store);
+    }
+
+    @Benchmark
+    public int chainIndexed() {
+        return chain(index);
+    }
+
+    @Benchmark
+    public int chainLinear() {
+        return chain(null);
+    }
+
+    private int chain(SpatialIndex spatialIndex) {
+        Enemy target = enemies.get(random.nextInt(enemies.size));
+        Vector2 at = target.getPosition();
+        start.set(at.x + 50f, at.y);
+        Projectile p = ProjectilePool.getInstance().acquire(start, target, ProjectileType.RICOCHET, enemies);
+        p.setSpatialIndex(spatialIndex);
+        int ticks = 0;
+        while (!p.isDead() && ticks < MAX_TICKS) {
+            p.update(BenchmarkWorld.STEP);
+            health.applyQueuedDamage(null);
+            ticks++;
+        }
+        ProjectilePool.getInstance().release(p);
+        return ticks;
+    }
+}
@@ -0,0 +1,80 @@
+package io.github.Wasnowl.benchmarks;
+
+import com.badlogic.gdx.utils.Array;
+import io.github.Wasnowl.entities.Enemy;
+import io.github.Wasnowl.entities.EnemyHealth;
+import io.github.Wasnowl.managers.EnemyPool;
+import io.github.Wasnowl.model.EnemyStore;
+import io.github.Wasnowl.model.SpatialIndex;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * SpatialIndex : cout du rebuild (lineaire en N) et des requetes (quasi constant a densite donnee).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpatialIndexBenchmark {
+    private static final int QUERY_COUNT = 256;
+    private static final float RANGE = 150f;
+
+    @Param({"100", "1000", "10000", "100000"})
+    public int enemyCount;
+
+    private final float[] queryX = new float[QUERY_COUNT];
+    private final float[] queryY = new float[QUERY_COUNT];
+    private final Array<Enemy> out = new Array<>(false, 256);
+    private EnemyStore store;
+    private SpatialIndex index;
+    private int query;
+
+    @Setup
+    public void setup() {
+        BenchmarkWorld.disableAssets();
+        store = new EnemyStore(enemyCount);
+        Random random = new Random(BenchmarkWorld.SEED);
+        int pathId = store.registerPath(BenchmarkWorld.serpentinePath());
+        BenchmarkWorld.spawn(store, new EnemyPool(store, new EnemyHealth(store)), pathId, enemyCount, 100f, random);
+        index = new SpatialIndex();
+        index.rebuild(store);
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            queryX[i] = random.nextFloat() * BenchmarkWorld.WORLD_SIZE;
+            queryY[i] = random.nextFloat() * BenchmarkWorld.WORLD_SIZE;
+        }
+    }
+
+    @Benchmark
+    public void rebuild() {
+        index.rebuild(store);
+    }
+
+    @Benchmark
+    public Enemy nearest() {
+        int q = query++ & (QUERY_COUNT - 1);
+        return index.nearest(queryX[q], queryY[q], RANGE, null);
+    }
+
+    @Benchmark
+    public void queryRadius(Blackhole bh) {
+        int q = query++ & (QUERY_COUNT - 1);
+        out.clear();
+        index.queryRadius(queryX[q], queryY[q], RANGE, out);
+        bh.consume(out.size);
+    }
+}
@@ -0,0 +1,113 @@
+package io.github.Wasnowl.benchmarks;
+
+import com.badlogic.gdx.utils.Array;
+import io.github.Wasnowl.builders.TowerBuilder;
+import io.github.Wasnowl.entities.EnemyHealth;
+import io.github.Wasnowl.entities.EnemyMovement;
+import io.github.Wasnowl.entities.Projectile;
+import io.github.Wasnowl.entities.TargetingPolicy;
+import io.github.Wasnowl.entities.Tower;
+import io.github.Wasnowl.managers.EnemyPool;
+import io.github.Wasnowl.model.EnemyStore;
+import io.github.Wasnowl.model.ProgressIndex;
+import io.github.Wasnowl.model.SpatialIndex;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Ciblage par politique pour T tours et N ennemis aux vies aleatoires.
+ * findTargetIndexed interroge le ProgressIndex ; findTargetScan parcourt les ennemis a portee
+ * (index spatial seul) ; rebuild mesure un tick de deplacement suivi de la mise a jour de l'index.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TargetingBenchmark {
+    private static final int TOWER_COUNT = 100;
+    private static final int RECYCLE_PERIOD = 1024;
+
+    @Param({"100", "1000", "10000", "100000"})
+    public int enemyCount;
+
+    @Param({"FIRST", "LAST", "STRONGEST", "WEAKEST", "CLOSEST"})
+    public TargetingPolicy policy;
+
+    private EnemyStore store;
+    private EnemyMovement movement;
+    private ProgressIndex progressIndex;
+    private final Array<Tower> indexedTowers = new Array<>();
+    private final Array<Tower> scanTowers = new Array<>();
+    private final Array<Projectile> projectiles = new Array<>();
+    private int ticks;
+
+    @Setup
+    public void setup() {
+        BenchmarkWorld.disableAssets();
+        store = new EnemyStore(enemyCount);
+        Random random = new Random(BenchmarkWorld.SEED);
+        int pathId = store.registerPath(BenchmarkWorld.serpentinePath());
+        BenchmarkWorld.spawn(store, new EnemyPool(store, new EnemyHealth(store)), pathId, enemyCount, 100f, random);
+        float[] health = store.getHealth();
+        for (int i = 0; i < enemyCount; i++) health[i] = 1f + random.nextFloat() * 99f;
+        movement = new EnemyMovement(store);
+        SpatialIndex index = new SpatialIndex();
+        index.rebuild(store);
+        progressIndex = new ProgressIndex();
+        progressIndex.rebuild(store);
+
+        for (int i = 0; i < TOWER_COUNT; i++) {
+            float x = random.nextFloat() * BenchmarkWorld.WORLD_SIZE;
+            float y = random.nextFloat() * BenchmarkWorld.WORLD_SIZE;
+            indexedTowers.add(new TowerBuilder(x, y)
+                    .withEnemies(store.getEnemies())
+                    .withProjectiles(projectiles)
+                    .withSpatialIndex(index)
+                    .withProgressIndex(progressIndex)
+                    .withTargetingPolicy(policy)
+                    .build());
+            scanTowers.add(new TowerBuilder(x, y)
+                    .withEnemies(store.getEnemies())
+                    .withProjectiles(projectiles)
+                    .withSpatialIndex(index)
+                    .withTargetingPolicy(policy)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public void findTargetIndexed(Blackhole bh) {
+        for (int i = 0; i < indexedTowers.size; i++) {
+            bh.consume(indexedTowers.get(i).findTarget());
+        }
+    }
+
+    @Benchmark
+    public void findTargetScan(Blackhole bh) {
+        for (int i = 0; i < scanTowers.size; i++) {
+            bh.consume(scanTowers.get(i).findTarget());
+        }
+    }
+
+    @Benchmark
+    public int rebuild() {
+        movement.update(BenchmarkWorld.STEP);
+        if (++ticks % RECYCLE_PERIOD == 0) BenchmarkWorld.recycleFinished(store);
+        progressIndex.rebuild(store);
+        return progressIndex.size();
+    }
+}
@@ -0,0 +1,134 @@
+package io.github.Wasnowl.benchmarks;
+
+import com.badlogic.gdx.utils.Array;
+import io.github.Wasnowl.builders.TowerBuilder;
+import io.github.Wasnowl.controllers.TowerScheduler;
+import io.github.Wasnowl.entities.EnemyHealth;
+import io.github.Wasnowl.managers.EnemyPool;
+import io.github.Wasnowl.entities.Projectile;
+import io.github.Wasnowl.entities.Tower;
+import io.github.Wasnowl.managers.ProjectilePool;
+import io.github.Wasnowl.model.EnemyStore;
+import io.github.Wasnowl.model.SpatialIndex;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Tower.update et Tower.findTarget pour T tours et N ennemis immobiles.
+ * findTargetLinear mesure le parcours lineaire (tours sans index spatial) ;
+ * scheduled mesure le meme tick via le TowerScheduler du GameController ;
+ * scheduledParallel le meme tick avec le ciblage reparti sur les coeurs.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TowerBenchmark {
+    @Param({"100", "1000", "10000", "100000"})
+    public int enemyCount;
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    public int towerCount;
+
+    private final Array<Tower> indexedTowers = new Array<>();
+    private final Array<Tower> linearTowers = new Array<>();
+    private final Array<Tower> scheduledTowers = new Array<>();
+    private TowerScheduler scheduler;
+    private final Array<Tower> parallelTowers = new Array<>();
+    private TowerScheduler parallelScheduler;
+    private final Array<Projectile> projectiles = new Array<>(false, 256);
+
+    @Setup
+    public void setup() {
+        BenchmarkWorld.disableAssets();
+        EnemyStore store = new EnemyStore(enemyCount);
+        Random random = new Random(BenchmarkWorld.SEED);
+        int pathId = store.registerPath(BenchmarkWorld.serpentinePath());
+        BenchmarkWorld.spawn(store, new EnemyPool(store, new EnemyHealth(store)), pathId, enemyCount, Float.MAX_VALUE, random);
+        SpatialIndex index = new SpatialIndex();
+        index.rebuild(store);
+
+        for (int i = 0; i < towerCount; i++) {
+            float x = random.nextFloat() * BenchmarkWorld.WORLD_SIZE;
+            float y = random.nextFloat() * BenchmarkWorld.WORLD_SIZE;
+            indexedTowers.add(new TowerBuilder(x, y)
+                    .withEnemies(store.getEnemies())
+                    .withProjectiles(projectiles)
+                    .withSpatialIndex(index)
+                    .build());
+            linearTowers.add(new TowerBuilder(x, y)
+                    .withEnemies(store.getEnemies())
+                    .withProjectiles(projectiles)
+                    .build());
+            scheduledTowers.add(new TowerBuilder(x, y)
+                    .withEnemies(store.getEnemies())
+                    .withProjectiles(projectiles)
+                    .withSpatialIndex(index)
+                    .build());
+            parallelTowers.add(new TowerBuilder(x, y)
+                    .withEnemies(store.getEnemies())
+                    .withProjectiles(projectiles)
+                    .withSpatialIndex(index)
+                    .build());
+        }
+        scheduler = new TowerScheduler(scheduledTowers);
+        parallelScheduler = new TowerScheduler(parallelTowers);
+        parallelScheduler.setParallelTargeting(true);
+    }
+
+    @Benchmark
+    public void update() {
+        for (int i = 0; i < indexedTowers.size; i++) {
+            indexedTowers.get(i).update(BenchmarkWorld.STEP);
+        }
+        releaseProjectiles();
+    }
+
+    @Benchmark
+    public void scheduled() {
+        scheduler.update(BenchmarkWorld.STEP);
+        releaseProjectiles();
+    }
+
+    @Benchmark
+    public void scheduledParallel() {
+        parallelScheduler.update(BenchmarkWorld.STEP);
+        releaseProjectiles();
+    }
+
+    @Benchmark
+    public void findTargetIndexed(Blackhole bh) {
+        for (int i = 0; i < indexedTowers.size; i++) {
+            bh.consume(indexedTowers.get(i).findTarget());
+        }
+    }
+
+    @Benchmark
+    public void findTargetLinear(Blackhole bh) {
+        for (int i = 0; i < linearTowers.size; i++) {
+            bh.consume(linearTowers.get(i).findTarget());
+        }
+    }
+
+    private void releaseProjectiles() {
+        // Les projectiles tires retournent au pool : seul le tir est mesure
+        for (int i = 0; i < projectiles.size; i++) {
+            ProjectilePool.getInstance().release(projectiles.get(i));
+        }
+        projectiles.clear();
+    }
+}
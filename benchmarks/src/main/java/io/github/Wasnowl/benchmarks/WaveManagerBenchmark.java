@@ -0,0 +1,59 @@
+package io.github.Wasnowl.benchmarks;
+
+import io.github.Wasnowl.managers.CurrencyManager;
+import io.github.Wasnowl.managers.EnemyPool;
+import io.github.Wasnowl.managers.WaveManager;
+import io.github.Wasnowl.model.EnemyStore;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Un tick de WaveManager.update (mouvement, vie, retrait des morts) sur N ennemis.
+ * Les ennemis arrives au bout du chemin sont retires puis remplaces via l'EnemyPool,
+ * comme pendant une vague en regime permanent.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WaveManagerBenchmark {
+    @Param({"100", "1000", "10000", "100000"})
+    public int enemyCount;
+
+    private EnemyStore store;
+    private EnemyPool pool;
+    private WaveManager waveManager;
+    private Random random;
+    private int pathId;
+
+    @Setup
+    public void setup() {
+        BenchmarkWorld.disableAssets();
+        store = new EnemyStore(enemyCount);
+        waveManager = new WaveManager(store, new CurrencyManager(0));
+        pool = waveManager.getEnemyPool();
+        random = new Random(BenchmarkWorld.SEED);
+        pathId = store.registerPath(BenchmarkWorld.serpentinePath());
+        BenchmarkWorld.spawn(store, pool, pathId, enemyCount, 100f, random);
+    }
+
+    @Benchmark
+    public void update() {
+        waveManager.update(BenchmarkWorld.STEP);
+        int missing = enemyCount - store.size();
+        if (missing > 0) BenchmarkWorld.spawn(store, pool, pathId, missing, 100f, random);
+    }
+}
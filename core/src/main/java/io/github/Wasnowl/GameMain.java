@@ -1,7 +1,11 @@
 package io.github.Wasnowl;
 
 import com.badlogic.gdx.Game;
+import io.github.Wasnowl.managers.AssetIndex;
 import io.github.Wasnowl.managers.MusicManager;
+import io.github.Wasnowl.managers.EnemyAssetManager;
+import io.github.Wasnowl.managers.TextureRegistry;
+import io.github.Wasnowl.managers.TowerAssetManager;
 import io.github.Wasnowl.screens.MainMenuScreen;
 
 /**
@@ -10,6 +14,7 @@ import io.github.Wasnowl.screens.MainMenuScreen;
  */
 public class GameMain extends Game {
     private MusicManager musicManager;
+    private boolean threadedSimulation;
 
     /**
      * Cree les ressources globales et affiche le menu principal.
@@ -18,6 +23,8 @@ public class GameMain extends Game {
     public void create() {
         musicManager = new MusicManager();
         musicManager.start();
+        // index des assets (assets.txt) lu une fois au demarrage
+        AssetIndex.getInstance();
         setScreen(new MainMenuScreen(this));
     }
 
@@ -29,6 +36,22 @@ public class GameMain extends Game {
         return musicManager;
     }
 
+    /**
+     * Active la simulation sur un thread dedie pour les prochains ecrans de jeu.
+     * @param threadedSimulation true pour separer simulation et rendu
+     */
+    public void setThreadedSimulation(boolean threadedSimulation) {
+        this.threadedSimulation = threadedSimulation;
+    }
+
+    /**
+     * Indique si les ecrans de jeu utilisent un thread de simulation.
+     * @return true si actif
+     */
+    public boolean isThreadedSimulation() {
+        return threadedSimulation;
+    }
+
     /**
      * Libere les ressources globales.
      */
@@ -38,5 +61,8 @@ public class GameMain extends Game {
             musicManager.dispose();
         }
         super.dispose();
+        EnemyAssetManager.getInstance().dispose();
+        TowerAssetManager.getInstance().dispose();
+        TextureRegistry.getInstance().dispose();
     }
 }
@@ -2,6 +2,7 @@ package io.github.Wasnowl;
 
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Vector2;
+import io.github.Wasnowl.model.RenderSnapshot;
 
 /**
  * Base abstraite pour toutes les entites du moteur.
@@ -12,6 +13,8 @@ public abstract class GameObject {
     protected Vector2 position;
     /** Largeur/hauteur (optionnel). */
     protected Vector2 size;
+    /** Position au tick de simulation precedent (interpolation du rendu). */
+    protected final Vector2 previousPosition;
 
     /**
      * Construit un objet de jeu a la position initiale.
@@ -21,6 +24,7 @@ public abstract class GameObject {
     public GameObject(float x, float y) {
         this.position = new Vector2(x, y);
         this.size = new Vector2(1, 1); // valeur par défaut
+        this.previousPosition = new Vector2(x, y);
     }
 
     // Getter/Setter
@@ -56,6 +60,32 @@ public abstract class GameObject {
         this.size = size;
     }
 
+    /**
+     * Retourne la position au tick de simulation precedent.
+     * @return position precedente
+     */
+    public Vector2 getPreviousPosition() {
+        return previousPosition;
+    }
+
+    /**
+     * Memorise la position courante comme position du tick precedent.
+     * Appele avant chaque pas de simulation fixe.
+     */
+    public void savePreviousPosition() {
+        previousPosition.set(position);
+    }
+
+    /**
+     * Calcule la position interpolee entre le tick precedent et le tick courant.
+     * @param alpha facteur d'interpolation (0 = tick precedent, 1 = tick courant)
+     * @param out vecteur de sortie
+     * @return out
+     */
+    public Vector2 getInterpolatedPosition(float alpha, Vector2 out) {
+        return out.set(previousPosition).lerp(position, alpha);
+    }
+
     // Méthodes communes
     /**
      * Met a jour la logique (deplacement, IA, timers).
@@ -68,4 +98,22 @@ public abstract class GameObject {
      * @param batch sprite batch actif
      */
     public abstract void render(SpriteBatch batch); // affichage graphique
+
+    /**
+     * Rend l'objet a une position interpolee entre deux ticks de simulation.
+     * Par defaut, rendu a la position courante (objets immobiles).
+     * @param batch sprite batch actif
+     * @param alpha facteur d'interpolation
+     */
+    public void render(SpriteBatch batch, float alpha) {
+        render(batch);
+    }
+
+    /**
+     * Ajoute l'objet a l'image de rendu d'un tick (simulation sur un thread dedie).
+     * Par defaut, rien n'est ajoute (objet non dessine).
+     * @param out image du tick
+     */
+    public void snapshot(RenderSnapshot out) {
+    }
 }
@@ -5,8 +5,11 @@ import io.github.Wasnowl.entities.RicochetTower;
 import io.github.Wasnowl.entities.Enemy;
 import io.github.Wasnowl.entities.Projectile;
 import io.github.Wasnowl.entities.ProjectileType;
+import io.github.Wasnowl.entities.TargetingPolicy;
 import io.github.Wasnowl.entities.TowerType;
 import io.github.Wasnowl.managers.TowerAssetManager;
+import io.github.Wasnowl.model.ProgressIndex;
+import io.github.Wasnowl.model.SpatialIndex;
 import com.badlogic.gdx.utils.Array;
 
 /**
@@ -22,6 +25,9 @@ public class TowerBuilder {
     private TowerType towerType = null;
     private Array<Enemy> enemies;
     private Array<Projectile> projectiles;
+    private SpatialIndex spatialIndex;
+    private ProgressIndex progressIndex;
+    private TargetingPolicy targetingPolicy = TargetingPolicy.FIRST;
     private int towerId = 7; // ID du sprite de la tour (défaut: 7)
     private float size = 32f; // taille du sprite en pixels
 
@@ -96,6 +102,36 @@ public class TowerBuilder {
         return this;
     }
     
+    /**
+     * Fournit l'index spatial partage pour le ciblage.
+     * @param spatialIndex index spatial des ennemis
+     * @return builder courant
+     */
+    public TowerBuilder withSpatialIndex(SpatialIndex spatialIndex) {
+        this.spatialIndex = spatialIndex;
+        return this;
+    }
+
+    /**
+     * Fournit l'index de progression partage pour les politiques de ciblage.
+     * @param progressIndex index de progression des ennemis
+     * @return builder courant
+     */
+    public TowerBuilder withProgressIndex(ProgressIndex progressIndex) {
+        this.progressIndex = progressIndex;
+        return this;
+    }
+
+    /**
+     * Definit la politique de ciblage (FIRST par defaut).
+     * @param policy politique de ciblage
+     * @return builder courant
+     */
+    public TowerBuilder withTargetingPolicy(TargetingPolicy policy) {
+        this.targetingPolicy = policy;
+        return this;
+    }
+
     /**
      * Definit l'identifiant de sprite de la tour.
      * @param towerId id du sprite
@@ -136,6 +172,9 @@ public class TowerBuilder {
         
         tower.setProjectileType(projectileType);
         if (towerType != null) tower.setTowerType(towerType);
+        tower.setSpatialIndex(spatialIndex);
+        tower.setProgressIndex(progressIndex);
+        tower.setTargetingPolicy(targetingPolicy);
         
         // Charger et assigner l'animation spritesheet
         tower.setSize(new com.badlogic.gdx.math.Vector2(size, size));
@@ -143,7 +182,7 @@ public class TowerBuilder {
         if (frames != null) {
             tower.setAnimation(frames, 0.1f); // 0.1s par frame = 10 frames/sec
             tower.setAnimating(true);
-        } else {
+        } else if (TowerAssetManager.getInstance().isLoadingEnabled()) {
             System.err.println("Warning: animation non trouvée pour la tour " + towerId);
         }
         
@@ -3,18 +3,35 @@ package io.github.Wasnowl.controllers;
 import com.badlogic.gdx.utils.Array;
 import io.github.Wasnowl.entities.*;
 import io.github.Wasnowl.managers.*;
+import io.github.Wasnowl.model.EnemyStore;
+import io.github.Wasnowl.model.GameState;
+import io.github.Wasnowl.model.ProgressIndex;
+import io.github.Wasnowl.model.SpatialIndex;
 
 /**
  * GameController: orchestre les mises à jour du modèle (managers, entités) séparément de la vue.
  * Ceci aide à clarifier la séparation MVC en regroupant la logique d'update côté controller.
  */
 public class GameController {
+    /** Pas de simulation fixe par defaut (60 Hz). */
+    public static final float DEFAULT_FIXED_STEP = 1f / 60f;
+    /** Nombre max de pas de simulation par frame par defaut. */
+    public static final int DEFAULT_MAX_SUBSTEPS = 5;
+
     private final WaveManager waveManager;
     private final ProjectileManager projectileManager;
     private final PlayerTower player;
     private final Array<Tower> towers;
     private final Array<Enemy> enemies;
     private final Array<Projectile> projectiles;
+    private final SpatialIndex spatialIndex;
+    private final ProgressIndex progressIndex;
+    private final EnemyStore enemyStore;
+    private final TowerScheduler towerScheduler;
+    private float fixedStep = DEFAULT_FIXED_STEP;
+    private int maxSubsteps = DEFAULT_MAX_SUBSTEPS;
+    private float accumulator = 0f;
+    private float alpha = 1f;
 
     /**
      * Construit le controleur principal qui orchestre les updates du modele.
@@ -37,20 +54,151 @@ public class GameController {
         this.towers = towers;
         this.enemies = enemies;
         this.projectiles = projectiles;
+        this.spatialIndex = null;
+        this.progressIndex = null;
+        this.enemyStore = null;
+        this.towerScheduler = towers != null ? new TowerScheduler(towers) : null;
+    }
+
+    /**
+     * Constructeur compatible MVC: recupere collections et index spatial depuis GameState.
+     * @param state etat du jeu
+     * @param waveManager gestionnaire des vagues
+     * @param projectileManager gestionnaire des projectiles
+     */
+    public GameController(GameState state,
+                          WaveManager waveManager,
+                          ProjectileManager projectileManager) {
+        this.waveManager = waveManager;
+        this.projectileManager = projectileManager;
+        this.player = state.getPlayer();
+        this.towers = state.getTowers();
+        this.enemies = state.getEnemies();
+        this.projectiles = state.getProjectiles();
+        this.spatialIndex = state.getSpatialIndex();
+        this.progressIndex = state.getProgressIndex();
+        this.enemyStore = state.getEnemyStore();
+        this.towerScheduler = new TowerScheduler(towers);
+    }
+
+    /**
+     * Avance la simulation du temps reel ecoule, par pas fixes.
+     * Le temps restant (inferieur a un pas) est conserve pour la frame suivante
+     * et sert de facteur d'interpolation au rendu. Au-dela de maxSubsteps pas,
+     * le retard est abandonne (la simulation ralentit plutot que d'exploser).
+     * @param frameDelta temps reel ecoule depuis la frame precedente (secondes)
+     * @return nombre de pas de simulation executes
+     */
+    public int advance(float frameDelta) {
+        accumulator += frameDelta;
+        float maxAccumulated = fixedStep * maxSubsteps;
+        if (accumulator > maxAccumulated) accumulator = maxAccumulated;
+
+        int steps = 0;
+        while (accumulator >= fixedStep) {
+            savePreviousState();
+            update(fixedStep);
+            accumulator -= fixedStep;
+            steps++;
+        }
+        alpha = accumulator / fixedStep;
+        return steps;
+    }
+
+    /**
+     * Retourne le facteur d'interpolation entre le tick precedent et le tick courant.
+     * @return alpha dans [0, 1[
+     */
+    public float getAlpha() {
+        return alpha;
+    }
+
+    /**
+     * Definit la duree d'un pas de simulation (transmise aux roues des spawns et des impacts).
+     * @param fixedStep duree d'un pas (secondes)
+     */
+    public void setFixedStep(float fixedStep) {
+        if (fixedStep <= 0f) return;
+        this.fixedStep = fixedStep;
+        if (waveManager != null) waveManager.setTickDuration(fixedStep);
+        if (projectileManager != null) projectileManager.setTickDuration(fixedStep);
     }
 
     /**
-     * Met a jour l'etat du jeu (modele) : vagues, joueur, tours, projectiles.
-     * @param delta temps ecoule (secondes)
+     * Retourne la duree d'un pas de simulation.
+     * @return duree d'un pas (secondes)
+     */
+    public float getFixedStep() {
+        return fixedStep;
+    }
+
+    /**
+     * Definit le nombre max de pas executes par frame.
+     * @param maxSubsteps nombre max de pas
+     */
+    public void setMaxSubsteps(int maxSubsteps) {
+        this.maxSubsteps = Math.max(1, maxSubsteps);
+    }
+
+    /**
+     * Active le ciblage parallele des tours (voir {@link TowerScheduler#setParallelTargeting(boolean)}).
+     * @param parallelTargeting true pour repartir le ciblage sur plusieurs coeurs
+     */
+    public void setParallelTargeting(boolean parallelTargeting) {
+        if (towerScheduler != null) towerScheduler.setParallelTargeting(parallelTargeting);
+    }
+
+    /**
+     * Retourne l'ordonnanceur des tirs des tours.
+     * @return ordonnanceur (null sans liste de tours)
+     */
+    public TowerScheduler getTowerScheduler() {
+        return towerScheduler;
+    }
+
+    /**
+     * Releve les compteurs d'entites et de pools du profileur (thread de simulation).
+     * @param counts valeurs indexees par {@link FrameProfiler.Counter#ordinal()}
+     */
+    public void countEntities(long[] counts) {
+        counts[FrameProfiler.Counter.ENEMIES.ordinal()] = enemies != null ? enemies.size : 0;
+        counts[FrameProfiler.Counter.TOWERS.ordinal()] = towers != null ? towers.size : 0;
+        counts[FrameProfiler.Counter.PROJECTILES.ordinal()] =
+            projectileManager != null ? projectileManager.getActiveProjectileCount() : 0;
+        int projectilesFree = 0;
+        for (ProjectileType type : ProjectileType.values()) projectilesFree += ProjectilePool.getInstance().getFree(type);
+        counts[FrameProfiler.Counter.PROJECTILE_POOL_FREE.ordinal()] = projectilesFree;
+        counts[FrameProfiler.Counter.ENEMY_POOL_FREE.ordinal()] =
+            waveManager != null ? waveManager.getEnemyPool().getFreeCount() : 0;
+    }
+
+    private void savePreviousState() {
+        if (enemyStore != null) enemyStore.savePreviousPositions();
+        if (player != null) player.savePreviousPosition();
+        if (projectileManager != null) projectileManager.savePreviousPositions();
+    }
+
+    /**
+     * Execute un pas de simulation : vagues, joueur, tours, projectiles, degats.
+     * @param delta duree du pas (secondes)
      */
     public void update(float delta) {
+        FrameProfiler profiler = FrameProfiler.getInstance();
+        profiler.begin(FrameProfiler.Section.WAVES);
         if (waveManager != null) waveManager.update(delta);
+        profiler.end(FrameProfiler.Section.WAVES);
+        // Positions des ennemis figees pour le reste du tick : on indexe une seule fois
+        if (spatialIndex != null && enemyStore != null) spatialIndex.rebuild(enemyStore);
+        if (progressIndex != null && enemyStore != null) progressIndex.rebuild(enemyStore);
         if (player != null) player.update(delta);
-        if (towers != null) {
-            for (Tower t : towers) {
-                if (t != null) t.update(delta);
-            }
-        }
+        // Seules les tours dont le rechargement est termine cherchent une cible
+        profiler.begin(FrameProfiler.Section.TOWERS);
+        if (towerScheduler != null) towerScheduler.update(delta);
+        profiler.end(FrameProfiler.Section.TOWERS);
+        profiler.begin(FrameProfiler.Section.PROJECTILES);
         if (projectileManager != null) projectileManager.update(delta);
+        profiler.end(FrameProfiler.Section.PROJECTILES);
+        // Degats du tick appliques en une passe : morts, recompenses, etats d'animation
+        if (waveManager != null) waveManager.applyDamage();
     }
 }
@@ -4,12 +4,18 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.InputAdapter;
 import com.badlogic.gdx.InputMultiplexer;
 import com.badlogic.gdx.scenes.scene2d.Stage;
+import io.github.Wasnowl.managers.FrameProfiler;
 
 /**
  * GameInputController : encapsule la logique de gestion des entrées (touch, keys, scroll)
  * Fournit des callbacks simples que la View (GameScreen) peut implémenter.
  */
 public class GameInputController {
+    /** Touche affichant/masquant le profiler. */
+    public static final int PROFILER_KEY = com.badlogic.gdx.Input.Keys.F3;
+    /** Touche exportant l'historique du profiler en CSV. */
+    public static final int PROFILER_EXPORT_KEY = com.badlogic.gdx.Input.Keys.F4;
+
     /**
      * Callback pour le mouvement du joueur (direction normalisee).
      */
@@ -90,6 +96,16 @@ public class GameInputController {
 
         @Override
         public boolean keyDown(int keycode) {
+            // profiler disponible meme en pause
+            if (keycode == PROFILER_KEY) {
+                FrameProfiler profiler = FrameProfiler.getInstance();
+                profiler.setEnabled(!profiler.isEnabled());
+                return true;
+            }
+            if (keycode == PROFILER_EXPORT_KEY && FrameProfiler.getInstance().isEnabled()) {
+                Gdx.app.log("PROFILER", "Export: " + FrameProfiler.getInstance().exportCsv().path());
+                return true;
+            }
             if (isPaused != null && isPaused.getAsBoolean()) {
                 // allow ESC to unpause
                 if (keyHandler != null) return keyHandler.keyDown(keycode);
@@ -0,0 +1,181 @@
+package io.github.Wasnowl.controllers;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import io.github.Wasnowl.entities.Enemy;
+import io.github.Wasnowl.entities.Tower;
+import io.github.Wasnowl.managers.FrameProfiler;
+import io.github.Wasnowl.managers.ProjectileManager;
+import io.github.Wasnowl.managers.WaveManager;
+import io.github.Wasnowl.model.GameState;
+import io.github.Wasnowl.model.RenderSnapshot;
+import io.github.Wasnowl.model.SpscQueue;
+import io.github.Wasnowl.model.TripleBuffer;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * SimulationThread : fait avancer le modele ({@link GameController}) sur un thread dedie, a pas fixe.
+ * Apres chaque tick, une {@link RenderSnapshot} (frames resolues, positions, HUD) est publiee dans un
+ * {@link TripleBuffer} : le thread de rendu ne lit que {@link #getLatestSnapshot()} et ne touche plus
+ * au modele. Dans l'autre sens, les actions du joueur passent par {@link #post(Runnable)}, une file SPSC
+ * videe au debut de chaque tick sur le thread de simulation.
+ * Toutes les ressources graphiques utilisees par la simulation doivent etre chargees avant {@link #start()}
+ * (voir {@link WaveManager#preloadEnemyAssets()}).
+ */
+public class SimulationThread implements Runnable {
+    /** Nombre max de commandes en attente. */
+    public static final int COMMAND_CAPACITY = 256;
+
+    private final GameController controller;
+    private final GameState state;
+    private final WaveManager waveManager;
+    private final ProjectileManager projectileManager;
+    // cree ici (thread de rendu) avant le demarrage du thread : singleton partage sans course
+    private final FrameProfiler profiler = FrameProfiler.getInstance();
+    private final SpscQueue<Runnable> commands = new SpscQueue<>(COMMAND_CAPACITY);
+    private final TripleBuffer<RenderSnapshot> snapshots =
+        new TripleBuffer<>(new RenderSnapshot(), new RenderSnapshot(), new RenderSnapshot());
+    private final long stepNanos;
+    private volatile boolean running;
+    private volatile boolean paused;
+    private volatile Throwable failure;
+    private Thread thread;
+    private long tick;
+
+    /**
+     * Cree la boucle de simulation (non demarree).
+     * @param controller controleur dont les pas sont executes
+     * @param state etat du jeu (entites a publier)
+     * @param waveManager gestionnaire des vagues (etat du HUD)
+     * @param projectileManager gestionnaire des projectiles
+     */
+    public SimulationThread(GameController controller, GameState state,
+                            WaveManager waveManager, ProjectileManager projectileManager) {
+        this.controller = controller;
+        this.state = state;
+        this.waveManager = waveManager;
+        this.projectileManager = projectileManager;
+        this.stepNanos = (long) (controller.getFixedStep() * 1_000_000_000L);
+    }
+
+    /**
+     * Publie l'etat initial puis demarre le thread.
+     */
+    public void start() {
+        if (thread != null) return;
+        publish();
+        running = true;
+        thread = new Thread(this, "simulation");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Arrete le thread et attend la fin du tick en cours (le modele peut ensuite etre libere).
+     */
+    public void stop() {
+        if (thread == null) return;
+        running = false;
+        LockSupport.unpark(thread);
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        thread = null;
+    }
+
+    /**
+     * Met la simulation en pause (les commandes restent traitees).
+     * @param paused true pour suspendre les ticks
+     */
+    public void setPaused(boolean paused) {
+        this.paused = paused;
+    }
+
+    /**
+     * Envoie une commande executee sur le thread de simulation avant le prochain tick
+     * (thread de rendu uniquement).
+     * @param command action sur le modele
+     * @return false si la file est pleine (commande ignoree)
+     */
+    public boolean post(Runnable command) {
+        if (commands.offer(command)) return true;
+        Gdx.app.error("SIMULATION", "File de commandes pleine, commande ignoree");
+        return false;
+    }
+
+    /**
+     * Retourne la derniere image publiee (thread de rendu uniquement).
+     * @return image valide jusqu'a l'appel suivant
+     * @throws GdxRuntimeException si la simulation s'est arretee sur une erreur
+     */
+    public RenderSnapshot getLatestSnapshot() {
+        if (failure != null) throw new GdxRuntimeException("Erreur du thread de simulation", failure);
+        return snapshots.read();
+    }
+
+    /**
+     * Facteur d'interpolation d'une image : temps ecoule depuis sa publication, en pas de simulation.
+     * @param snapshot image lue
+     * @return alpha dans [0, 1]
+     */
+    public float getAlpha(RenderSnapshot snapshot) {
+        if (paused) return 1f;
+        float alpha = (float) (System.nanoTime() - snapshot.getPublishTime()) / stepNanos;
+        return Math.max(0f, Math.min(1f, alpha));
+    }
+
+    /**
+     * Boucle du thread : commandes, pas de simulation, publication, attente du pas suivant.
+     */
+    @Override
+    public void run() {
+        long previous = System.nanoTime();
+        try {
+            while (running) {
+                boolean commandsRun = false;
+                Runnable command;
+                while ((command = commands.poll()) != null) {
+                    command.run();
+                    commandsRun = true;
+                }
+                long now = System.nanoTime();
+                float delta = (now - previous) / 1_000_000_000f;
+                previous = now;
+                boolean stepped = !paused && controller.advance(delta) > 0;
+                // en pause, les commandes (ex: tour posee) sont visibles sans attendre un tick
+                if (stepped || (paused && commandsRun)) publish();
+
+                long wait = stepNanos - (System.nanoTime() - now);
+                if (wait > 0) LockSupport.parkNanos(wait);
+            }
+        } catch (Throwable e) {
+            failure = e;
+            running = false;
+        }
+    }
+
+    private void publish() {
+        RenderSnapshot snapshot = snapshots.getWriteBuffer();
+        snapshot.begin(++tick);
+        if (state.getPlayer() != null) {
+            state.getPlayer().snapshot(snapshot);
+            snapshot.setPlayer(state.getPlayer().getPreviousPosition(), state.getPlayer().getPosition());
+        }
+        Array<Tower> towers = state.getTowers();
+        for (int i = 0; i < towers.size; i++) towers.get(i).snapshot(snapshot);
+        Array<Enemy> enemies = state.getEnemies();
+        for (int i = 0; i < enemies.size; i++) enemies.get(i).snapshot(snapshot);
+        if (projectileManager != null) projectileManager.snapshot(snapshot);
+        snapshot.setHud(state.getCurrencyManager().getBalance(), state.getPlayerHealth(), state.getPlayerMaxHealth(),
+            waveManager == null || waveManager.isWaveFinished());
+        if (profiler.isEnabled()) {
+            profiler.copySimulationTotals(snapshot.getProfileTotals());
+            controller.countEntities(snapshot.getProfileCounts());
+        }
+        snapshot.setPublishTime(System.nanoTime());
+        snapshots.publish();
+    }
+}
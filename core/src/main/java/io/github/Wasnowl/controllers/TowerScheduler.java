@@ -0,0 +1,241 @@
+package io.github.Wasnowl.controllers;
+
+import com.badlogic.gdx.utils.Array;
+import io.github.Wasnowl.entities.Enemy;
+import io.github.Wasnowl.entities.Tower;
+import java.util.IdentityHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * TowerScheduler : ordonnance les tirs des tours par date de disponibilite.
+ * Les tours sont rangees dans un tas binaire (min-heap) indexe par la date du prochain tir :
+ * seules les tours dont le rechargement est termine sont reveillees pour chercher une cible.
+ * Une tour prete sans cible est reessayee au tick suivant.
+ * Un tick se fait en deux phases : ciblage de toutes les tours pretes (lecture seule des ennemis,
+ * figes pour le tick dans l'index spatial), eventuellement reparti sur plusieurs coeurs, puis tirs
+ * et rechargements sur le thread courant dans l'ordre de sortie du tas. Le resultat est donc
+ * identique en mode serie et en mode parallele.
+ * La liste est comparee a chaque tick a sa copie du tick precedent : les tours ajoutees, retirees ou
+ * remplacees sont detectees sans appel explicite, et les tours conservees gardent leur rechargement.
+ */
+public class TowerScheduler {
+    /** Nombre min de tours pretes pour repartir le ciblage sur plusieurs coeurs. */
+    public static final int PARALLEL_THRESHOLD = 256;
+    /** Nombre de tours ciblees par tache fork-join. */
+    public static final int CHUNK_SIZE = 64;
+
+    private final Array<Tower> towers;
+    private Tower[] heap = new Tower[16];
+    private double[] readyAt = new double[16];
+    private int heapSize;
+    private Tower[] ready = new Tower[16];
+    private Enemy[] targets = new Enemy[16];
+    // Copie de la liste au dernier sync (detection des retraits et remplacements)
+    private Tower[] known = new Tower[16];
+    private int knownCount;
+    private double now;
+    private boolean parallelTargeting;
+
+    /**
+     * Cree un ordonnanceur pour une liste de tours partagee.
+     * @param towers liste des tours (lue a chaque tick)
+     */
+    public TowerScheduler(Array<Tower> towers) {
+        this.towers = towers;
+    }
+
+    /**
+     * Avance le temps, anime toutes les tours et fait tirer celles qui sont pretes.
+     * @param delta temps ecoule (secondes)
+     */
+    public void update(float delta) {
+        sync();
+        now += delta;
+        for (int i = 0; i < towers.size; i++) {
+            Tower t = towers.get(i);
+            if (t != null) t.updateAnimation(delta);
+        }
+
+        int readyCount = 0;
+        while (heapSize > 0 && readyAt[0] <= now) {
+            if (readyCount == ready.length) {
+                ready = grow(ready, ready.length * 2);
+                targets = new Enemy[ready.length];
+            }
+            ready[readyCount++] = pop();
+        }
+        if (readyCount == 0) return;
+
+        // Phase 1 : ciblage (chaque tour ne modifie que sa propre cible memorisee)
+        if (parallelTargeting && readyCount >= PARALLEL_THRESHOLD) {
+            ForkJoinPool.commonPool().invoke(new TargetingTask(ready, targets, 0, readyCount));
+        } else {
+            for (int i = 0; i < readyCount; i++) targets[i] = ready[i].selectTarget();
+        }
+
+        // Phase 2 : tirs et rechargements, ordre deterministe
+        for (int i = 0; i < readyCount; i++) {
+            if (targets[i] == null) continue;
+            Tower t = ready[i];
+            t.fire(targets[i]);
+            push(t, now + t.getFireInterval());
+        }
+        // Tours pretes sans cible : de nouveau candidates au tick suivant
+        for (int i = 0; i < readyCount; i++) {
+            if (targets[i] == null) push(ready[i], now);
+            ready[i] = null;
+            targets[i] = null;
+        }
+    }
+
+    /**
+     * Active le ciblage parallele (pool fork-join commun) au-dela de {@link #PARALLEL_THRESHOLD} tours pretes.
+     * @param parallelTargeting true pour repartir le ciblage sur plusieurs coeurs
+     */
+    public void setParallelTargeting(boolean parallelTargeting) {
+        this.parallelTargeting = parallelTargeting;
+    }
+
+    /**
+     * Indique si le ciblage parallele est actif.
+     * @return true si actif
+     */
+    public boolean isParallelTargeting() {
+        return parallelTargeting;
+    }
+
+    /**
+     * Reconstruit le tas depuis la liste des tours (toutes pretes a tirer).
+     */
+    public void reset() {
+        clearHeap();
+        knownCount = 0;
+        sync();
+    }
+
+    /**
+     * Retourne le nombre de tours ordonnancees.
+     * @return tours dans le tas
+     */
+    public int getScheduledCount() {
+        return heapSize;
+    }
+
+    private void sync() {
+        boolean changed = towers.size < knownCount;
+        for (int i = 0; i < knownCount && !changed; i++) changed = towers.get(i) != known[i];
+        if (changed) {
+            rebuild();
+            return;
+        }
+        if (known.length < towers.size) known = grow(known, towers.size);
+        for (int i = knownCount; i < towers.size; i++) {
+            Tower t = towers.get(i);
+            known[i] = t;
+            if (t != null) push(t, now);
+        }
+        knownCount = towers.size;
+    }
+
+    // Reconstruit le tas apres un retrait ou un remplacement ; les tours restantes gardent leur date de tir
+    private void rebuild() {
+        IdentityHashMap<Tower, Double> dates = new IdentityHashMap<>();
+        for (int i = 0; i < heapSize; i++) dates.put(heap[i], readyAt[i]);
+        clearHeap();
+        if (known.length < towers.size) known = grow(known, towers.size);
+        for (int i = 0; i < knownCount; i++) known[i] = null;
+        for (int i = 0; i < towers.size; i++) {
+            Tower t = towers.get(i);
+            known[i] = t;
+            if (t == null) continue;
+            Double date = dates.get(t);
+            push(t, date != null ? date : now);
+        }
+        knownCount = towers.size;
+    }
+
+    private void clearHeap() {
+        for (int i = 0; i < heapSize; i++) heap[i] = null;
+        heapSize = 0;
+    }
+
+    private void push(Tower t, double time) {
+        if (heapSize == heap.length) {
+            heap = grow(heap, heap.length * 2);
+            double[] grown = new double[readyAt.length * 2];
+            System.arraycopy(readyAt, 0, grown, 0, heapSize);
+            readyAt = grown;
+        }
+        // Remontee
+        int i = heapSize++;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (readyAt[parent] <= time) break;
+            heap[i] = heap[parent];
+            readyAt[i] = readyAt[parent];
+            i = parent;
+        }
+        heap[i] = t;
+        readyAt[i] = time;
+    }
+
+    private Tower pop() {
+        Tower top = heap[0];
+        int last = --heapSize;
+        Tower moved = heap[last];
+        double time = readyAt[last];
+        heap[last] = null;
+        if (last > 0) {
+            // Descente
+            int i = 0;
+            int half = last >>> 1;
+            while (i < half) {
+                int child = 2 * i + 1;
+                if (child + 1 < last && readyAt[child + 1] < readyAt[child]) child++;
+                if (time <= readyAt[child]) break;
+                heap[i] = heap[child];
+                readyAt[i] = readyAt[child];
+                i = child;
+            }
+            heap[i] = moved;
+            readyAt[i] = time;
+        }
+        return top;
+    }
+
+    private static Tower[] grow(Tower[] array, int minLength) {
+        Tower[] grown = new Tower[Math.max(minLength, array.length * 2)];
+        System.arraycopy(array, 0, grown, 0, array.length);
+        return grown;
+    }
+
+    /**
+     * Ciblage d'une plage de tours pretes, decoupee en blocs de {@link #CHUNK_SIZE}.
+     */
+    private static final class TargetingTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Tower[] ready;
+        private final Enemy[] targets;
+        private final int from;
+        private final int to;
+
+        TargetingTask(Tower[] ready, Enemy[] targets, int from, int to) {
+            this.ready = ready;
+            this.targets = targets;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= CHUNK_SIZE) {
+                for (int i = from; i < to; i++) targets[i] = ready[i].selectTarget();
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new TargetingTask(ready, targets, from, mid), new TargetingTask(ready, targets, mid, to));
+        }
+    }
+}
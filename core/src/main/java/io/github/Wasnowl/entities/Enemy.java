@@ -4,60 +4,107 @@ import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
 import io.github.Wasnowl.GameObject;
+import io.github.Wasnowl.model.EnemyStore;
+import io.github.Wasnowl.model.RenderSnapshot;
 
 /**
- * Enemy : orchestration des 3 composants (Movement, Health, Animator)
- * Responsabilité : coordonner les sous-systèmes
+ * Enemy : vue objet d'un ennemi stocke dans l'EnemyStore.
+ * Les donnees de simulation (position, vie, etat) vivent dans les colonnes du store ;
+ * la vue garde le handle stable et l'animateur pour le rendu.
  */
 public class Enemy extends GameObject {
-    private EnemyMovement movement;
-    private EnemyHealth health;
-    private EnemyAnimator animator;
-    private int enemyType = -1;
-    private boolean reachedEndOfPath = false;
+    private final EnemyStore store;
+    private final EnemyHealth health;
+    private final EnemyAnimator animator;
+    private final Vector2 renderPosition = new Vector2();
+    private int handle = EnemyStore.NO_HANDLE;
 
     /**
-     * Cree un ennemi et initialise ses composants (mouvement, vie, animation).
-     * @param x position X
-     * @param y position Y
-     * @param path chemin a suivre
-     * @param speed vitesse de deplacement
-     */
-    public Enemy(float x, float y, Vector2[] path, float speed) {
-        super(x, y);
-        animator = new EnemyAnimator();
-        movement = new EnemyMovement(new Vector2(x, y), path, speed);
-        health = new EnemyHealth(100f, animator);
+     * Cree une vue d'ennemi ; le handle est attribue par {@link EnemyStore#add}.
+     * @param store store des ennemis
+     * @param health systeme de vie partage
+     */
+    public Enemy(EnemyStore store, EnemyHealth health) {
+        super(0f, 0f);
+        this.store = store;
+        this.health = health;
+        this.animator = new EnemyAnimator();
         this.size = new Vector2(32f, 32f);
     }
 
     /**
-     * Doit etre appele apres la creation pour permettre le lazy loading de walk2.
-     * @param id identifiant d'ennemi
+     * Associe la vue a un handle du store (appele par EnemyStore.add).
+     * @param handle handle stable
+     */
+    public void setHandle(int handle) {
+        this.handle = handle;
+    }
+
+    /**
+     * Retourne le handle stable de l'ennemi.
+     * @return handle
      */
-    public void setEnemyId(int id) {
-        health.setEnemyId(id);
-        this.enemyType = id;
+    public int getHandle() {
+        return handle;
     }
 
     /**
-     * Met a jour le mouvement, l'animation et les PV.
+     * Retourne le slot courant dans le store.
+     * @return slot ou -1 si l'ennemi a ete retire
+     */
+    public int getSlot() {
+        return store.slotOf(handle);
+    }
+
+    /**
+     * La simulation est portee par les systemes du store (EnemyMovement, EnemyHealth).
      * @param delta temps ecoule (secondes)
      */
     @Override
     public void update(float delta) {
-        movement.update(delta);
-        animator.update(delta);
-        health.update();
+        // rien : voir WaveManager.update
+    }
 
-        // Synchroniser la position avec le rendu
-        position = movement.getPosition();
+    /**
+     * Distance au carre entre l'ennemi et un point, lue directement dans le store.
+     * Contrairement a {@link #getPosition()}, ne modifie pas la vue : sur depuis plusieurs threads
+     * tant que le store n'est pas modifie (phase de ciblage parallele des tours).
+     * @param x position X
+     * @param y position Y
+     * @return distance au carre (derniere position connue si l'ennemi a ete retire)
+     */
+    public float dst2(float x, float y) {
+        int slot = store.slotOf(handle);
+        float dx = (slot >= 0 ? store.getX()[slot] : position.x) - x;
+        float dy = (slot >= 0 ? store.getY()[slot] : position.y) - y;
+        return dx * dx + dy * dy;
+    }
 
-        // Si l'ennemi atteint la fin du chemin, le marquer comme mort
-        if (movement.hasReachedEnd() && !health.isDead()) {
-            reachedEndOfPath = true;
-            takeDamage(health.getMaxHealth());
+    /**
+     * Retourne la position courante (copie de la colonne du store).
+     * Apres retrait, la derniere position connue est conservee.
+     * @return position courante
+     */
+    @Override
+    public Vector2 getPosition() {
+        int slot = store.slotOf(handle);
+        if (slot >= 0) {
+            position.set(store.getX()[slot], store.getY()[slot]);
         }
+        return position;
+    }
+
+    /**
+     * Predit la position de l'ennemi apres un temps donne (voir {@link EnemyMovement#predictPosition}).
+     * @param time temps ecoule (secondes)
+     * @param out position predite (sortie)
+     * @return false si l'ennemi n'est plus dans le store
+     */
+    public boolean predictPosition(float time, Vector2 out) {
+        int slot = store.slotOf(handle);
+        if (slot < 0) return false;
+        EnemyMovement.predictPosition(store, slot, time, out);
+        return true;
     }
 
     /**
@@ -66,28 +113,72 @@ public class Enemy extends GameObject {
      */
     @Override
     public void render(SpriteBatch batch) {
-        animator.render(batch, position, size);
+        render(batch, 1f);
+    }
+
+    /**
+     * Rend l'ennemi entre sa position du tick precedent et sa position courante.
+     * @param batch sprite batch actif
+     * @param alpha facteur d'interpolation
+     */
+    @Override
+    public void render(SpriteBatch batch, float alpha) {
+        int slot = store.slotOf(handle);
+        if (slot < 0) return;
+        float px = store.getPrevX()[slot];
+        float py = store.getPrevY()[slot];
+        renderPosition.set(px + (store.getX()[slot] - px) * alpha, py + (store.getY()[slot] - py) * alpha);
+        animator.render(batch, store.getState()[slot], store.getStateTime()[slot], renderPosition, size);
+    }
+
+    /**
+     * Ajoute la frame courante de l'ennemi a une image de rendu.
+     * @param out image du tick
+     */
+    @Override
+    public void snapshot(RenderSnapshot out) {
+        int slot = store.slotOf(handle);
+        if (slot < 0) return;
+        out.addSprite(animator.getFrame(store.getState()[slot], store.getStateTime()[slot]),
+            store.getPrevX()[slot], store.getPrevY()[slot], store.getX()[slot], store.getY()[slot], size.x, size.y);
     }
 
     // API publique pour les dégâts
     /**
-     * Applique des degats et arrete le mouvement si mort.
+     * Applique des degats (le mouvement s'arrete des l'etat DEATH).
      * @param amount degats a appliquer
      */
     public void takeDamage(float amount) {
-        health.takeDamage(amount);
-        // Arrêter le mouvement si mort
-        if (health.isDead()) {
-            movement.stop();
-        }
+        int slot = store.slotOf(handle);
+        if (slot >= 0) health.takeDamage(slot, amount);
+    }
+
+    /**
+     * Enregistre des degats appliques a la fin du tick (voir {@link EnemyHealth#applyQueuedDamage}).
+     * L'etat de l'ennemi reste inchange jusque-la.
+     * @param amount degats a appliquer
+     * @param source type de projectile a l'origine des degats
+     */
+    public void queueDamage(float amount, ProjectileType source) {
+        if (handle != EnemyStore.NO_HANDLE) health.queueDamage(handle, amount, source.ordinal());
     }
 
     /**
-     * Indique si l'ennemi est mort.
+     * Indique si l'ennemi est mort (ou deja retire du store).
      * @return true si mort
      */
     public boolean isDead() {
-        return health.isDead();
+        int slot = store.slotOf(handle);
+        return slot < 0 || store.getState()[slot] == EnemyStore.STATE_DEAD;
+    }
+
+    /**
+     * Indique si l'ennemi peut etre cible (ni mort ni en animation de mort).
+     * @return true si ciblable
+     */
+    public boolean isTargetable() {
+        int slot = store.slotOf(handle);
+        return slot >= 0 && store.getState()[slot] < EnemyStore.STATE_DEATH;
     }
 
     /**
@@ -95,7 +186,17 @@ public class Enemy extends GameObject {
      * @return vie courante
      */
     public float getHealth() {
-        return health.getHealth();
+        int slot = store.slotOf(handle);
+        return slot >= 0 ? store.getHealth()[slot] : 0f;
+    }
+
+    /**
+     * Retourne la distance parcourue le long du chemin.
+     * @return distance (pixels)
+     */
+    public float getDistanceAlongPath() {
+        int slot = store.slotOf(handle);
+        return slot >= 0 ? store.getDistance()[slot] : 0f;
     }
 
     /**
@@ -103,7 +204,8 @@ public class Enemy extends GameObject {
      * @return vie max
      */
     public float getMaxHealth() {
-        return health.getMaxHealth();
+        int slot = store.slotOf(handle);
+        return slot >= 0 ? store.getMaxHealth()[slot] : 0f;
     }
 
     // Delegation pour les animations
@@ -125,6 +227,14 @@ public class Enemy extends GameObject {
         animator.setWalk2Frames(frames, frameDuration);
     }
 
+    /**
+     * Indique si les frames de marche blessee sont deja chargees (vue recyclee).
+     * @return true si walk2 est chargee
+     */
+    public boolean hasWalk2Frames() {
+        return animator.hasWalk2();
+    }
+
     /**
      * Charge les frames de mort.
      * @param frames frames de mort
@@ -139,7 +249,8 @@ public class Enemy extends GameObject {
      * @return id du type
      */
     public int getEnemyType() {
-        return enemyType;
+        int slot = store.slotOf(handle);
+        return slot >= 0 ? store.getType()[slot] : -1;
     }
 
     /**
@@ -147,6 +258,7 @@ public class Enemy extends GameObject {
      * @return true si fin atteinte
      */
     public boolean hasReachedEndOfPath() {
-        return reachedEndOfPath;
+        int slot = store.slotOf(handle);
+        return slot >= 0 && store.hasReachedEnd(slot);
     }
 }
@@ -4,95 +4,52 @@ import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.math.Vector2;
+import io.github.Wasnowl.model.EnemyStore;
 
 /**
- * EnemyAnimator : gère l'état d'animation (WALK, WALK2, DEATH, DEAD) et le rendu
- * Responsabilité unique : animations et rendu visuel
+ * EnemyAnimator : animations et rendu visuel d'un ennemi.
+ * Responsabilité unique : animations et rendu visuel.
+ * L'etat (WALK, WALK2, DEATH, DEAD) et le temps d'etat viennent de l'EnemyStore.
  */
 public class EnemyAnimator {
-    /**
-     * Etats d'animation de l'ennemi.
-     */
-    public enum State {
-        /** Marche normale. */
-        WALK,
-        /** Marche blessee. */
-        WALK2,
-        /** Animation de mort en cours. */
-        DEATH,
-        /** Mort terminee (plus de rendu). */
-        DEAD
-    }
-
-    private State currentState = State.WALK;
     private Animation<TextureRegion> walkAnimation;
     private Animation<TextureRegion> walk2Animation;
     private Animation<TextureRegion> deathAnimation;
-    private float animationStateTime = 0f;
-
-    /**
-     * Avance le temps d'animation.
-     * @param delta temps ecoule (secondes)
-     */
-    public void update(float delta) {
-        animationStateTime += delta;
-    }
 
     /**
-     * Rend l'ennemi selon l'etat courant.
+     * Rend l'ennemi selon l'etat donne.
      * @param batch sprite batch actif
+     * @param state etat courant (EnemyStore.STATE_*)
+     * @param stateTime temps passe dans l'etat courant
      * @param position position du sprite
      * @param size taille du sprite
      */
-    public void render(SpriteBatch batch, Vector2 position, Vector2 size) {
-        TextureRegion frame = null;
-
-        switch (currentState) {
-            case WALK:
-                if (walkAnimation != null) frame = walkAnimation.getKeyFrame(animationStateTime, true);
-                break;
-            case WALK2:
-                if (walk2Animation != null) frame = walk2Animation.getKeyFrame(animationStateTime, true);
-                break;
-            case DEATH:
-                if (deathAnimation != null) frame = deathAnimation.getKeyFrame(animationStateTime, false);
-                break;
-            case DEAD:
-                return; // Ne rien afficher
-        }
-
+    public void render(SpriteBatch batch, int state, float stateTime, Vector2 position, Vector2 size) {
+        TextureRegion frame = getFrame(state, stateTime);
         if (frame != null) {
             batch.draw(frame, position.x, position.y, size.x, size.y);
         }
     }
 
     /**
-     * Vérifie si l'animation de mort est terminée
-     * @return true si terminee
+     * Retourne la frame a afficher pour un etat donne.
+     * @param state etat courant (EnemyStore.STATE_*)
+     * @param stateTime temps passe dans l'etat courant
+     * @return frame ou null (DEAD, animation absente)
      */
-    public boolean isDeathFinished() {
-        return deathAnimation != null && deathAnimation.isAnimationFinished(animationStateTime);
-    }
-
-    /**
-     * Transition vers un nouvel état
-     * @param newState nouvel etat
-     */
-    public void setState(State newState) {
-        if (newState != currentState) {
-            currentState = newState;
-            animationStateTime = 0f;
+    public TextureRegion getFrame(int state, float stateTime) {
+        switch (state) {
+            case EnemyStore.STATE_WALK:
+                return walkAnimation != null ? walkAnimation.getKeyFrame(stateTime, true) : null;
+            case EnemyStore.STATE_WALK2:
+                return walk2Animation != null ? walk2Animation.getKeyFrame(stateTime, true) : null;
+            case EnemyStore.STATE_DEATH:
+                return deathAnimation != null ? deathAnimation.getKeyFrame(stateTime, false) : null;
+            default:
+                return null; // DEAD : ne rien afficher
         }
     }
 
-    /**
-     * Retourne l'etat d'animation courant.
-     * @return etat courant
-     */
-    public State getState() {
-        return currentState;
-    }
-
     // Setters pour les animations
     /**
      * Definit les frames de marche normale.
@@ -116,6 +73,14 @@ public class EnemyAnimator {
         }
     }
 
+    /**
+     * Indique si l'animation de marche blessee est deja chargee.
+     * @return true si walk2 est definie
+     */
+    public boolean hasWalk2() {
+        return walk2Animation != null;
+    }
+
     /**
      * Definit les frames de mort.
      * @param frames frames de mort
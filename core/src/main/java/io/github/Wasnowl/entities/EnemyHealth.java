@@ -1,114 +1,184 @@
 package io.github.Wasnowl.entities;
 
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.IntIntMap;
 import io.github.Wasnowl.managers.EnemyAssetManager;
+import io.github.Wasnowl.model.DamageBuffer;
+import io.github.Wasnowl.model.EnemyStore;
 
 /**
  * EnemyHealth : gère la vie et les transitions d'état basées sur les HP
- * Responsabilité unique : système de santé et logique de transition
+ * Responsabilité unique : système de santé et logique de transition.
+ * Systeme sans etat par ennemi : lit/ecrit les colonnes vie/etat de l'EnemyStore.
  * Lazy loading: walk2 est charge seulement a la premiere transition &lt;50%HP
+ * Les degats des projectiles sont enregistres dans un {@link DamageBuffer} pendant le tick
+ * ({@link #queueDamage}) puis appliques en une passe par {@link #applyQueuedDamage} : l'etat des
+ * ennemis ne change pas pendant la mise a jour des projectiles.
  */
 public class EnemyHealth {
-    private float maxHealth;
-    private float health;
-    private EnemyAnimator animator;
-    private int enemyId = -1; // Pour lazy loading de walk2
-    private boolean walk2Loaded = false;
+    /** Duree de l'etat DEATH avant retrait (6 frames a 0.1s). */
+    public static final float DEATH_DURATION = 0.6f;
 
-    /**
-     * Cree un composant de vie avec un maximum et un animateur associe.
-     * @param maxHealth vie maximale
-     * @param animator animateur lie
-     */
-    public EnemyHealth(float maxHealth, EnemyAnimator animator) {
-        this.maxHealth = maxHealth;
-        this.health = maxHealth;
-        this.animator = animator;
-    }
+    private final EnemyStore store;
+    // type d'ennemi -> 1 si walk2 existe, 0 sinon (absent = pas encore tente)
+    private final IntIntMap walk2Available = new IntIntMap();
+    private final DamageBuffer pending = new DamageBuffer();
+    // degats cumules par slot pendant l'application (remis a zero apres la passe)
+    private float[] damageBySlot = new float[16];
+    private final float[] damageBySource = new float[ProjectileType.values().length];
 
     /**
-     * Definit l'identifiant d'ennemi pour le chargement lazy.
-     * @param id identifiant d'ennemi
+     * Cree le systeme de vie sur un store d'ennemis.
+     * @param store store des ennemis
      */
-    public void setEnemyId(int id) {
-        this.enemyId = id;
+    public EnemyHealth(EnemyStore store) {
+        this.store = store;
     }
 
     /**
      * Applique des dégâts et mets à jour l'état d'animation si nécessaire
+     * @param slot slot de l'ennemi
      * @param amount degats a appliquer
      */
-    public void takeDamage(float amount) {
-        health = Math.max(0f, health - amount);
-        updateAnimationState();
+    public void takeDamage(int slot, float amount) {
+        float[] health = store.getHealth();
+        health[slot] = Math.max(0f, health[slot] - amount);
+        updateAnimationState(slot);
     }
 
     /**
-     * Vérifie le ratio de santé et change l'état de l'animation si besoin
+     * Enregistre des degats appliques a la fin du tick par {@link #applyQueuedDamage}.
+     * @param handle handle stable de l'ennemi
+     * @param amount degats
+     * @param source ordinal du type de projectile
      */
-    private void updateAnimationState() {
-        float healthRatio = health / maxHealth;
+    public void queueDamage(int handle, float amount, int source) {
+        pending.add(handle, amount, source);
+    }
 
-        if (animator.getState() == EnemyAnimator.State.DEAD) {
-            return; // Déjà mort, pas de changement
+    /**
+     * Applique les degats enregistres pendant le tick : cumul par slot, puis une passe sur
+     * les colonnes du store (vie, transitions walk2/mort) dans l'ordre des slots.
+     * @param killed recoit les slots des ennemis tues par cette passe (peut etre null)
+     * @return nombre d'ennemis tues
+     */
+    public int applyQueuedDamage(IntArray killed) {
+        int entries = pending.size();
+        if (entries == 0) return 0;
+        int n = store.size();
+        if (damageBySlot.length < n) damageBySlot = new float[Math.max(n, damageBySlot.length * 2)];
+        for (int i = 0; i < entries; i++) {
+            int slot = store.slotOf(pending.getHandle(i));
+            if (slot < 0) continue; // retire depuis le tir
+            damageBySlot[slot] += pending.getAmount(i);
+            damageBySource[pending.getSource(i)] += pending.getAmount(i);
         }
+        pending.clear();
 
-        if (health <= 0) {
-            // Déclencher l'animation de mort
-            animator.setState(EnemyAnimator.State.DEATH);
-        } else if (animator.getState() == EnemyAnimator.State.WALK && healthRatio < 0.5f) {
-            // Passer à walk2 (ennemi endommagé) - seulement si walk2 existe
-            if (loadWalk2IfNeeded()) {
-                animator.setState(EnemyAnimator.State.WALK2);
+        int[] state = store.getState();
+        int kills = 0;
+        for (int slot = 0; slot < n; slot++) {
+            float amount = damageBySlot[slot];
+            if (amount == 0f) continue;
+            damageBySlot[slot] = 0f;
+            boolean alive = state[slot] < EnemyStore.STATE_DEATH;
+            takeDamage(slot, amount);
+            if (alive && state[slot] == EnemyStore.STATE_DEATH) {
+                if (killed != null) killed.add(slot);
+                kills++;
             }
-            // Sinon rester en WALK (pas de spritesheet walk2)
         }
+        return kills;
     }
 
     /**
-     * Charge walk2 de manière lazy (seulement quand nécessaire)
-     * @return true si walk2 a été chargé avec succès
+     * Retourne le nombre de degats en attente d'application.
+     * @return entrees du tampon
      */
-    private boolean loadWalk2IfNeeded() {
-        if (!walk2Loaded && enemyId != -1) {
-            // walk2 est optionnel - ne pas afficher d'erreur s'il n'existe pas
-            TextureRegion[] walk2 = EnemyAssetManager.getInstance().loadAnimationFromSpritesheet(enemyId, "walk2", 6, 1, true);
-            walk2Loaded = true; // marquer comme chargé (ou tenté)
-            return walk2 != null; // retourner si le chargement a réussi
-        }
-        return false; // walk2 n'existe pas ou déjà chargé
+    public int getQueuedDamageCount() {
+        return pending.size();
     }
 
     /**
-     * Appele chaque frame pour verifier si la mort est complete.
+     * Retourne le total des degats appliques par un type de projectile depuis la creation.
+     * @param type type de projectile
+     * @return degats cumules
      */
-    public void update() {
-        if (animator.getState() == EnemyAnimator.State.DEATH && animator.isDeathFinished()) {
-            animator.setState(EnemyAnimator.State.DEAD);
+    public float getDamageDealt(ProjectileType type) {
+        return damageBySource[type.ordinal()];
+    }
+
+    /**
+     * Vérifie le ratio de santé et change l'état de l'animation si besoin
+     */
+    private void updateAnimationState(int slot) {
+        int state = store.getState()[slot];
+        if (state == EnemyStore.STATE_DEAD) {
+            return; // Déjà mort, pas de changement
+        }
+
+        float health = store.getHealth()[slot];
+        float healthRatio = health / store.getMaxHealth()[slot];
+
+        if (health <= 0) {
+            // Déclencher l'animation de mort
+            setState(slot, EnemyStore.STATE_DEATH);
+        } else if (state == EnemyStore.STATE_WALK && healthRatio < 0.5f) {
+            // Passer à walk2 (ennemi endommagé) - seulement si walk2 existe
+            if (loadWalk2IfNeeded(slot)) {
+                setState(slot, EnemyStore.STATE_WALK2);
+            }
+            // Sinon rester en WALK (pas de spritesheet walk2)
         }
     }
 
     /**
-     * Retourne la vie courante.
-     * @return vie courante
+     * Charge walk2 de manière lazy (seulement quand nécessaire)
+     * @return true si walk2 est disponible pour ce type d'ennemi
      */
-    public float getHealth() {
-        return health;
+    private boolean loadWalk2IfNeeded(int slot) {
+        int enemyId = store.getType()[slot];
+        if (enemyId == -1) return false;
+        int known = walk2Available.get(enemyId, -1);
+        if (known == 0) return false; // déjà tenté, pas de spritesheet walk2
+
+        // walk2 est optionnel - ne pas afficher d'erreur s'il n'existe pas
+        TextureRegion[] walk2 = EnemyAssetManager.getInstance().loadAnimationFromSpritesheet(enemyId, "walk2", 6, 1, true);
+        walk2Available.put(enemyId, walk2 != null ? 1 : 0);
+        if (walk2 == null) return false;
+        Enemy view = store.getEnemies().get(slot);
+        // Vue recyclee par l'EnemyPool : l'animation du meme type est deja construite
+        if (!view.hasWalk2Frames()) view.setWalk2Frames(walk2, 0.1f);
+        return true;
     }
 
     /**
-     * Retourne la vie maximale.
-     * @return vie max
+     * Appele chaque tick : avance le temps d'etat et termine les morts.
+     * @param delta temps ecoule (secondes)
      */
-    public float getMaxHealth() {
-        return maxHealth;
+    public void update(float delta) {
+        int n = store.size();
+        int[] state = store.getState();
+        float[] stateTime = store.getStateTime();
+        for (int i = 0; i < n; i++) {
+            stateTime[i] += delta;
+            if (state[i] == EnemyStore.STATE_DEATH && stateTime[i] >= DEATH_DURATION) {
+                setState(i, EnemyStore.STATE_DEAD);
+            }
+        }
     }
 
     /**
-     * Indique si l'ennemi est marque comme mort.
-     * @return true si mort
+     * Transition vers un nouvel etat (remet le temps d'etat a zero).
+     * @param slot slot de l'ennemi
+     * @param newState nouvel etat (EnemyStore.STATE_*)
      */
-    public boolean isDead() {
-        return animator.getState() == EnemyAnimator.State.DEAD;
+    public void setState(int slot, int newState) {
+        int[] state = store.getState();
+        if (state[slot] != newState) {
+            state[slot] = newState;
+            store.getStateTime()[slot] = 0f;
+        }
     }
 }
@@ -1,89 +1,67 @@
 package io.github.Wasnowl.entities;
 
 import com.badlogic.gdx.math.Vector2;
+import io.github.Wasnowl.model.EnemyStore;
 
 /**
  * EnemyMovement : gère le déplacement et le suivi du chemin
- * Responsabilité unique : mouvement et pathfinding
+ * Responsabilité unique : mouvement et pathfinding.
+ * Systeme sans etat par ennemi : itere directement les colonnes de l'EnemyStore.
+ * La position d'un ennemi ne depend que de la distance parcourue sur son chemin
+ * (voir {@link io.github.Wasnowl.model.ArcLengthPath}) : un tick ne coute qu'une addition par ennemi.
  */
 public class EnemyMovement {
-    private Vector2 position;
-    private Vector2[] path;
-    private int currentPoint = 0;
-    private float speed;
-    private boolean isMoving = true;
+    private final EnemyStore store;
 
     /**
-     * Cree le composant de mouvement pour un chemin donne.
-     * @param startPos position de depart
-     * @param path chemin a suivre
-     * @param speed vitesse de deplacement
+     * Cree le systeme de mouvement sur un store d'ennemis.
+     * @param store store des ennemis
      */
-    public EnemyMovement(Vector2 startPos, Vector2[] path, float speed) {
-        this.position = startPos.cpy();
-        this.path = path;
-        this.speed = speed;
+    public EnemyMovement(EnemyStore store) {
+        this.store = store;
     }
 
     /**
-     * Met a jour la position vers le point courant du chemin.
+     * Avance tous les ennemis vivants le long de leur chemin : la distance parcourue augmente
+     * de vitesse * delta, les positions sont evaluees a la demande par le store.
      * @param delta temps ecoule (secondes)
      */
     public void update(float delta) {
-        if (!isMoving || currentPoint >= path.length) return;
+        int n = store.size();
+        float[] distance = store.getDistance();
+        float[] speed = store.getSpeed();
+        int[] state = store.getState();
 
-        Vector2 target = path[currentPoint];
-        Vector2 direction = target.cpy().sub(position);
-        float distance = direction.len();
-
-        // Si on est très proche du point cible, passer au suivant directement
-        if (distance < 1.0f) {
-            position.set(target);
-            currentPoint++;
-            return;
+        for (int i = 0; i < n; i++) {
+            // Arrêté dès que la mort commence
+            if (state[i] < EnemyStore.STATE_DEATH) distance[i] += speed[i] * delta;
         }
-
-        // Normaliser et avancer
-        direction.nor();
-        position.add(direction.scl(speed * delta));
+        store.invalidatePositions();
     }
 
     /**
-     * Arrête le mouvement (utilisé lors de la mort)
+     * Predit la position d'un ennemi apres un temps donne, en suivant son chemin a vitesse constante.
+     * Un ennemi mourant (ou arrive au bout) reste sur place.
+     * @param store store des ennemis
+     * @param slot slot de l'ennemi
+     * @param time temps ecoule (secondes)
+     * @param out position predite (sortie)
      */
-    public void stop() {
-        isMoving = false;
-    }
-
-    /**
-     * Retourne la position courante.
-     * @return position courante
-     */
-    public Vector2 getPosition() {
-        return position;
-    }
-
-    /**
-     * Definit la position courante.
-     * @param pos nouvelle position
-     */
-    public void setPosition(Vector2 pos) {
-        this.position = pos.cpy();
+    public static void predictPosition(EnemyStore store, int slot, float time, Vector2 out) {
+        if (store.getState()[slot] >= EnemyStore.STATE_DEATH) {
+            out.set(store.getX()[slot], store.getY()[slot]);
+            return;
+        }
+        float distance = store.getDistance()[slot] + store.getSpeed()[slot] * time;
+        store.getArcLengthPath(store.getPathId()[slot]).positionAt(distance, store.getPathIndex()[slot], out);
     }
 
     /**
-     * Indique si le chemin est termine.
+     * Indique si le chemin est termine pour un slot.
+     * @param slot slot de l'ennemi
      * @return true si termine
      */
-    public boolean hasReachedEnd() {
-        return currentPoint >= path.length;
-    }
-
-    /**
-     * Indique si le mouvement est actif.
-     * @return true si actif
-     */
-    public boolean isMoving() {
-        return isMoving;
+    public boolean hasReachedEnd(int slot) {
+        return store.getDistance()[slot] >= store.getArcLengthPath(store.getPathId()[slot]).getLength();
     }
 }
@@ -1,10 +1,9 @@
 package io.github.Wasnowl.entities;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.utils.Array;
+import io.github.Wasnowl.managers.SpriteAtlasManager;
 
 /**
  * Construit les animations du joueur (idle/walk) selon la direction.
@@ -19,8 +18,10 @@ public class PlayerAnimator {
     private static final String WALK_PATH = "player/Char.png";
     private static final String IDLE_PATH = "player/Char_Idle.png";
 
-    private final Texture walkTexture;
-    private final Texture idleTexture;
+    private final String walkPath;
+    private final String idlePath;
+    private final TextureRegion walkSheet;
+    private final TextureRegion idleSheet;
     private final Animation<TextureRegion> idleDown;
     private final Animation<TextureRegion> idleLeft;
     private final Animation<TextureRegion> idleUp;
@@ -42,22 +43,24 @@ public class PlayerAnimator {
     }
 
     /**
-     * Cree un animateur a partir des chemins de spritesheets.
+     * Cree un animateur a partir des chemins de spritesheets (lus dans l'atlas des entites si present).
      * @param walkPath chemin du spritesheet de marche
      * @param idlePath chemin du spritesheet idle
      */
     public PlayerAnimator(String walkPath, String idlePath) {
-        walkTexture = new Texture(Gdx.files.internal(walkPath));
-        idleTexture = new Texture(Gdx.files.internal(idlePath));
-
-        TextureRegion[] walkDownRow = buildRowFrames(walkTexture, 3);
-        TextureRegion[] walkLeftRow = buildRowFrames(walkTexture, 2);
-        TextureRegion[] walkRightRow = buildRowFrames(walkTexture, 1);
-        TextureRegion[] walkUpRow = buildRowFrames(walkTexture, 0);
-        TextureRegion[] idleDownRow = buildRowFrames(idleTexture, 3);
-        TextureRegion[] idleLeftRow = buildRowFrames(idleTexture, 2);
-        TextureRegion[] idleRightRow = buildRowFrames(idleTexture, 1);
-        TextureRegion[] idleUpRow = buildRowFrames(idleTexture, 0);
+        this.walkPath = walkPath;
+        this.idlePath = idlePath;
+        walkSheet = SpriteAtlasManager.getInstance().getSheet(walkPath);
+        idleSheet = SpriteAtlasManager.getInstance().getSheet(idlePath);
+
+        TextureRegion[] walkDownRow = buildRowFrames(walkSheet, 3);
+        TextureRegion[] walkLeftRow = buildRowFrames(walkSheet, 2);
+        TextureRegion[] walkRightRow = buildRowFrames(walkSheet, 1);
+        TextureRegion[] walkUpRow = buildRowFrames(walkSheet, 0);
+        TextureRegion[] idleDownRow = buildRowFrames(idleSheet, 3);
+        TextureRegion[] idleLeftRow = buildRowFrames(idleSheet, 2);
+        TextureRegion[] idleRightRow = buildRowFrames(idleSheet, 1);
+        TextureRegion[] idleUpRow = buildRowFrames(idleSheet, 0);
 
         idleDown = buildAnimation(IDLE_FRAME_DURATION, idleDownRow);
         idleLeft = buildAnimation(IDLE_FRAME_DURATION, idleLeftRow);
@@ -96,25 +99,26 @@ public class PlayerAnimator {
     }
 
     /**
-     * Libere les textures chargees.
+     * Rend les spritesheets au registre de textures (liberes s'ils ne sont plus utilises).
      */
     public void dispose() {
-        walkTexture.dispose();
-        idleTexture.dispose();
+        SpriteAtlasManager.getInstance().releaseSheet(walkPath);
+        SpriteAtlasManager.getInstance().releaseSheet(idlePath);
     }
 
-    private TextureRegion[] buildRowFrames(Texture texture, int rowFromTop) {
+    private TextureRegion[] buildRowFrames(TextureRegion sheet, int rowFromTop) {
         TextureRegion[] row = new TextureRegion[FRAME_COLS];
         for (int col = 0; col < FRAME_COLS; col++) {
-            row[col] = buildFrame(texture, col, rowFromTop);
+            row[col] = buildFrame(sheet, col, rowFromTop);
         }
         return row;
     }
 
-    private TextureRegion buildFrame(Texture texture, int col, int rowFromTop) {
+    private TextureRegion buildFrame(TextureRegion sheet, int col, int rowFromTop) {
+        // coordonnees relatives a la region du spritesheet
         int x = col * FRAME_WIDTH;
-        int y = texture.getHeight() - ((rowFromTop + 1) * FRAME_HEIGHT);
-        return new TextureRegion(texture, x, y, FRAME_WIDTH, FRAME_HEIGHT);
+        int y = sheet.getRegionHeight() - ((rowFromTop + 1) * FRAME_HEIGHT);
+        return new TextureRegion(sheet, x, y, FRAME_WIDTH, FRAME_HEIGHT);
     }
 
     private Animation<TextureRegion> getAnimation(AnimState state, Direction direction) {
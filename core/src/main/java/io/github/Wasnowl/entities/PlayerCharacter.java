@@ -65,4 +65,11 @@ public class PlayerCharacter extends GameObject {
         if (dir == null) inputDirection.set(0f, 0f);
         else inputDirection.set(dir);
     }
+
+    /**
+     * Rend les spritesheets du joueur (fin de l'ecran).
+     */
+    public void dispose() {
+        animator.dispose();
+    }
 }
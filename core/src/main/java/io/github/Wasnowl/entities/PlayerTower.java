@@ -1,5 +1,6 @@
 package io.github.Wasnowl.entities;
 
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.math.Rectangle;
@@ -7,8 +8,10 @@ import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.utils.Array;
 import io.github.Wasnowl.GameMain;
-import io.github.Wasnowl.screens.GameScreen;
+import io.github.Wasnowl.screens.LoadingScreen;
 import io.github.Wasnowl.entities.Portal;
+import io.github.Wasnowl.model.CollisionMap;
+import io.github.Wasnowl.model.RenderSnapshot;
 
 /**
  * Joueur controle sur la map principale.
@@ -22,12 +25,15 @@ public class PlayerTower extends Tower {
     private final Vector2 velocity = new Vector2();
     private final Vector2 inputDirection = new Vector2();
     private final Vector2 candidate = new Vector2();
+    private final Vector2 free = new Vector2();
     private final Rectangle hitbox = new Rectangle();
+    private final Vector2 renderPosition = new Vector2();
     private final PlayerAnimator animator;
     private TextureRegion currentFrame;
     private float worldWidth = -1f;
     private float worldHeight = -1f;
-    private Array<Rectangle> collisionRects;
+    private CollisionMap collisionMap;
+    private boolean mapChangePending;
 
     private final GameMain game;
 
@@ -72,14 +78,19 @@ public class PlayerTower extends Tower {
 
     private void triggerMapChange(Portal portal) {
         System.out.println("Changement de portail déclenché ! type=" + portal.getType());
-        if (game == null || portal == null) return;
+        if (game == null || portal == null || mapChangePending) return;
+        mapChangePending = true;
 
-        if (portal.getType() == Portal.Type.MAP) {
-            game.setScreen(new GameScreen(game, portal.getTarget()));
-        } else if (portal.getType() == Portal.Type.COMBAT) {
-            // passer au CombatScreen (vue de côté)
-            game.setScreen(new io.github.Wasnowl.screens.CombatScreen(game, portal.getTarget()));
-        }
+        // le changement d'ecran se fait sur le thread de rendu (le joueur peut etre mis a jour
+        // par le thread de simulation)
+        Gdx.app.postRunnable(() -> {
+            if (portal.getType() == Portal.Type.MAP) {
+                game.setScreen(new LoadingScreen(game, portal.getTarget()));
+            } else if (portal.getType() == Portal.Type.COMBAT) {
+                // passer au CombatScreen (vue de côté)
+                game.setScreen(new io.github.Wasnowl.screens.CombatScreen(game, portal.getTarget()));
+            }
+        });
     }
 
     /**
@@ -126,11 +137,11 @@ public class PlayerTower extends Tower {
     }
 
     /**
-     * Fournit les rectangles de collision issus de Tiled.
-     * @param rects rectangles de collision
+     * Fournit la grille de collision construite depuis la map Tiled.
+     * @param collisionMap grille de collision (null : aucune collision)
      */
-    public void setCollisionRects(Array<Rectangle> rects) {
-        this.collisionRects = rects;
+    public void setCollisionMap(CollisionMap collisionMap) {
+        this.collisionMap = collisionMap;
     }
 
     /**
@@ -138,7 +149,7 @@ public class PlayerTower extends Tower {
      * @param x position X souhaitee
      * @param y position Y souhaitee
      * @param searchRadius rayon de recherche
-     * @param step pas de recherche
+     * @param step pas de recherche minimal (la grille de collision avance d'une tuile)
      */
     public void setPositionSafe(float x, float y, float searchRadius, float step) {
         candidate.set(x, y);
@@ -148,16 +159,14 @@ public class PlayerTower extends Tower {
             return;
         }
 
+        // Recherche par la grille : la boite de collision est deplacee de tuile en tuile
         float maxRadius = Math.max(step, searchRadius);
-        for (float r = step; r <= maxRadius; r += step) {
-            for (float dx = -r; dx <= r; dx += step) {
-                if (trySetPosition(x + dx, y + r)) return;
-                if (trySetPosition(x + dx, y - r)) return;
-            }
-            for (float dy = -r + step; dy <= r - step; dy += step) {
-                if (trySetPosition(x + r, y + dy)) return;
-                if (trySetPosition(x - r, y + dy)) return;
-            }
+        updateHitbox(candidate.x, candidate.y);
+        float offsetX = hitbox.x - candidate.x;
+        float offsetY = hitbox.y - candidate.y;
+        if (collisionMap.findNearestFree(hitbox.x, hitbox.y, hitbox.width, hitbox.height, maxRadius, free)
+                && trySetPosition(free.x - offsetX, free.y - offsetY)) {
+            return;
         }
 
         position.set(candidate);
@@ -176,6 +185,35 @@ public class PlayerTower extends Tower {
         }
     }
 
+    /**
+     * Rend le sprite du joueur a sa position interpolee.
+     * @param batch sprite batch actif
+     * @param alpha facteur d'interpolation
+     */
+    @Override
+    public void render(SpriteBatch batch, float alpha) {
+        if (currentFrame != null) {
+            getInterpolatedPosition(alpha, renderPosition);
+            batch.draw(currentFrame, renderPosition.x, renderPosition.y);
+        } else {
+            super.render(batch);
+        }
+    }
+
+    /**
+     * Ajoute la frame courante du joueur a une image de rendu.
+     * @param out image du tick
+     */
+    @Override
+    public void snapshot(RenderSnapshot out) {
+        if (currentFrame != null) {
+            out.addSprite(currentFrame, previousPosition.x, previousPosition.y, position.x, position.y,
+                currentFrame.getRegionWidth(), currentFrame.getRegionHeight());
+        } else {
+            super.snapshot(out);
+        }
+    }
+
     private void clampToWorld(Vector2 pos) {
         if (worldWidth <= 0f || worldHeight <= 0f) {
             return;
@@ -199,16 +237,11 @@ public class PlayerTower extends Tower {
     }
 
     private boolean collidesAt(float x, float y) {
-        if (collisionRects == null || collisionRects.size == 0) {
+        if (collisionMap == null) {
             return false;
         }
         updateHitbox(x, y);
-        for (Rectangle rect : collisionRects) {
-            if (hitbox.overlaps(rect)) {
-                return true;
-            }
-        }
-        return false;
+        return collisionMap.overlaps(hitbox.x, hitbox.y, hitbox.width, hitbox.height);
     }
 
     private void updateHitbox(float x, float y) {
@@ -232,4 +265,11 @@ public class PlayerTower extends Tower {
             inputDirection.set(dir);
         }
     }
+
+    /**
+     * Rend les spritesheets du joueur (fin de l'ecran).
+     */
+    public void dispose() {
+        animator.dispose();
+    }
 }
@@ -1,30 +1,58 @@
 package io.github.Wasnowl.entities;
 
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
 import io.github.Wasnowl.GameObject;
+import io.github.Wasnowl.model.EnemyStore;
+import io.github.Wasnowl.model.RenderSnapshot;
+import io.github.Wasnowl.model.SpatialIndex;
 
 /**
  * Projectile utilisant le pattern Flyweight.
  * - ProjectileType (intrinsic state) : données immuables partagées (damage, speed, etc.)
  * - État extrinsèque : position, target, velocity (uniques pour chaque instance)
+ * En mode analytique, le point d'interception est calcule une seule fois au tir et l'impact
+ * est planifie par le ProjectileManager ; le rendu interpole le long de la trajectoire.
  */
 public class Projectile extends GameObject {
+    /** Distance en dessous de laquelle la cible est touchee. */
+    protected static final float HIT_RADIUS = 5f;
+    private static final int INTERCEPT_ITERATIONS = 6;
+
     /** Type de projectile (flyweight). */
     protected ProjectileType type;
     /** Vitesse courante. */
     protected Vector2 velocity;
     /** Cible actuelle. */
     protected Enemy target;
+    /** Handle de la cible au moment du ciblage (les vues Enemy sont recyclees). */
+    protected int targetHandle = EnemyStore.NO_HANDLE;
     /** Liste d'ennemis (AOE). */
     protected Array<Enemy> allEnemies;
+    /** Index spatial des ennemis (optionnel). */
+    protected SpatialIndex spatialIndex;
+    /** Tampon reutilise pour les requetes de rayon. */
+    protected Array<Enemy> queryBuffer;
     /** Indique si le projectile est termine. */
     protected boolean dead = false;
     /** Texture du projectile pour rendu. */
     protected com.badlogic.gdx.graphics.g2d.TextureRegion texture;
     /** Temps d'animation cumule. */
     protected float stateTime = 0f;
+    /** Position de rendu interpolee (reutilisee). */
+    protected final Vector2 renderPosition = new Vector2();
+    /** Indique si l'impact est resolu analytiquement (sans guidage par frame). */
+    protected boolean analytic = false;
+    /** Point de depart de la trajectoire analytique courante. */
+    protected final Vector2 launchPoint = new Vector2();
+    /** Point d'interception prevu. */
+    protected final Vector2 aimPoint = new Vector2();
+    /** Date de depart de la trajectoire (temps de simulation, secondes). */
+    protected double launchTime;
+    /** Date d'impact prevue (temps de simulation, secondes). */
+    protected double impactTime;
 
     /**
      * Cree un projectile vers une cible.
@@ -46,11 +74,15 @@ public class Projectile extends GameObject {
     public Projectile(Vector2 start, Enemy target, ProjectileType type, Array<Enemy> allEnemies) {
         super(start.x, start.y);
         this.type = type;
-        this.target = target;
+        setTarget(target);
         this.allEnemies = allEnemies;
         setSizeFromType(type);
-        // Calcul de la vélocité basée sur le speed du type
-        this.velocity = target.getPosition().cpy().sub(start).nor().scl(type.getSpeed());
+        // Calcul de la vélocité basée sur le speed du type (cible nulle : instance pre-allouee)
+        if (target != null) {
+            this.velocity = target.getPosition().cpy().sub(start).nor().scl(type.getSpeed());
+        } else {
+            this.velocity = new Vector2(0,0);
+        }
     }
 
     /**
@@ -62,18 +94,38 @@ public class Projectile extends GameObject {
      */
     public void reset(Vector2 start, Enemy target, ProjectileType type, Array<Enemy> allEnemies) {
         this.position.set(start.x, start.y);
+        this.previousPosition.set(start.x, start.y);
         this.type = type;
-        this.target = target;
+        setTarget(target);
         this.allEnemies = allEnemies;
         this.dead = false;
+        this.analytic = false;
         setSizeFromType(type);
         if (target != null) {
-            this.velocity = target.getPosition().cpy().sub(start).nor().scl(type.getSpeed());
+            velocity.set(target.getPosition()).sub(start).nor().scl(type.getSpeed());
         } else {
-            this.velocity = new Vector2(0,0);
+            velocity.set(0f, 0f);
         }
     }
 
+    /**
+     * Change de cible en memorisant son handle courant.
+     * @param enemy nouvelle cible (ou null)
+     */
+    protected void setTarget(Enemy enemy) {
+        this.target = enemy;
+        this.targetHandle = enemy != null ? enemy.getHandle() : EnemyStore.NO_HANDLE;
+    }
+
+    /**
+     * Indique si la cible est toujours le meme ennemi vivant.
+     * Une vue recyclee par l'EnemyPool porte un autre handle et n'est plus suivie.
+     * @return true si la cible est valide
+     */
+    protected boolean hasValidTarget() {
+        return target != null && target.getHandle() == targetHandle && !target.isDead();
+    }
+
     private void setSizeFromType(ProjectileType type) {
         if (type == null) {
             this.size = new Vector2(12f, 12f);
@@ -100,48 +152,136 @@ public class Projectile extends GameObject {
     @Override
     public void update(float delta) {
         stateTime += delta;
-        if (target == null || target.isDead()) {
+        if (!hasValidTarget()) {
             dead = true;
             return;
         }
 
         // Recalculer la direction vers la cible pour la suivre en temps réel
-        Vector2 direction = target.getPosition().cpy().sub(position);
-        float distance = direction.len();
+        velocity.set(target.getPosition()).sub(position);
 
         // Si on est très proche, impact
-        if (distance < 5f) {
+        if (velocity.len2() < HIT_RADIUS * HIT_RADIUS) {
             handleImpact();
             dead = true;
             return;
         }
 
-        // Mettre à jour la vélocité pour suivre la cible
-        velocity = direction.nor().scl(type.getSpeed());
-        
-        // Avancer
-        position.add(velocity.cpy().scl(delta));
+        // Mettre à jour la vélocité pour suivre la cible, puis avancer
+        velocity.nor().scl(type.getSpeed());
+        position.mulAdd(velocity, delta);
+    }
+
+    /**
+     * Passe en mode analytique : calcule le point d'interception et la date d'impact.
+     * @param now temps de simulation courant (secondes)
+     */
+    public void launchAnalytic(double now) {
+        analytic = true;
+        if (!hasValidTarget() && !retarget()) {
+            dead = true;
+            return;
+        }
+        planIntercept(now);
+    }
+
+    /**
+     * Resout l'impact arrive a echeance. Si la cible a devie de sa trajectoire prevue
+     * (arret, changement de vitesse), une nouvelle interception est planifiee.
+     * @param now temps de simulation courant (secondes)
+     */
+    public void resolveImpact(double now) {
+        position.set(aimPoint);
+        stateTime += (float) (now - launchTime);
+        if (!hasValidTarget() && !retarget()) {
+            dead = true;
+            return;
+        }
+        if (target.getPosition().dst2(aimPoint) > HIT_RADIUS * HIT_RADIUS) {
+            planIntercept(now);
+            return;
+        }
+        if (continueAfterImpact()) {
+            planIntercept(now);
+        } else {
+            dead = true;
+        }
+    }
+
+    /**
+     * Applique l'impact analytique.
+     * @return true si le projectile repart vers une nouvelle cible
+     */
+    protected boolean continueAfterImpact() {
+        handleImpact();
+        return false;
+    }
+
+    /**
+     * Cherche une nouvelle cible quand la cible courante n'est plus valide.
+     * @return true si une nouvelle cible a ete trouvee
+     */
+    protected boolean retarget() {
+        return false;
+    }
+
+    private void planIntercept(double now) {
+        // Point fixe t = |cible(t) - depart| / vitesse : converge car l'ennemi est plus lent
+        launchPoint.set(position);
+        float speed = type.getSpeed();
+        float t = 0f;
+        for (int k = 0; k < INTERCEPT_ITERATIONS; k++) {
+            target.predictPosition(t, aimPoint);
+            t = aimPoint.dst(launchPoint) / speed;
+        }
+        target.predictPosition(t, aimPoint);
+        launchTime = now;
+        impactTime = now + aimPoint.dst(launchPoint) / speed;
+    }
+
+    /**
+     * Indique si l'impact est resolu analytiquement.
+     * @return true en mode analytique
+     */
+    public boolean isAnalytic() {
+        return analytic;
     }
 
     /**
-     * Applique les degats sur la cible ou en AOE.
+     * Retourne la date d'impact prevue (mode analytique).
+     * @return date d'impact (temps de simulation, secondes)
+     */
+    public double getImpactTime() {
+        return impactTime;
+    }
+
+    /**
+     * Enregistre les degats sur la cible ou en AOE (appliques a la fin du tick).
      */
     protected void handleImpact() {
         if (type.isAOE()) {
             // AOE : infliger dégâts à tous les ennemis dans le rayon
-            if (allEnemies != null) {
+            if (spatialIndex != null) {
+                if (queryBuffer == null) queryBuffer = new Array<>(false, 16);
+                queryBuffer.clear();
+                spatialIndex.queryRadius(position.x, position.y, type.getExplosionRadius(), queryBuffer);
+                for (int i = 0; i < queryBuffer.size; i++) {
+                    queryBuffer.get(i).queueDamage(type.getDamage(), type);
+                }
+                queryBuffer.clear();
+            } else if (allEnemies != null) {
                 for (Enemy e : allEnemies) {
                     if (!e.isDead() && e.getPosition().dst(position) <= type.getExplosionRadius()) {
-                        e.takeDamage(type.getDamage());
+                        e.queueDamage(type.getDamage(), type);
                     }
                 }
             } else {
                 // Fallback : au moins le target
-                target.takeDamage(type.getDamage());
+                target.queueDamage(type.getDamage(), type);
             }
         } else {
             // Simple : infliger dégâts au target uniquement
-            target.takeDamage(type.getDamage());
+            target.queueDamage(type.getDamage(), type);
         }
     }
 
@@ -151,24 +291,76 @@ public class Projectile extends GameObject {
      */
     @Override
     public void render(SpriteBatch batch) {
-        if (type != null) {
-            com.badlogic.gdx.graphics.g2d.Animation<com.badlogic.gdx.graphics.g2d.TextureRegion> anim = type.getAnimation();
-            if (anim != null) {
-                com.badlogic.gdx.graphics.g2d.TextureRegion frame = anim.getKeyFrame(stateTime, true);
-                batch.draw(frame,
-                        position.x - size.x/2,
-                        position.y - size.y/2,
-                        size.x,
-                        size.y);
-                return;
-            }
-            if (type.getTexture() != null) {
-                batch.draw(type.getTexture(),
-                        position.x - size.x/2,
-                        position.y - size.y/2,
-                        size.x,
-                        size.y);
-            }
+        drawAt(batch, position, stateTime);
+    }
+
+    /**
+     * Rend le projectile entre sa position du tick precedent et sa position courante.
+     * @param batch sprite batch actif
+     * @param alpha facteur d'interpolation
+     */
+    @Override
+    public void render(SpriteBatch batch, float alpha) {
+        drawAt(batch, getInterpolatedPosition(alpha, renderPosition), stateTime);
+    }
+
+    /**
+     * Rend un projectile analytique a sa position sur la trajectoire a une date donnee.
+     * @param batch sprite batch actif
+     * @param time temps de simulation (secondes)
+     */
+    public void renderAt(SpriteBatch batch, double time) {
+        drawAt(batch, pointAt(time, renderPosition), stateTime + Math.max(0f, (float) (time - launchTime)));
+    }
+
+    /**
+     * Ajoute le projectile a une image de rendu, entre deux dates de simulation
+     * (trajectoire analytique) ou entre ses positions des deux derniers ticks.
+     * @param out image du tick
+     * @param previousTime date du tick precedent (secondes)
+     * @param time date du tick courant (secondes)
+     */
+    public void snapshot(RenderSnapshot out, double previousTime, double time) {
+        com.badlogic.gdx.graphics.g2d.TextureRegion frame;
+        float prevX, prevY;
+        if (analytic) {
+            pointAt(previousTime, renderPosition);
+            prevX = renderPosition.x;
+            prevY = renderPosition.y;
+            pointAt(time, renderPosition);
+            frame = frameAt(stateTime + Math.max(0f, (float) (time - launchTime)));
+        } else {
+            prevX = previousPosition.x;
+            prevY = previousPosition.y;
+            renderPosition.set(position);
+            frame = frameAt(stateTime);
+        }
+        float halfWidth = size.x / 2;
+        float halfHeight = size.y / 2;
+        out.addSprite(frame, prevX - halfWidth, prevY - halfHeight,
+            renderPosition.x - halfWidth, renderPosition.y - halfHeight, size.x, size.y);
+    }
+
+    private Vector2 pointAt(double time, Vector2 out) {
+        float progress = impactTime > launchTime ? (float) ((time - launchTime) / (impactTime - launchTime)) : 1f;
+        return out.set(launchPoint).lerp(aimPoint, MathUtils.clamp(progress, 0f, 1f));
+    }
+
+    private com.badlogic.gdx.graphics.g2d.TextureRegion frameAt(float animTime) {
+        if (type == null) return null;
+        com.badlogic.gdx.graphics.g2d.Animation<com.badlogic.gdx.graphics.g2d.TextureRegion> anim = type.getAnimation();
+        if (anim != null) return anim.getKeyFrame(animTime, true);
+        return type.getTexture();
+    }
+
+    private void drawAt(SpriteBatch batch, Vector2 at, float animTime) {
+        com.badlogic.gdx.graphics.g2d.TextureRegion frame = frameAt(animTime);
+        if (frame != null) {
+            batch.draw(frame,
+                    at.x - size.x/2,
+                    at.y - size.y/2,
+                    size.x,
+                    size.y);
         }
     }
 
@@ -180,6 +372,14 @@ public class Projectile extends GameObject {
         this.texture = tex;
     }
 
+    /**
+     * Definit l'index spatial utilise pour l'AOE et les ricochets.
+     * @param spatialIndex index partage (null pour un parcours lineaire)
+     */
+    public void setSpatialIndex(SpatialIndex spatialIndex) {
+        this.spatialIndex = spatialIndex;
+    }
+
     /**
      * Indique si le projectile est a detruire.
      * @return true si mort
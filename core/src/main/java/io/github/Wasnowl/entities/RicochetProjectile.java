@@ -48,9 +48,9 @@ public class RicochetProjectile extends Projectile {
      */
     @Override
     protected void handleImpact() {
-        if (target != null && !target.isDead()) {
-            // Infliger dégâts à la cible actuelle
-            target.takeDamage(type.getDamage());
+        if (hasValidTarget()) {
+            // Infliger dégâts à la cible actuelle (appliqués en fin de tick)
+            target.queueDamage(type.getDamage(), type);
             hitEnemies.add(target);
             
             // Chercher le prochain ennemi à cibler pour le ricochet
@@ -58,14 +58,15 @@ public class RicochetProjectile extends Projectile {
                 Enemy nextTarget = findNextRicochetTarget();
                 if (nextTarget != null) {
                     // Continuer avec le ricochet
-                    target = nextTarget;
+                    setTarget(nextTarget);
                     bouncesRemaining--;
                     // Réinitialiser pour continuer vers la nouvelle cible
                     return;
                 }
             }
-            // Sinon, le projectile est mort
         }
+        // Sinon, le projectile est mort (sinon il re-frapperait la même cible à chaque tick)
+        dead = true;
     }
 
     /**
@@ -73,6 +74,9 @@ public class RicochetProjectile extends Projectile {
      * Cherche un ennemi non touché, dans la portée de ricochet
      */
     private Enemy findNextRicochetTarget() {
+        if (spatialIndex != null) {
+            return spatialIndex.nearest(position.x, position.y, ricochetRange, hitEnemies);
+        }
         if (allEnemies == null || allEnemies.size == 0) {
             return null;
         }
@@ -81,8 +85,8 @@ public class RicochetProjectile extends Projectile {
         float closestDistance = ricochetRange;
 
         for (Enemy e : allEnemies) {
-            if (e.isDead() || hitEnemies.contains(e, false)) {
-                continue; // Ignorer les morts et déjà frappés
+            if (!e.isTargetable() || hitEnemies.contains(e, false)) {
+                continue; // Ignorer les morts, mourants et déjà frappés
             }
 
             float distance = position.dst(e.getPosition());
@@ -101,10 +105,10 @@ public class RicochetProjectile extends Projectile {
      */
     @Override
     public void update(float delta) {
-        if (target == null || target.isDead()) {
+        if (!hasValidTarget()) {
             // Si la cible est morte mais qu'on a des ricochets, chercher une nouvelle cible
             if (bouncesRemaining > 0) {
-                target = findNextRicochetTarget();
+                setTarget(findNextRicochetTarget());
                 if (target == null) {
                     // Pas de nouvelle cible, projectile mort
                     dead = true;
@@ -117,11 +121,10 @@ public class RicochetProjectile extends Projectile {
         }
 
         // Recalculer la direction vers la cible pour la suivre en temps réel
-        Vector2 direction = target.getPosition().cpy().sub(position);
-        float distance = direction.len();
+        velocity.set(target.getPosition()).sub(position);
 
         // Si on est très proche, impact
-        if (distance < 5f) {
+        if (velocity.len2() < HIT_RADIUS * HIT_RADIUS) {
             handleImpact();
             // Si on a un nouveau target après l'impact, continuer; sinon mourir
             if (target == null || (bouncesRemaining == 0 && hitEnemies.contains(target, false))) {
@@ -130,10 +133,29 @@ public class RicochetProjectile extends Projectile {
             return;
         }
 
-        // Mettre à jour la vélocité pour suivre la cible
-        velocity = direction.nor().scl(type.getSpeed());
-        
-        // Avancer
-        position.add(velocity.cpy().scl(delta));
+        // Mettre à jour la vélocité pour suivre la cible, puis avancer
+        velocity.nor().scl(type.getSpeed());
+        position.mulAdd(velocity, delta);
+    }
+
+    /**
+     * Applique l'impact analytique puis repart si un ricochet est possible.
+     * @return true si le projectile repart vers une nouvelle cible
+     */
+    @Override
+    protected boolean continueAfterImpact() {
+        handleImpact();
+        return !dead;
+    }
+
+    /**
+     * Cible morte en vol : ricoche vers un autre ennemi s'il reste des rebonds.
+     * @return true si une nouvelle cible a ete trouvee
+     */
+    @Override
+    protected boolean retarget() {
+        if (bouncesRemaining <= 0) return false;
+        setTarget(findNextRicochetTarget());
+        return target != null;
     }
 }
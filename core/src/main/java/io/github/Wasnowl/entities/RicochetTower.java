@@ -33,6 +33,7 @@ public class RicochetTower extends Tower {
     protected void shoot(Enemy target) {
         // Utiliser le ProjectilePool pour créer les projectiles ricochets
         Projectile p = ProjectilePool.getInstance().acquire(position.cpy(), target, projectileType, enemies);
+        p.setSpatialIndex(spatialIndex);
         projectiles.add(p);
     }
 }
@@ -0,0 +1,40 @@
+package io.github.Wasnowl.entities;
+
+/**
+ * Politiques de ciblage d'une tour parmi les ennemis a portee.
+ */
+public enum TargetingPolicy {
+    /** Ennemi le plus avance sur le chemin. */
+    FIRST("First"),
+    /** Ennemi le moins avance sur le chemin. */
+    LAST("Last"),
+    /** Ennemi ayant le plus de vie. */
+    STRONGEST("Strong"),
+    /** Ennemi ayant le moins de vie. */
+    WEAKEST("Weak"),
+    /** Ennemi le plus proche de la tour. */
+    CLOSEST("Close");
+
+    private final String label;
+
+    TargetingPolicy(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Retourne le libelle affiche dans l'interface.
+     * @return libelle
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Retourne la politique suivante (cycle du bouton de l'interface).
+     * @return politique suivante
+     */
+    public TargetingPolicy next() {
+        TargetingPolicy[] values = values();
+        return values[(ordinal() + 1) % values.length];
+    }
+}
@@ -3,6 +3,10 @@ package io.github.Wasnowl.entities;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import io.github.Wasnowl.GameObject;
 import io.github.Wasnowl.managers.ProjectilePool;
+import io.github.Wasnowl.model.EnemyStore;
+import io.github.Wasnowl.model.ProgressIndex;
+import io.github.Wasnowl.model.RenderSnapshot;
+import io.github.Wasnowl.model.SpatialIndex;
 import com.badlogic.gdx.utils.Array;
 
 /**
@@ -27,6 +31,20 @@ public class Tower extends GameObject {
     protected Array<Enemy> enemies;
     /** Liste de projectiles partagee. */
     protected Array<Projectile> projectiles;
+    /** Index spatial des ennemis (optionnel, sinon parcours lineaire). */
+    protected SpatialIndex spatialIndex;
+    /** Index des ennemis par progression (optionnel, sert les politiques de ciblage). */
+    protected ProgressIndex progressIndex;
+    /** Intervalles du chemin a portee de la tour (cache des requetes sur l'index de progression). */
+    protected final ProgressIndex.Coverage coverage = new ProgressIndex.Coverage();
+    /** Politique de choix de la cible parmi les ennemis a portee. */
+    protected TargetingPolicy targetingPolicy = TargetingPolicy.FIRST;
+    /** Ennemis a portee (recherche sans index de progression). */
+    protected final Array<Enemy> candidates = new Array<>();
+    /** Derniere cible tiree, conservee tant qu'elle reste valide et a portee. */
+    protected Enemy stickyTarget;
+    /** Handle de la derniere cible (une vue recyclee porte un autre handle). */
+    protected int stickyHandle = EnemyStore.NO_HANDLE;
     
     // Gestion du rendu (texture, animation)
     /** Renderer dedie aux sprites/animations. */
@@ -78,19 +96,80 @@ public class Tower extends GameObject {
 
     /**
      * Met a jour l'animation et gere les tirs.
+     * Aucune recherche de cible n'est faite tant que la tour recharge.
      * @param delta temps ecoule (secondes)
      */
     @Override
     public void update(float delta) {
-        // Mettre à jour l'animation
-        renderer.update(delta);
-        
+        updateAnimation(delta);
+
         fireCooldown -= delta;
-        Enemy target = findTarget();
-        if (target != null && fireCooldown <= 0) {
-            shoot(target);
-            fireCooldown = 1 / fireRate;
+        if (fireCooldown <= 0 && tryFire()) {
+            fireCooldown = getFireInterval();
+        }
+    }
+
+    /**
+     * Met a jour uniquement l'animation (les tirs sont geres par un TowerScheduler).
+     * @param delta temps ecoule (secondes)
+     */
+    public void updateAnimation(float delta) {
+        renderer.update(delta);
+    }
+
+    /**
+     * Tire sur la cible courante si elle existe (la tour est supposee prete).
+     * @return true si un projectile a ete tire
+     */
+    public boolean tryFire() {
+        Enemy target = selectTarget();
+        if (target == null) return false;
+        fire(target);
+        return true;
+    }
+
+    /**
+     * Phase de ciblage d'un tir : choisit la cible sans rien creer. Ne modifie que l'etat de ciblage
+     * de cette tour (cible memorisee, caches) et ne lit les ennemis qu'en lecture : plusieurs tours peuvent
+     * etre ciblees en parallele tant que les ennemis ne bougent pas.
+     * @return ennemi cible ou null
+     */
+    public Enemy selectTarget() {
+        return acquireTarget();
+    }
+
+    /**
+     * Phase de tir : cree le projectile vers une cible choisie par {@link #selectTarget()}
+     * (thread de simulation uniquement : pool et liste de projectiles partages).
+     * @param target cible visee
+     */
+    public void fire(Enemy target) {
+        shoot(target);
+    }
+
+    /**
+     * Retourne le delai entre deux tirs.
+     * @return intervalle (secondes)
+     */
+    public float getFireInterval() {
+        return 1 / fireRate;
+    }
+
+    /**
+     * Retourne la cible precedente si elle est toujours ciblable et a portee,
+     * sinon recherche une nouvelle cible selon la politique (index ou parcours).
+     * La politique n'est donc reappliquee que lorsque la cible sort de portee ou meurt.
+     * @return ennemi cible ou null
+     */
+    protected Enemy acquireTarget() {
+        if (stickyTarget != null && stickyTarget.getHandle() == stickyHandle && stickyTarget.isTargetable()
+                && stickyTarget.dst2(position.x, position.y) <= range * range) {
+            return stickyTarget;
         }
+        Enemy target = findTarget();
+        stickyTarget = target;
+        stickyHandle = target != null ? target.getHandle() : EnemyStore.NO_HANDLE;
+        return target;
     }
 
     /**
@@ -102,18 +181,78 @@ public class Tower extends GameObject {
         renderer.render(batch, position, size);
     }
 
-    private Enemy findTarget() {
+    /**
+     * Ajoute la frame courante de la tour a une image de rendu.
+     * @param out image du tick
+     */
+    @Override
+    public void snapshot(RenderSnapshot out) {
+        out.addSprite(renderer.getFrame(), position.x, position.y, position.x, position.y, size.x, size.y);
+    }
+
+    /**
+     * Retourne la cible a portee choisie selon la politique de ciblage.
+     * CLOSEST passe par l'index spatial ; les autres politiques par l'index de progression
+     * (recherches dichotomiques sur les intervalles du chemin a portee), sinon par un parcours
+     * des ennemis a portee (index spatial ou liste complete).
+     * @return ennemi cible ou null
+     */
+    public Enemy findTarget() {
+        if (targetingPolicy == TargetingPolicy.CLOSEST && spatialIndex != null) {
+            return spatialIndex.nearest(position.x, position.y, range, null);
+        }
+        if (progressIndex != null && targetingPolicy != TargetingPolicy.CLOSEST) {
+            switch (targetingPolicy) {
+                case LAST:
+                    return progressIndex.last(position.x, position.y, range, coverage);
+                case STRONGEST:
+                    return progressIndex.strongest(position.x, position.y, range, coverage);
+                case WEAKEST:
+                    return progressIndex.weakest(position.x, position.y, range, coverage);
+                default:
+                    return progressIndex.first(position.x, position.y, range, coverage);
+            }
+        }
+        if (spatialIndex != null) {
+            candidates.clear();
+            spatialIndex.queryTargetable(position.x, position.y, range, candidates);
+            return pickTarget(candidates, Float.MAX_VALUE);
+        }
         // sécurité : si la liste est null ou vide, pas de cible
         if (enemies == null || enemies.size == 0) {
             return null;
         }
+        return pickTarget(enemies, range * range);
+    }
 
-        for (Enemy e : enemies) {
-            if (!e.isDead() && e.getPosition().dst(position) <= range) {
-                return e;
+    /**
+     * Choisit la meilleure cible d'une liste selon la politique (parcours lineaire).
+     * @param list ennemis candidats
+     * @param range2 portee au carre (Float.MAX_VALUE si la liste est deja filtree)
+     * @return ennemi cible ou null
+     */
+    protected Enemy pickTarget(Array<Enemy> list, float range2) {
+        Enemy best = null;
+        float bestScore = 0f;
+        for (int i = 0; i < list.size; i++) {
+            Enemy e = list.get(i);
+            if (!e.isTargetable()) continue;
+            float d2 = e.dst2(position.x, position.y);
+            if (d2 > range2) continue;
+            float score;
+            switch (targetingPolicy) {
+                case LAST: score = -e.getDistanceAlongPath(); break;
+                case STRONGEST: score = e.getHealth(); break;
+                case WEAKEST: score = -e.getHealth(); break;
+                case CLOSEST: score = -d2; break;
+                default: score = e.getDistanceAlongPath(); break;
+            }
+            if (best == null || score > bestScore) {
+                best = e;
+                bestScore = score;
             }
         }
-        return null;
+        return best;
     }
 
     /**
@@ -124,9 +263,44 @@ public class Tower extends GameObject {
         // Utiliser le type de projectile défini pour cette tour
         // Passer la liste des ennemis pour supporter l'AOE
         Projectile p = ProjectilePool.getInstance().acquire(position.cpy(), target, projectileType, enemies);
+        p.setSpatialIndex(spatialIndex);
         projectiles.add(p);
     }
 
+    /**
+     * Definit l'index spatial utilise pour le ciblage.
+     * @param spatialIndex index partage (null pour un parcours lineaire)
+     */
+    public void setSpatialIndex(SpatialIndex spatialIndex) {
+        this.spatialIndex = spatialIndex;
+    }
+
+    /**
+     * Definit l'index de progression utilise par les politiques de ciblage.
+     * @param progressIndex index partage (null pour un parcours des ennemis a portee)
+     */
+    public void setProgressIndex(ProgressIndex progressIndex) {
+        this.progressIndex = progressIndex;
+    }
+
+    /**
+     * Definit la politique de ciblage.
+     * @param policy politique (FIRST par defaut)
+     */
+    public void setTargetingPolicy(TargetingPolicy policy) {
+        this.targetingPolicy = policy != null ? policy : TargetingPolicy.FIRST;
+        stickyTarget = null;
+        stickyHandle = EnemyStore.NO_HANDLE;
+    }
+
+    /**
+     * Retourne la politique de ciblage.
+     * @return politique courante
+     */
+    public TargetingPolicy getTargetingPolicy() {
+        return targetingPolicy;
+    }
+
     /**
      * Definit le type de projectile tire par la tour.
      * @param type type de projectile
@@ -63,18 +63,22 @@ public class TowerRenderer {
      * @param size taille de rendu
      */
     public void render(SpriteBatch batch, Vector2 position, Vector2 size) {
-        TextureRegion frame;
+        TextureRegion frame = getFrame();
+        if (frame == null) return;
         
+        batch.draw(frame, position.x, position.y, size.x, size.y);
+    }
+
+    /**
+     * Retourne la frame a afficher (animation en cours ou texture statique).
+     * @return frame ou null
+     */
+    public TextureRegion getFrame() {
         if (animation != null && isAnimating) {
             // Afficher la frame actuelle (true = loop)
-            frame = animation.getKeyFrame(animationStateTime, true);
-        } else if (staticTexture != null) {
-            frame = staticTexture;
-        } else {
-            return;
+            return animation.getKeyFrame(animationStateTime, true);
         }
-        
-        batch.draw(frame, position.x, position.y, size.x, size.y);
+        return staticTexture;
     }
     
     /**
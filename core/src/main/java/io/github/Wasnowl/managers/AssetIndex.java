@@ -0,0 +1,61 @@
+package io.github.Wasnowl.managers;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.ObjectSet;
+
+/**
+ * AssetIndex : index des fichiers d'assets, lu une seule fois depuis {@code assets.txt}
+ * (genere au build par la tache Gradle {@code generateAssetList}).
+ * Savoir si un fichier existe devient une recherche dans une table, sans acces disque ni exception.
+ * Sans assets.txt, l'index retombe sur {@code Gdx.files.internal(path).exists()}.
+ */
+public class AssetIndex {
+    /** Chemin de la liste des assets (relatif a assets/). */
+    public static final String MANIFEST_PATH = "assets.txt";
+    private static AssetIndex instance;
+
+    // chemins listes dans assets.txt, null si le fichier est absent
+    private final ObjectSet<String> paths;
+
+    private AssetIndex() {
+        FileHandle manifest = Gdx.files.internal(MANIFEST_PATH);
+        if (manifest.exists()) {
+            paths = new ObjectSet<>();
+            for (String line : manifest.readString("UTF-8").split("\n")) {
+                String path = line.trim();
+                if (!path.isEmpty()) paths.add(path);
+            }
+        } else {
+            Gdx.app.log("ASSETS", MANIFEST_PATH + " absent, verification des fichiers sur disque");
+            paths = null;
+        }
+    }
+
+    /**
+     * Retourne l'instance singleton de l'index (lecture d'assets.txt au premier appel).
+     * @return instance unique
+     */
+    public static AssetIndex getInstance() {
+        if (instance == null) instance = new AssetIndex();
+        return instance;
+    }
+
+    /**
+     * Indique si l'index a ete lu depuis assets.txt.
+     * @return true si les recherches se font sans acces disque
+     */
+    public boolean isAvailable() {
+        return paths != null;
+    }
+
+    /**
+     * Indique si un asset existe.
+     * @param path chemin de l'asset (relatif a assets/)
+     * @return true si le fichier est liste (ou present sur disque sans assets.txt)
+     */
+    public boolean contains(String path) {
+        if (paths == null) return Gdx.files.internal(path).exists();
+        return paths.contains(path);
+    }
+}
@@ -1,7 +1,9 @@
 package io.github.Wasnowl.managers;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.ObjectMap;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -9,13 +11,28 @@ import java.util.Map;
  * EnemyAssetManager : charge les spritesheets et découpe en frames pour les ennemis
  * Structure attendue : {@code assets/ennemies/&lt;id&gt;/&lt;animationFile.png&gt;}
  * Ex: assets/ennemies/1/S_Walk.png ou assets/ennemies/1/S_Walk.png
+ * Les spritesheets sont lus dans l'atlas des entites ({@link SpriteAtlasManager}) quand il existe.
+ * Le fichier de chaque animation est resolu dans l'{@link AssetIndex} (assets.txt) : une animation
+ * optionnelle absente (ex: walk2) est connue sans tentative de chargement.
  */
 public class EnemyAssetManager {
     private static final String ENEMY_ASSETS_PATH = "ennemies/";
+    // noms de fichiers possibles par animation, par ordre de preference
+    private static final ObjectMap<String, String[]> NAME_VARIANTS = new ObjectMap<>();
+    static {
+        NAME_VARIANTS.put("walk", new String[]{"S_Walk", "s_walk", "Walk", "walk"});
+        NAME_VARIANTS.put("walk2", new String[]{"S_Walk2", "s_walk2", "Walk2", "walk2"});
+        NAME_VARIANTS.put("death", new String[]{"S_Death", "D_Death", "s_death", "d_death", "Death", "death"});
+    }
     private static EnemyAssetManager instance;
 
     // cache[id][animName] -> frames
     private Map<Integer, Map<String, TextureRegion[]>> cache = new HashMap<>();
+    // spritesheets references par le cache (rendus au dispose)
+    private final Array<String> acquiredSheets = new Array<>();
+    // sheetPaths[id][animName] -> chemin du spritesheet (absent si l'animation n'existe pas)
+    private final IntMap<ObjectMap<String, String>> sheetPaths = new IntMap<>();
+    private boolean loadingEnabled = true;
 
     private EnemyAssetManager() {}
 
@@ -28,6 +45,34 @@ public class EnemyAssetManager {
         return instance;
     }
 
+    /**
+     * Active ou desactive le chargement des textures.
+     * Desactive (simulation headless), les chargements retournent null sans erreur.
+     * @param enabled false pour ne charger aucune texture
+     */
+    public void setLoadingEnabled(boolean enabled) {
+        this.loadingEnabled = enabled;
+    }
+
+    /**
+     * Indique si le chargement des textures est actif.
+     * @return true si actif
+     */
+    public boolean isLoadingEnabled() {
+        return loadingEnabled;
+    }
+
+    /**
+     * Charge d'avance toutes les animations d'un type d'ennemi (walk, walk2 optionnelle, death),
+     * pour qu'aucune texture ne soit chargee pendant les vagues.
+     * @param id id du monstre (dossier)
+     */
+    public void preload(int id) {
+        loadAnimationFromSpritesheet(id, "walk", 6, 1);
+        loadAnimationFromSpritesheet(id, "walk2", 6, 1, true);
+        loadAnimationFromSpritesheet(id, "death", 6, 1);
+    }
+
     /**
      * Charge et découpe un spritesheet en frames
      * @param id id du monstre (dossier)
@@ -50,63 +95,38 @@ public class EnemyAssetManager {
      * @return tableau de TextureRegion ou null
      */
     public TextureRegion[] loadAnimationFromSpritesheet(int id, String animName, int cols, int rows, boolean optional) {
+        if (!loadingEnabled) return null;
         Map<String, TextureRegion[]> m = cache.get(id);
         if (m != null && m.containsKey(animName)) return m.get(animName);
 
-        // Générer variantes avec majuscules correctes (ex: D_Walk, D_Walk2, S_Walk, S_Walk2)
-        String[] nameVariants = new String[]{};
-        
-        if (animName.equalsIgnoreCase("walk")) {
-            nameVariants = new String[]{"S_Walk", "s_walk", "Walk", "walk"};
-        } else if (animName.equalsIgnoreCase("walk2")) {
-            nameVariants = new String[]{"S_Walk2", "s_walk2", "Walk2", "walk2"};
-        } else if (animName.equalsIgnoreCase("death") || animName.equalsIgnoreCase("die")) {
-            nameVariants = new String[]{"S_Death", "D_Death", "s_death", "d_death", "Death", "death"};
-        }
-
-        Exception lastEx = null;
-        Texture sheet = null;
-        String foundPath = null;
-
-        for (String variant : nameVariants) {
-            String path = ENEMY_ASSETS_PATH + id + "/" + variant + ".png";
-            try {
-                sheet = new Texture(path);
-                foundPath = path;
-                break;
-            } catch (Exception e) {
-                lastEx = e;
-            }
-        }
-
-        if (sheet == null) {
+        String foundPath = resolveSheetPath(id, animName);
+        if (foundPath == null) {
             if (!optional) {
                 System.err.println("Erreur: impossible de trouver spritesheet pour enemy " + id + " (anim: " + animName + ")");
-                if (lastEx != null) System.err.println("Dernier essai: " + lastEx.getMessage());
             }
             return null;
         }
 
+        TextureRegion sheet;
         try {
-            int frameWidth = sheet.getWidth() / cols;
-            int frameHeight = sheet.getHeight() / rows;
-
-            TextureRegion[][] temp = TextureRegion.split(sheet, frameWidth, frameHeight);
-            TextureRegion[] frames = new TextureRegion[cols * rows];
-            int index = 0;
-            for (int r = 0; r < rows; r++) {
-                for (int c = 0; c < cols; c++) {
-                    frames[index++] = temp[r][c];
-                }
-            }
+            sheet = SpriteAtlasManager.getInstance().getSheet(foundPath);
+        } catch (Exception e) {
+            System.err.println("Erreur: impossible de charger " + foundPath + " -> " + e.getMessage());
+            return null;
+        }
+
+        try {
+            TextureRegion[] frames = SpriteAtlasManager.split(sheet, cols, rows);
 
             if (m == null) {
                 m = new HashMap<>();
                 cache.put(id, m);
             }
             m.put(animName, frames);
+            acquiredSheets.add(foundPath);
             return frames;
         } catch (Exception e) {
+            SpriteAtlasManager.getInstance().releaseSheet(foundPath);
             System.err.println("Erreur: impossible de découper " + foundPath + " -> " + e.getMessage());
             e.printStackTrace();
             return null;
@@ -114,11 +134,50 @@ public class EnemyAssetManager {
     }
 
     /**
-     * Dispose: libère les textures du cache
-     * Note: ici on ne conserve pas les Texture instances séparément, donc pas simple à disposer.
-     * Pour un vrai AssetManager, on utiliserait com.badlogic.gdx.assets.AssetManager.
+     * Indique si un type d'ennemi possede une animation, sans acces disque.
+     * @param id id du monstre (dossier)
+     * @param animName nom de l'animation (ex: "walk2")
+     * @return true si un spritesheet correspond
+     */
+    public boolean hasAnimation(int id, String animName) {
+        return resolveSheetPath(id, animName) != null;
+    }
+
+    /**
+     * Retourne le spritesheet d'une animation, resolu via l'{@link AssetIndex}.
+     * Les chemins d'un type d'ennemi sont resolus une fois (tous les noms d'animation),
+     * les appels suivants sont une simple recherche dans la table.
+     * @param id id du monstre (dossier)
+     * @param animName nom de l'animation (ex: "walk", "walk2", "death")
+     * @return chemin du spritesheet ou null si l'animation n'existe pas
+     */
+    public String resolveSheetPath(int id, String animName) {
+        ObjectMap<String, String> paths = sheetPaths.get(id);
+        if (paths == null) {
+            paths = new ObjectMap<>();
+            AssetIndex index = AssetIndex.getInstance();
+            for (ObjectMap.Entry<String, String[]> anim : NAME_VARIANTS) {
+                // premiere variante presente (ex: S_Walk avant Walk)
+                for (String variant : anim.value) {
+                    String path = ENEMY_ASSETS_PATH + id + "/" + variant + ".png";
+                    if (index.contains(path)) {
+                        paths.put(anim.key, path);
+                        break;
+                    }
+                }
+            }
+            sheetPaths.put(id, paths);
+        }
+        String key = animName.toLowerCase();
+        return paths.get(key.equals("die") ? "death" : key);
+    }
+
+    /**
+     * Dispose: vide le cache et rend les spritesheets au {@link TextureRegistry}.
      */
     public void dispose() {
-        // Pas implémenté (textures non trackées séparément)
+        for (String path : acquiredSheets) SpriteAtlasManager.getInstance().releaseSheet(path);
+        acquiredSheets.clear();
+        cache.clear();
     }
 }
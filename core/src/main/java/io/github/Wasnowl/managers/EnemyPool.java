@@ -0,0 +1,131 @@
+package io.github.Wasnowl.managers;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntMap;
+import io.github.Wasnowl.entities.Enemy;
+import io.github.Wasnowl.entities.EnemyHealth;
+import io.github.Wasnowl.model.EnemyStore;
+
+/**
+ * EnemyPool : recycle les vues Enemy retirees de l'EnemyStore, un pool par type d'ennemi.
+ * Une vue recyclee garde ses animations (walk, walk2, death) : seules les colonnes du store
+ * (position, vie, etat, chemin, fin de chemin) sont reinitialisees par {@link EnemyStore#add}.
+ */
+public class EnemyPool {
+    /** Capacite par defaut de chaque pool. */
+    public static final int DEFAULT_CAPACITY = 512;
+
+    private final EnemyStore store;
+    private final EnemyHealth health;
+    private final IntMap<Array<Enemy>> pools = new IntMap<>();
+    private int capacity = DEFAULT_CAPACITY;
+    private long acquired;
+    private long misses;
+
+    /**
+     * Cree un pool de vues pour un store donne.
+     * @param store store des ennemis
+     * @param health systeme de vie partage par les vues
+     */
+    public EnemyPool(EnemyStore store, EnemyHealth health) {
+        this.store = store;
+        this.health = health;
+    }
+
+    /**
+     * Recupere une vue libre du type demande ou en cree une (animations chargees).
+     * La vue doit ensuite etre ajoutee au store via {@link EnemyStore#add}.
+     * @param enemyType identifiant du type d'ennemi (-1 si aucun)
+     * @return vue prete a l'emploi
+     */
+    public Enemy acquire(int enemyType) {
+        acquired++;
+        Array<Enemy> pool = pools.get(enemyType);
+        if (pool != null && pool.size > 0) {
+            return pool.pop();
+        }
+        misses++;
+        return create(enemyType);
+    }
+
+    /**
+     * Rend une vue retiree du store. Au-dela de la capacite, la vue est abandonnee au GC.
+     * @param enemy vue retiree (voir {@link EnemyStore#remove(int)})
+     * @param enemyType type de l'ennemi retire
+     */
+    public void release(Enemy enemy, int enemyType) {
+        if (enemy == null) return;
+        // Invalide la vue pour ceux qui la referencent encore (projectiles en vol)
+        enemy.setHandle(EnemyStore.NO_HANDLE);
+        Array<Enemy> pool = pools.get(enemyType);
+        if (pool == null) {
+            pool = new Array<>(false, 16);
+            pools.put(enemyType, pool);
+        }
+        if (pool.size < capacity) pool.add(enemy);
+    }
+
+    /**
+     * Pre-alloue des vues jusqu'a un nombre d'instances libres pour un type.
+     * @param enemyType identifiant du type d'ennemi
+     * @param count nombre de vues libres souhaite
+     */
+    public void prewarm(int enemyType, int count) {
+        Array<Enemy> pool = pools.get(enemyType);
+        if (pool == null) {
+            pool = new Array<>(false, Math.max(16, count));
+            pools.put(enemyType, pool);
+        }
+        int target = Math.min(count, capacity);
+        while (pool.size < target) pool.add(create(enemyType));
+    }
+
+    /**
+     * Definit la capacite de chaque pool.
+     * @param capacity nombre max de vues libres conservees par type
+     */
+    public void setCapacity(int capacity) {
+        this.capacity = Math.max(0, capacity);
+    }
+
+    /**
+     * Retourne le nombre d'appels a acquire.
+     * @return acquisitions
+     */
+    public long getAcquired() {
+        return acquired;
+    }
+
+    /**
+     * Retourne le nombre d'acquisitions ayant du creer une vue.
+     * @return allocations
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Retourne le nombre de vues libres, tous types confondus.
+     * @return vues disponibles
+     */
+    public int getFreeCount() {
+        int free = 0;
+        for (Array<Enemy> pool : pools.values()) free += pool.size;
+        return free;
+    }
+
+    private Enemy create(int enemyType) {
+        Enemy enemy = new Enemy(store, health);
+        if (enemyType != -1) {
+            // Charger seulement walk et death a la creation
+            // walk2 sera chargé de manière lazy quand <50% HP
+            TextureRegion[] walk = EnemyAssetManager.getInstance().loadAnimationFromSpritesheet(enemyType, "walk", 6, 1);
+            if (walk != null) enemy.setWalkFrames(walk, 0.1f);
+
+            TextureRegion[] death = EnemyAssetManager.getInstance().loadAnimationFromSpritesheet(enemyType, "death", 6, 1);
+            if (death != null) enemy.setDeathFrames(death, 0.1f);
+        }
+        return enemy;
+    }
+}
@@ -0,0 +1,312 @@
+package io.github.Wasnowl.managers;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+import com.badlogic.gdx.utils.TimeUtils;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+
+/**
+ * FrameProfiler : mesure le temps passe par frame dans chaque section (mise a jour des vagues, des tours,
+ * des projectiles, passes de rendu) et garde les {@link #WINDOW} dernieres frames pour en tirer des
+ * percentiles glissants. Chaque frame enregistre aussi des compteurs : entites, pools, draw calls et
+ * bindings de texture ({@link GLProfiler}), octets alloues par le thread de rendu.
+ * Desactive (par defaut), {@link #begin(Section)} et {@link #end(Section)} ne coutent qu'un test.
+ * Avec le thread de simulation, les sections chronometrees hors du thread de rendu s'ajoutent a des
+ * totaux propres a ce thread ; il les recopie dans chaque {@link io.github.Wasnowl.model.RenderSnapshot}
+ * ({@link #copySimulationTotals(long[])}) et le thread de rendu attribue a sa frame l'ecart depuis la
+ * derniere image lue ({@link #addSimulationTotals(long[])}). Les compteurs d'entites et de pools suivent
+ * le meme chemin ({@link #countSimulation(long[])}). Aucun tableau n'est partage entre threads.
+ */
+public class FrameProfiler {
+    /** Nombre de frames conservees. */
+    public static final int WINDOW = 600;
+    /** Dossier des exports CSV (relatif au repertoire local). */
+    public static final String EXPORT_DIR = "profiler/";
+    private static FrameProfiler instance;
+
+    /**
+     * Sections chronometrees d'une frame.
+     */
+    public enum Section {
+        FRAME("frame"),
+        WAVES("WaveManager.update"),
+        TOWERS("towers.update"),
+        PROJECTILES("ProjectileManager.update"),
+        MAP("render.map"),
+        OBJECTS("render.objects"),
+        ENTITIES("render.entities"),
+        UI("render.ui");
+
+        private final String label;
+
+        Section(String label) {
+            this.label = label;
+        }
+
+        /**
+         * Retourne le nom affiche de la section.
+         * @return libelle
+         */
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    /**
+     * Compteurs enregistres a chaque frame.
+     */
+    public enum Counter {
+        ENEMIES, TOWERS, PROJECTILES, PROJECTILE_POOL_FREE, ENEMY_POOL_FREE,
+        DRAW_CALLS, TEXTURE_BINDS, ALLOCATED_BYTES
+    }
+
+    private static final Section[] SECTIONS = Section.values();
+    private static final Counter[] COUNTERS = Counter.values();
+
+    // samples[section][frame] en millisecondes, counters[counter][frame] ; anneau de WINDOW frames
+    private final float[][] samples = new float[SECTIONS.length][WINDOW];
+    private final long[][] counters = new long[COUNTERS.length][WINDOW];
+    private final long[] starts = new long[SECTIONS.length];
+    private final long[] elapsed = new long[SECTIONS.length];
+    private final long[] current = new long[COUNTERS.length];
+    // Thread de simulation uniquement : debuts et totaux cumules (jamais remis a zero)
+    private final long[] simulationStarts = new long[SECTIONS.length];
+    private final long[] simulationTotals = new long[SECTIONS.length];
+    // Thread de rendu : totaux de la derniere image lue (-1 : pas encore de reference)
+    private final long[] seenTotals = new long[SECTIONS.length];
+    private final float[] sorted = new float[WINDOW];
+    private final ThreadMXBean threads;
+    private GLProfiler glProfiler;
+    private volatile boolean enabled;
+    private volatile Thread renderThread;
+    private int head;
+    private int size;
+    private long frames;
+    private long lastAllocated;
+
+    private FrameProfiler() {
+        ThreadMXBean bean = null;
+        try {
+            bean = ManagementFactory.getThreadMXBean();
+            if (!(bean instanceof com.sun.management.ThreadMXBean)
+                    || !((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()) {
+                bean = null;
+            }
+        } catch (Throwable e) {
+            // pas de java.lang.management sur cette plateforme
+            bean = null;
+        }
+        threads = bean;
+    }
+
+    /**
+     * Retourne l'instance singleton du profiler.
+     * @return instance unique
+     */
+    public static FrameProfiler getInstance() {
+        if (instance == null) instance = new FrameProfiler();
+        return instance;
+    }
+
+    /**
+     * Active ou desactive la mesure ; l'historique repart de zero a l'activation.
+     * @param enabled true pour mesurer
+     */
+    public void setEnabled(boolean enabled) {
+        renderThread = Thread.currentThread();
+        if (this.enabled == enabled) return;
+        this.enabled = enabled;
+        if (enabled) {
+            head = 0;
+            size = 0;
+            Arrays.fill(elapsed, 0L);
+            Arrays.fill(seenTotals, -1L);
+            Arrays.fill(current, 0L);
+            lastAllocated = allocatedBytes();
+        }
+        if (Gdx.graphics == null) return;
+        if (glProfiler == null) glProfiler = new GLProfiler(Gdx.graphics);
+        if (enabled) {
+            glProfiler.reset();
+            glProfiler.enable();
+        } else {
+            glProfiler.disable();
+        }
+    }
+
+    /**
+     * Indique si la mesure est active.
+     * @return true si actif
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Debute la mesure d'une section (une section peut etre mesuree plusieurs fois par frame,
+     * ex: plusieurs pas de simulation : les durees s'additionnent). Appelee depuis un autre thread
+     * que celui du rendu (thread de simulation), la mesure va dans les totaux de simulation.
+     * @param section section mesuree
+     */
+    public void begin(Section section) {
+        if (!enabled) return;
+        long now = System.nanoTime();
+        if (Thread.currentThread() == renderThread) starts[section.ordinal()] = now;
+        else simulationStarts[section.ordinal()] = now;
+    }
+
+    /**
+     * Termine la mesure d'une section.
+     * @param section section mesuree
+     */
+    public void end(Section section) {
+        if (!enabled) return;
+        int i = section.ordinal();
+        long now = System.nanoTime();
+        if (Thread.currentThread() == renderThread) elapsed[i] += now - starts[i];
+        else if (simulationStarts[i] != 0L) {
+            // debut manque si la mesure a ete activee au milieu d'une section
+            simulationTotals[i] += now - simulationStarts[i];
+            simulationStarts[i] = 0L;
+        }
+    }
+
+    /**
+     * Recopie les totaux cumules des sections mesurees sur le thread de simulation
+     * (thread de simulation uniquement, avant publication d'une image).
+     * @param out tableau d'au moins {@code Section.values().length} valeurs (nanosecondes)
+     */
+    public void copySimulationTotals(long[] out) {
+        System.arraycopy(simulationTotals, 0, out, 0, SECTIONS.length);
+    }
+
+    /**
+     * Ajoute a la frame en cours le temps de simulation ecoule depuis la derniere image lue
+     * (thread de rendu uniquement). Une image relue ou des images sautees ne faussent pas le total.
+     * @param totals totaux publies avec l'image (voir {@link #copySimulationTotals(long[])})
+     */
+    public void addSimulationTotals(long[] totals) {
+        if (!enabled) return;
+        for (int s = 0; s < SECTIONS.length; s++) {
+            if (seenTotals[s] >= 0L && totals[s] > seenTotals[s]) elapsed[s] += totals[s] - seenTotals[s];
+            seenTotals[s] = totals[s];
+        }
+    }
+
+    /**
+     * Enregistre la valeur d'un compteur pour la frame en cours.
+     * @param counter compteur
+     * @param value valeur
+     */
+    public void count(Counter counter, long value) {
+        if (!enabled) return;
+        current[counter.ordinal()] = value;
+    }
+
+    /**
+     * Enregistre les compteurs releves par la simulation ({@link Counter#ENEMIES} a
+     * {@link Counter#ENEMY_POOL_FREE}) ; avec le thread de simulation, ils viennent de l'image lue.
+     * @param counts valeurs indexees par {@link Counter#ordinal()}
+     */
+    public void countSimulation(long[] counts) {
+        if (!enabled) return;
+        System.arraycopy(counts, 0, current, 0, Counter.ENEMY_POOL_FREE.ordinal() + 1);
+    }
+
+    /**
+     * Clot la frame : range ses mesures dans l'historique et remet les compteurs GL a zero.
+     */
+    public void endFrame() {
+        renderThread = Thread.currentThread();
+        if (!enabled) return;
+        if (glProfiler != null) {
+            current[Counter.DRAW_CALLS.ordinal()] = glProfiler.getDrawCalls();
+            current[Counter.TEXTURE_BINDS.ordinal()] = glProfiler.getTextureBindings();
+            glProfiler.reset();
+        }
+        long allocated = allocatedBytes();
+        current[Counter.ALLOCATED_BYTES.ordinal()] = allocated >= 0 ? allocated - lastAllocated : -1;
+        lastAllocated = allocated;
+
+        for (int s = 0; s < SECTIONS.length; s++) {
+            samples[s][head] = elapsed[s] / 1_000_000f;
+            elapsed[s] = 0L;
+        }
+        for (int c = 0; c < COUNTERS.length; c++) counters[c][head] = current[c];
+        head = (head + 1) % WINDOW;
+        if (size < WINDOW) size++;
+        frames++;
+    }
+
+    /**
+     * Retourne un percentile des durees d'une section sur l'historique.
+     * @param section section
+     * @param percentile percentile entre 0 et 1 (ex: 0.95)
+     * @return duree (millisecondes), 0 sans mesure
+     */
+    public float getPercentile(Section section, float percentile) {
+        if (size == 0) return 0f;
+        System.arraycopy(samples[section.ordinal()], 0, sorted, 0, size);
+        Arrays.sort(sorted, 0, size);
+        int rank = (int) Math.ceil(percentile * size) - 1;
+        return sorted[Math.max(0, Math.min(size - 1, rank))];
+    }
+
+    /**
+     * Retourne la valeur d'un compteur a la derniere frame close.
+     * @param counter compteur
+     * @return valeur (-1 si non mesurable, ex: allocations hors JVM HotSpot)
+     */
+    public long getLast(Counter counter) {
+        if (size == 0) return 0L;
+        return counters[counter.ordinal()][(head - 1 + WINDOW) % WINDOW];
+    }
+
+    /**
+     * Retourne le nombre de frames dans l'historique.
+     * @return frames mesurees (au plus {@link #WINDOW})
+     */
+    public int getSampleCount() {
+        return size;
+    }
+
+    /**
+     * Ecrit l'historique dans un fichier CSV horodate de {@link #EXPORT_DIR} (une ligne par frame,
+     * durees en millisecondes puis compteurs).
+     * @return fichier ecrit
+     */
+    public FileHandle exportCsv() {
+        FileHandle file = Gdx.files.local(EXPORT_DIR + "frames-" + TimeUtils.millis() + ".csv");
+        exportCsv(file);
+        return file;
+    }
+
+    /**
+     * Ecrit l'historique dans un fichier CSV.
+     * @param file fichier de destination
+     */
+    public void exportCsv(FileHandle file) {
+        StringBuilder csv = new StringBuilder();
+        csv.append("frame");
+        for (Section section : SECTIONS) csv.append(',').append(section.getLabel()).append("_ms");
+        for (Counter counter : COUNTERS) csv.append(',').append(counter.name().toLowerCase());
+        csv.append('\n');
+        long first = frames - size;
+        for (int i = 0; i < size; i++) {
+            int index = (head - size + i + WINDOW) % WINDOW;
+            csv.append(first + i);
+            for (int s = 0; s < SECTIONS.length; s++) csv.append(',').append(samples[s][index]);
+            for (int c = 0; c < COUNTERS.length; c++) csv.append(',').append(counters[c][index]);
+            csv.append('\n');
+        }
+        file.writeString(csv.toString(), false, "UTF-8");
+    }
+
+    private long allocatedBytes() {
+        if (threads == null) return -1L;
+        return ((com.sun.management.ThreadMXBean) threads).getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
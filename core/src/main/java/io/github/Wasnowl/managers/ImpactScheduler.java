@@ -0,0 +1,132 @@
+package io.github.Wasnowl.managers;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.LongArray;
+import io.github.Wasnowl.entities.Projectile;
+
+/**
+ * ImpactScheduler : roue temporelle (timing wheel) des impacts de projectiles analytiques.
+ * Chaque slot correspond a un tick de simulation ; un projectile est range dans le slot de
+ * son tick d'impact et n'est plus visite avant echeance (vols plus longs que la roue : le slot
+ * est revisite a chaque tour et le projectile conserve jusqu'a son tick).
+ */
+public class ImpactScheduler {
+    private static final int WHEEL_SIZE = 256; // puissance de 2 (~4s a 60 Hz)
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+    private final TickClock clock;
+    private final Array<Array<Projectile>> slots = new Array<>(true, WHEEL_SIZE);
+    private final LongArray[] dueTicks;
+    private int scheduled;
+
+    /**
+     * Cree une roue avec une resolution d'un tick de simulation.
+     * @param tickDuration duree d'un tick (secondes)
+     */
+    public ImpactScheduler(float tickDuration) {
+        this.clock = new TickClock(tickDuration);
+        this.dueTicks = new LongArray[WHEEL_SIZE];
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            slots.add(new Array<Projectile>(false, 4));
+            dueTicks[i] = new LongArray(false, 4);
+        }
+    }
+
+    /**
+     * Planifie l'impact d'un projectile (au plus tot au tick suivant).
+     * @param projectile projectile analytique
+     * @param time date d'impact (temps de simulation, secondes)
+     */
+    public void schedule(Projectile projectile, double time) {
+        long due = Math.max(clock.getTick() + 1, clock.tickAt(time));
+        int slot = (int) (due & WHEEL_MASK);
+        slots.get(slot).add(projectile);
+        dueTicks[slot].add(due);
+        scheduled++;
+    }
+
+    /**
+     * Ajoute du temps a consommer par {@link #step(Array)}.
+     * @param delta temps ecoule (secondes)
+     */
+    public void advance(float delta) {
+        clock.advance(delta);
+    }
+
+    /**
+     * Avance d'un tick si le temps accumule le permet et collecte les impacts echus.
+     * @param out projectiles arrives a echeance (non videe)
+     * @return false s'il ne reste pas de tick complet a traiter
+     */
+    public boolean step(Array<Projectile> out) {
+        if (!clock.step()) return false;
+        long currentTick = clock.getTick();
+        int slot = (int) (currentTick & WHEEL_MASK);
+        Array<Projectile> projectiles = slots.get(slot);
+        LongArray due = dueTicks[slot];
+        for (int i = projectiles.size - 1; i >= 0; i--) {
+            if (due.get(i) > currentTick) continue;
+            out.add(projectiles.removeIndex(i));
+            due.removeIndex(i);
+            scheduled--;
+        }
+        return true;
+    }
+
+    /**
+     * Retourne le temps de simulation du tick courant.
+     * @return temps (secondes)
+     */
+    public double getTime() {
+        return clock.getTime();
+    }
+
+    /**
+     * Retourne la duree d'un tick.
+     * @return duree (secondes)
+     */
+    public float getTickDuration() {
+        return clock.getTickDuration();
+    }
+
+    /**
+     * Change la resolution de la roue (pas de simulation du controleur). Les impacts planifies
+     * sont replaces a leur date d'impact dans la nouvelle resolution.
+     * @param tickDuration duree d'un tick (secondes)
+     */
+    public void setTickDuration(float tickDuration) {
+        float previous = clock.getTickDuration();
+        clock.setTickDuration(tickDuration);
+        if (clock.getTickDuration() == previous || scheduled == 0) return;
+        Array<Projectile> pending = new Array<>(false, scheduled);
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            pending.addAll(slots.get(i));
+            slots.get(i).clear();
+            dueTicks[i].clear();
+        }
+        scheduled = 0;
+        for (int i = 0; i < pending.size; i++) {
+            Projectile p = pending.get(i);
+            schedule(p, p.getImpactTime());
+        }
+    }
+
+    /**
+     * Retourne le nombre d'impacts planifies.
+     * @return impacts en attente
+     */
+    public int getScheduledCount() {
+        return scheduled;
+    }
+
+    /**
+     * Vide la roue (les projectiles planifies sont oublies).
+     */
+    public void clear() {
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            slots.get(i).clear();
+            dueTicks[i].clear();
+        }
+        scheduled = 0;
+    }
+}
@@ -1,17 +1,24 @@
 package io.github.Wasnowl.managers;
 
+import io.github.Wasnowl.controllers.GameController;
 import io.github.Wasnowl.entities.Projectile;
 import io.github.Wasnowl.managers.ProjectilePool;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.utils.Array;
 import io.github.Wasnowl.model.GameState;
+import io.github.Wasnowl.model.RenderSnapshot;
 
 /**
  * Gestionnaire des projectiles : update et rendu centralisés.
  * Permet aussi d'appliquer des règles globales (collision, effets).
+ * En mode analytique, chaque projectile calcule son interception une fois au tir et son impact
+ * est planifie sur un {@link ImpactScheduler} : plus de guidage par frame.
  */
 public class ProjectileManager {
     private Array<Projectile> projectiles;
+    private final ImpactScheduler impacts = new ImpactScheduler(GameController.DEFAULT_FIXED_STEP);
+    private final Array<Projectile> dueImpacts = new Array<>(false, 64);
+    private boolean analyticResolution = false;
 
     /**
      * Cree un gestionnaire base sur une liste de projectiles.
@@ -29,14 +36,62 @@ public class ProjectileManager {
         this(state.getProjectiles());
     }
 
+    /**
+     * Aligne la roue des impacts sur le pas de simulation (voir {@link GameController#setFixedStep(float)}).
+     * @param tickDuration duree d'un pas (secondes)
+     */
+    public void setTickDuration(float tickDuration) {
+        impacts.setTickDuration(tickDuration);
+    }
+
+    /**
+     * Active la resolution analytique des nouveaux projectiles (interception calculee au tir,
+     * impact planifie). Les projectiles deja planifies restent resolus par la roue.
+     * @param analyticResolution true pour le mode analytique
+     */
+    public void setAnalyticResolution(boolean analyticResolution) {
+        this.analyticResolution = analyticResolution;
+    }
+
+    /**
+     * Indique si les nouveaux projectiles sont resolus analytiquement.
+     * @return true en mode analytique
+     */
+    public boolean isAnalyticResolution() {
+        return analyticResolution;
+    }
+
     /**
      * Met a jour tous les projectiles actifs.
      * @param delta temps ecoule (secondes)
      */
     public void update(float delta) {
+        // Impacts analytiques arrives a echeance, tick par tick
+        impacts.advance(delta);
+        while (impacts.step(dueImpacts)) {
+            double now = impacts.getTime();
+            for (int i = 0; i < dueImpacts.size; i++) {
+                Projectile p = dueImpacts.get(i);
+                p.resolveImpact(now);
+                if (!p.isDead()) impacts.schedule(p, p.getImpactTime());
+            }
+            dueImpacts.clear();
+        }
+
         for (int i = projectiles.size - 1; i >= 0; i--) {
             Projectile p = projectiles.get(i);
-            p.update(delta);
+            if (!p.isDead()) {
+                if (p.isAnalytic()) continue;
+                if (analyticResolution) {
+                    p.launchAnalytic(impacts.getTime());
+                    if (!p.isDead()) {
+                        impacts.schedule(p, p.getImpactTime());
+                        continue;
+                    }
+                } else {
+                    p.update(delta);
+                }
+            }
 
             // Supprimer les projectiles morts
             if (p.isDead()) {
@@ -52,8 +107,45 @@ public class ProjectileManager {
      * @param batch sprite batch actif
      */
     public void render(SpriteBatch batch) {
+        double time = impacts.getTime();
+        for (Projectile p : projectiles) {
+            if (p.isAnalytic()) p.renderAt(batch, time);
+            else p.render(batch);
+        }
+    }
+
+    /**
+     * Rend tous les projectiles actifs a leur position interpolee.
+     * @param batch sprite batch actif
+     * @param alpha facteur d'interpolation entre deux ticks
+     */
+    public void render(SpriteBatch batch, float alpha) {
+        // Date interpolee entre le tick precedent et le tick courant
+        double time = impacts.getTime() - (1f - alpha) * impacts.getTickDuration();
         for (Projectile p : projectiles) {
-            p.render(batch);
+            if (p.isAnalytic()) p.renderAt(batch, time);
+            else p.render(batch, alpha);
+        }
+    }
+
+    /**
+     * Ajoute tous les projectiles actifs a l'image de rendu du tick courant.
+     * @param out image du tick
+     */
+    public void snapshot(RenderSnapshot out) {
+        double time = impacts.getTime();
+        double previousTime = time - impacts.getTickDuration();
+        for (int i = 0; i < projectiles.size; i++) {
+            projectiles.get(i).snapshot(out, previousTime, time);
+        }
+    }
+
+    /**
+     * Memorise la position de chaque projectile avant un pas de simulation.
+     */
+    public void savePreviousPositions() {
+        for (int i = 0; i < projectiles.size; i++) {
+            projectiles.get(i).savePreviousPosition();
         }
     }
 
@@ -66,9 +158,21 @@ public class ProjectileManager {
     }
 
     /**
-     * Vide la liste de projectiles.
+     * Vide la liste de projectiles (rendus au pool).
      */
     public void clear() {
+        for (int i = 0; i < projectiles.size; i++) {
+            ProjectilePool.getInstance().release(projectiles.get(i));
+        }
         projectiles.clear();
+        impacts.clear();
+    }
+
+    /**
+     * Retourne le nombre d'impacts analytiques planifies.
+     * @return impacts en attente
+     */
+    public int getScheduledImpactCount() {
+        return impacts.getScheduledCount();
     }
 }
@@ -6,18 +6,36 @@ import io.github.Wasnowl.entities.Enemy;
 import io.github.Wasnowl.entities.Projectile;
 import io.github.Wasnowl.entities.RicochetProjectile;
 import io.github.Wasnowl.entities.ProjectileType;
+import io.github.Wasnowl.entities.Tower;
+import java.util.EnumMap;
+import java.util.Map;
 
 /**
- * Simple singleton object pool for Projectile instances.
- * Gère automatiquement la création du bon type (Projectile ou RicochetProjectile)
+ * Singleton object pool for Projectile instances, un pool borne par ProjectileType.
+ * Gère automatiquement la création du bon type (Projectile ou RicochetProjectile) :
+ * une instance n'est jamais réutilisée pour un autre type que le sien.
  */
 public class ProjectilePool {
+    /** Capacite par defaut de chaque pool. */
+    public static final int DEFAULT_CAPACITY = 256;
+    /** Projectiles pre-alloues par tour au debut d'une vague. */
+    public static final int PREWARM_PER_TOWER = 4;
+
     private static ProjectilePool instance;
-    private final Array<Projectile> pool = new Array<>();
     private static final float RICOCHET_RANGE = 100f;
     private static final int MAX_BOUNCES = 3;
 
-    private ProjectilePool() {}
+    private final Map<ProjectileType, Array<Projectile>> pools = new EnumMap<>(ProjectileType.class);
+    private final Map<ProjectileType, Integer> capacities = new EnumMap<>(ProjectileType.class);
+    private final Map<ProjectileType, Stats> stats = new EnumMap<>(ProjectileType.class);
+
+    private ProjectilePool() {
+        for (ProjectileType type : ProjectileType.values()) {
+            pools.put(type, new Array<Projectile>(false, 16));
+            capacities.put(type, DEFAULT_CAPACITY);
+            stats.put(type, new Stats());
+        }
+    }
 
     /**
      * Retourne l'instance singleton du pool.
@@ -29,7 +47,7 @@ public class ProjectilePool {
     }
 
     /**
-     * Recupere un projectile du pool ou en cree un nouveau.
+     * Recupere un projectile du pool de son type ou en cree un nouveau.
      * @param start position de depart
      * @param target cible visee
      * @param type type de projectile
@@ -37,13 +55,135 @@ public class ProjectilePool {
      * @return projectile reutilise ou cree
      */
     public Projectile acquire(Vector2 start, Enemy target, ProjectileType type, Array<Enemy> allEnemies) {
+        Array<Projectile> pool = pools.get(type);
+        Stats s = stats.get(type);
+        s.acquired++;
+        s.inUse++;
+        if (s.inUse > s.highWater) s.highWater = s.inUse;
+
         // Récupérer du pool si disponible
         if (pool.size > 0) {
             Projectile p = pool.pop();
             p.reset(start, target, type, allEnemies);
             return p;
         }
-        
+
+        // Pool vide : allocation
+        s.misses++;
+        return create(start, target, type, allEnemies);
+    }
+
+    /**
+     * Remet un projectile dans le pool de son type pour reutilisation.
+     * Au-dela de la capacite du pool, l'instance est abandonnee au GC.
+     * @param p projectile a recycler
+     */
+    public void release(Projectile p) {
+        if (p == null || p.getType() == null) return;
+        ProjectileType type = p.getType();
+        Stats s = stats.get(type);
+        s.released++;
+        if (s.inUse > 0) s.inUse--;
+
+        // Un Projectile simple ne doit jamais servir de ricochet
+        if (type == ProjectileType.RICOCHET && !(p instanceof RicochetProjectile)) {
+            s.dropped++;
+            return;
+        }
+        Array<Projectile> pool = pools.get(type);
+        if (pool.size >= capacities.get(type)) {
+            s.dropped++;
+            return;
+        }
+        pool.add(p);
+    }
+
+    /**
+     * Pre-alloue des projectiles jusqu'a un nombre d'instances libres (borne par la capacite).
+     * @param type type de projectile
+     * @param count nombre d'instances libres souhaite
+     */
+    public void prewarm(ProjectileType type, int count) {
+        Array<Projectile> pool = pools.get(type);
+        int target = Math.min(count, capacities.get(type));
+        Vector2 origin = new Vector2();
+        while (pool.size < target) {
+            pool.add(create(origin, null, type, null));
+        }
+    }
+
+    /**
+     * Pre-alloue les pools selon les types de projectiles tires par les tours posees.
+     * A appeler au debut d'une vague.
+     * @param towers tours en jeu
+     */
+    public void prewarm(Array<Tower> towers) {
+        if (towers == null) return;
+        Map<ProjectileType, Integer> counts = new EnumMap<>(ProjectileType.class);
+        for (Tower t : towers) {
+            ProjectileType type = t.getProjectileType();
+            if (type == null) continue;
+            Integer c = counts.get(type);
+            counts.put(type, (c == null ? 0 : c) + PREWARM_PER_TOWER);
+        }
+        for (Map.Entry<ProjectileType, Integer> e : counts.entrySet()) {
+            prewarm(e.getKey(), e.getValue());
+        }
+    }
+
+    /**
+     * Definit la capacite maximale d'un pool (les instances en trop sont liberees).
+     * @param type type de projectile
+     * @param capacity nombre max d'instances libres conservees
+     */
+    public void setCapacity(ProjectileType type, int capacity) {
+        int cap = Math.max(0, capacity);
+        capacities.put(type, cap);
+        Array<Projectile> pool = pools.get(type);
+        if (pool.size > cap) pool.truncate(cap);
+    }
+
+    /**
+     * Retourne la capacite maximale d'un pool.
+     * @param type type de projectile
+     * @return capacite
+     */
+    public int getCapacity(ProjectileType type) {
+        return capacities.get(type);
+    }
+
+    /**
+     * Retourne le nombre d'instances libres dans un pool.
+     * @param type type de projectile
+     * @return instances disponibles
+     */
+    public int getFree(ProjectileType type) {
+        return pools.get(type).size;
+    }
+
+    /**
+     * Retourne les compteurs d'un pool.
+     * @param type type de projectile
+     * @return statistiques (vue vivante)
+     */
+    public Stats getStats(ProjectileType type) {
+        return stats.get(type);
+    }
+
+    /**
+     * Remet a zero les compteurs de tous les pools (les instances en vol restent comptees).
+     */
+    public void resetStats() {
+        for (Stats s : stats.values()) {
+            s.acquired = 0;
+            s.released = 0;
+            s.misses = 0;
+            s.dropped = 0;
+            s.highWater = s.inUse;
+        }
+    }
+
+    private Projectile create(Vector2 start, Enemy target, ProjectileType type, Array<Enemy> allEnemies) {
         // Créer un nouveau projectile du bon type
         if (type == ProjectileType.RICOCHET) {
             return new RicochetProjectile(start, target, type, allEnemies, RICOCHET_RANGE, MAX_BOUNCES);
@@ -53,11 +193,51 @@ public class ProjectilePool {
     }
 
     /**
-     * Remet un projectile dans le pool pour reutilisation.
-     * @param p projectile a recycler
+     * Compteurs d'un pool : une allocation en combat se voit dans {@link #getMisses()}.
      */
-    public void release(Projectile p) {
-        if (p == null) return;
-        pool.add(p);
+    public static class Stats {
+        private long acquired;
+        private long released;
+        private long misses;
+        private long dropped;
+        private int inUse;
+        private int highWater;
+
+        /**
+         * Retourne le nombre d'appels a acquire.
+         * @return acquisitions
+         */
+        public long getAcquired() { return acquired; }
+        /**
+         * Retourne le nombre d'appels a release.
+         * @return liberations
+         */
+        public long getReleased() { return released; }
+        /**
+         * Retourne le nombre d'acquisitions ayant du allouer (pool vide).
+         * @return allocations
+         */
+        public long getMisses() { return misses; }
+        /**
+         * Retourne le nombre d'instances abandonnees (pool plein).
+         * @return instances abandonnees
+         */
+        public long getDropped() { return dropped; }
+        /**
+         * Retourne le nombre de projectiles actuellement en vol.
+         * @return projectiles en vol
+         */
+        public int getInUse() { return inUse; }
+        /**
+         * Retourne le maximum de projectiles simultanement en vol.
+         * @return pic d'utilisation
+         */
+        public int getHighWater() { return highWater; }
+
+        @Override
+        public String toString() {
+            return "acquire=" + acquired + " release=" + released + " miss=" + misses
+                    + " drop=" + dropped + " highWater=" + highWater;
+        }
     }
 }
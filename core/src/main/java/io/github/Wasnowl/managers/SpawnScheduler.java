@@ -0,0 +1,208 @@
+package io.github.Wasnowl.managers;
+
+import com.badlogic.gdx.utils.Array;
+import io.github.Wasnowl.model.WaveDefinition;
+import io.github.Wasnowl.model.WaveDefinition.SpawnGroup;
+import java.util.Arrays;
+
+/**
+ * SpawnScheduler : ordonnance les spawns d'une vague sans allocation ni boxing.
+ * Les groupes de spawn sont places sur une roue temporelle (timing wheel) a un slot par tick ;
+ * a echeance, un groupe pousse sa rafale dans un tampon circulaire d'entiers (index de groupe)
+ * puis se replanifie apres son intervalle. WaveManager vide le tampon a chaque tick.
+ */
+public class SpawnScheduler {
+    private static final int WHEEL_SIZE = 1024; // puissance de 2 (~17s a 60 Hz)
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final int NONE = -1;
+
+    private final TickClock clock;
+
+    // Roue : liste chainee intrusive de groupes par slot
+    private final int[] wheelHead = new int[WHEEL_SIZE];
+    private int[] groupNext = new int[8];
+    private int[] groupRounds = new int[8];
+    private int[] groupRemaining = new int[8];
+    private int[] groupIntervalTicks = new int[8];
+    private int scheduled;
+
+    // Tampon circulaire des spawns en attente (index de groupe)
+    private int[] ring = new int[64];
+    private int ringHead;
+    private int ringSize;
+
+    private WaveDefinition wave;
+
+    /**
+     * Cree un ordonnanceur avec une resolution d'un tick de simulation.
+     * @param tickDuration duree d'un tick (secondes)
+     */
+    public SpawnScheduler(float tickDuration) {
+        this.clock = new TickClock(tickDuration);
+        Arrays.fill(wheelHead, NONE);
+    }
+
+    /**
+     * Demarre une vague : tous ses groupes sont planifies a leur delai.
+     * @param definition vague a jouer
+     */
+    public void start(WaveDefinition definition) {
+        clear();
+        this.wave = definition;
+        Array<SpawnGroup> groups = definition.getGroups();
+        ensureGroupCapacity(groups.size);
+        for (int g = 0; g < groups.size; g++) {
+            SpawnGroup group = groups.get(g);
+            if (group.getCount() == 0) continue;
+            groupRemaining[g] = group.getCount();
+            groupIntervalTicks[g] = Math.max(1, clock.ticksFor(group.getInterval()));
+            schedule(g, clock.ticksFor(group.getDelay()));
+        }
+    }
+
+    /**
+     * Vide la roue et le tampon (la vague courante est abandonnee).
+     */
+    public void clear() {
+        Arrays.fill(wheelHead, NONE);
+        scheduled = 0;
+        ringHead = 0;
+        ringSize = 0;
+        clock.reset();
+        wave = null;
+    }
+
+    /**
+     * Avance le temps et pousse dans le tampon les rafales arrivees a echeance.
+     * @param delta temps ecoule (secondes)
+     */
+    public void update(float delta) {
+        if (scheduled == 0) return;
+        clock.advance(delta);
+        while (scheduled > 0 && clock.step()) {
+            processSlot((int) (clock.getTick() & WHEEL_MASK));
+        }
+        if (scheduled == 0) clock.clearAccumulator();
+    }
+
+    /**
+     * Change la resolution de la roue (pas de simulation du controleur). Les groupes en attente
+     * sont replanifies : leur echeance en secondes est conservee.
+     * @param tickDuration duree d'un tick (secondes)
+     */
+    public void setTickDuration(float tickDuration) {
+        float previous = clock.getTickDuration();
+        clock.setTickDuration(tickDuration);
+        if (clock.getTickDuration() == previous || wave == null) return;
+
+        int groupCount = wave.getGroups().size;
+        float[] dueSeconds = new float[groupCount];
+        Arrays.fill(dueSeconds, -1f);
+        int current = (int) (clock.getTick() & WHEEL_MASK);
+        for (int slot = 0; slot < WHEEL_SIZE; slot++) {
+            int ahead = (slot - current) & WHEEL_MASK;
+            if (ahead == 0) ahead = WHEEL_SIZE;
+            for (int g = wheelHead[slot]; g != NONE; g = groupNext[g]) {
+                dueSeconds[g] = (ahead + groupRounds[g] * WHEEL_SIZE) * previous;
+            }
+        }
+        Arrays.fill(wheelHead, NONE);
+        scheduled = 0;
+        for (int g = 0; g < groupCount; g++) {
+            groupIntervalTicks[g] = Math.max(1, clock.ticksFor(wave.getGroups().get(g).getInterval()));
+            if (dueSeconds[g] >= 0f) schedule(g, clock.ticksFor(dueSeconds[g]));
+        }
+    }
+
+    /**
+     * Retire le prochain spawn en attente.
+     * @return index du groupe a faire apparaitre, ou -1 si aucun
+     */
+    public int poll() {
+        if (ringSize == 0) return NONE;
+        int g = ring[ringHead];
+        ringHead = (ringHead + 1) & (ring.length - 1);
+        ringSize--;
+        return g;
+    }
+
+    /**
+     * Retourne le groupe de spawn d'un index renvoye par {@link #poll()}.
+     * @param groupIndex index de groupe
+     * @return groupe de spawn
+     */
+    public SpawnGroup getGroup(int groupIndex) {
+        return wave.getGroups().get(groupIndex);
+    }
+
+    /**
+     * Retourne le nombre de spawns en attente dans le tampon.
+     * @return spawns en attente
+     */
+    public int getPendingCount() {
+        return ringSize;
+    }
+
+    /**
+     * Indique si tous les spawns de la vague ont ete distribues.
+     * @return true si termine
+     */
+    public boolean isFinished() {
+        return scheduled == 0 && ringSize == 0;
+    }
+
+    private void processSlot(int slot) {
+        // Detacher la liste du slot : les groupes replanifies s'y reinserent sans etre revisites
+        int g = wheelHead[slot];
+        wheelHead[slot] = NONE;
+        while (g != NONE) {
+            int next = groupNext[g];
+            if (groupRounds[g] > 0) {
+                groupRounds[g]--;
+                groupNext[g] = wheelHead[slot];
+                wheelHead[slot] = g;
+            } else {
+                scheduled--;
+                fire(g);
+            }
+            g = next;
+        }
+    }
+
+    private void fire(int g) {
+        int n = Math.min(wave.getGroups().get(g).getBurst(), groupRemaining[g]);
+        for (int k = 0; k < n; k++) push(g);
+        groupRemaining[g] -= n;
+        if (groupRemaining[g] > 0) schedule(g, groupIntervalTicks[g]);
+    }
+
+    private void schedule(int g, int ticksFromNow) {
+        int d = Math.max(1, ticksFromNow);
+        int slot = (int) ((clock.getTick() + d) & WHEEL_MASK);
+        groupRounds[g] = (d - 1) / WHEEL_SIZE;
+        groupNext[g] = wheelHead[slot];
+        wheelHead[slot] = g;
+        scheduled++;
+    }
+
+    private void push(int g) {
+        if (ringSize == ring.length) {
+            // Agrandir en conservant l'ordre FIFO
+            int[] grown = new int[ring.length * 2];
+            for (int i = 0; i < ringSize; i++) grown[i] = ring[(ringHead + i) & (ring.length - 1)];
+            ring = grown;
+            ringHead = 0;
+        }
+        ring[(ringHead + ringSize) & (ring.length - 1)] = g;
+        ringSize++;
+    }
+
+    private void ensureGroupCapacity(int count) {
+        if (groupNext.length >= count) return;
+        int cap = Math.max(count, groupNext.length * 2);
+        groupNext = new int[cap];
+        groupRounds = new int[cap];
+        groupRemaining = new int[cap];
+        groupIntervalTicks = new int[cap];
+    }
+}
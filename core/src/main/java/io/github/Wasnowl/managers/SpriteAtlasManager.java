@@ -0,0 +1,124 @@
+package io.github.Wasnowl.managers;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.ObjectSet;
+
+/**
+ * SpriteAtlasManager : acces aux spritesheets des entites depuis l'atlas genere au build
+ * (tache Gradle {@code packAtlases}). Les regions portent le chemin de l'asset sans extension
+ * (ex: "ennemies/1/S_Walk", "towers/Idle/7") : ennemis, tours, projectiles et joueur partagent
+ * une seule texture et le batch ne flush plus a chaque changement d'entite.
+ * Sans atlas, ou pour un sheet absent de l'atlas, la texture individuelle est chargee.
+ * Les textures passent par {@link TextureRegistry} : chaque {@link #getSheet(String)} est
+ * compense par un {@link #releaseSheet(String)}.
+ */
+public class SpriteAtlasManager {
+    /** Chemin de l'atlas des entites (relatif a assets/). */
+    public static final String ATLAS_PATH = "atlas/sprites.atlas";
+    private static SpriteAtlasManager instance;
+
+    // noms des regions de l'atlas (lus sans charger de texture), null si l'atlas est absent
+    private ObjectSet<String> atlasRegions;
+    private boolean atlasChecked;
+
+    private SpriteAtlasManager() {}
+
+    /**
+     * Retourne l'instance singleton du manager.
+     * @return instance unique
+     */
+    public static SpriteAtlasManager getInstance() {
+        if (instance == null) instance = new SpriteAtlasManager();
+        return instance;
+    }
+
+    /**
+     * Prend une reference sur un spritesheet, depuis l'atlas si possible, sinon depuis son fichier.
+     * @param path chemin de l'asset (ex: "ennemies/1/S_Walk.png")
+     * @return region couvrant tout le spritesheet
+     * @throws com.badlogic.gdx.utils.GdxRuntimeException si le fichier n'existe pas
+     */
+    public TextureRegion getSheet(String path) {
+        String name = regionName(path);
+        if (isInAtlas(name)) {
+            TextureAtlas atlas = TextureRegistry.getInstance().acquireAtlas(ATLAS_PATH);
+            return atlas.findRegion(name);
+        }
+        return new TextureRegion(TextureRegistry.getInstance().acquireTexture(path));
+    }
+
+    /**
+     * Prend une reference sur un spritesheet et le met en file de chargement (ecran de chargement) ;
+     * le {@link #getSheet(String)} suivant sera immediat.
+     * @param path chemin de l'asset
+     */
+    public void queueSheet(String path) {
+        if (isInAtlas(regionName(path))) {
+            TextureRegistry.getInstance().queue(ATLAS_PATH, TextureAtlas.class);
+        } else {
+            TextureRegistry.getInstance().queue(path, Texture.class);
+        }
+    }
+
+    /**
+     * Rend la reference prise par {@link #getSheet(String)} ou {@link #queueSheet(String)}.
+     * @param path chemin de l'asset
+     */
+    public void releaseSheet(String path) {
+        TextureRegistry.getInstance().release(isInAtlas(regionName(path)) ? ATLAS_PATH : path);
+    }
+
+    /**
+     * Indique si un spritesheet est disponible (atlas ou fichier).
+     * @param path chemin de l'asset
+     * @return true si {@link #getSheet(String)} peut le charger
+     */
+    public boolean hasSheet(String path) {
+        return isInAtlas(regionName(path)) || AssetIndex.getInstance().contains(path);
+    }
+
+    /**
+     * Decoupe un spritesheet en frames (ligne par ligne).
+     * @param sheet region du spritesheet
+     * @param cols colonnes
+     * @param rows lignes
+     * @return frames a plat
+     */
+    public static TextureRegion[] split(TextureRegion sheet, int cols, int rows) {
+        int frameWidth = sheet.getRegionWidth() / cols;
+        int frameHeight = sheet.getRegionHeight() / rows;
+        TextureRegion[][] temp = sheet.split(frameWidth, frameHeight);
+        TextureRegion[] frames = new TextureRegion[cols * rows];
+        int index = 0;
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                frames[index++] = temp[r][c];
+            }
+        }
+        return frames;
+    }
+
+    private boolean isInAtlas(String name) {
+        if (!atlasChecked) {
+            atlasChecked = true;
+            FileHandle file = Gdx.files.internal(ATLAS_PATH);
+            if (file.exists()) {
+                atlasRegions = new ObjectSet<>();
+                TextureAtlas.TextureAtlasData data = new TextureAtlas.TextureAtlasData(file, file.parent(), false);
+                for (TextureAtlas.TextureAtlasData.Region region : data.getRegions()) atlasRegions.add(region.name);
+            } else {
+                Gdx.app.log("ASSETS", ATLAS_PATH + " absent, chargement des spritesheets individuels");
+            }
+        }
+        return atlasRegions != null && atlasRegions.contains(name);
+    }
+
+    private static String regionName(String path) {
+        int dot = path.lastIndexOf('.');
+        return dot > path.lastIndexOf('/') ? path.substring(0, dot) : path;
+    }
+}
@@ -0,0 +1,152 @@
+package io.github.Wasnowl.managers;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+/**
+ * TextureRegistry : registre unique des ressources graphiques (textures, atlas, skin, polices),
+ * avec compteur de references, adosse a l'{@link AssetManager} de libGDX.
+ * Un meme chemin n'est charge qu'une fois et partage entre tous les managers ; chaque
+ * {@code acquire}/{@link #queue(String, Class)} doit etre compense par un {@link #release(String)}
+ * et la ressource est dechargee des que plus personne ne la reference.
+ * {@link #queue(String, Class)} + {@link #update(int)} chargent en tache de fond (decodage des PNG
+ * hors du thread GL, seul l'envoi au GPU reste sur le thread de rendu) ; un {@code acquire} sur
+ * une ressource pas encore prete termine son chargement de facon synchrone.
+ */
+public class TextureRegistry {
+    private static TextureRegistry instance;
+
+    private final AssetManager assets = new AssetManager();
+    private final ObjectIntMap<String> references = new ObjectIntMap<>();
+    // Ressource attendue par un acquire synchrone (son echec doit interrompre l'attente)
+    private String awaited;
+
+    private TextureRegistry() {
+        assets.setErrorListener((asset, throwable) -> {
+            Gdx.app.error("ASSETS", "Chargement impossible: " + asset.fileName);
+            references.remove(asset.fileName, 0);
+            if (asset.fileName.equals(awaited)) {
+                throw new GdxRuntimeException("Chargement impossible: " + asset.fileName, throwable);
+            }
+        });
+    }
+
+    /**
+     * Retourne l'instance singleton du registre.
+     * @return instance unique
+     */
+    public static TextureRegistry getInstance() {
+        if (instance == null) instance = new TextureRegistry();
+        return instance;
+    }
+
+    /**
+     * Prend une reference sur une ressource et la met en file de chargement si besoin.
+     * @param path chemin de la ressource (relatif a assets/)
+     * @param type type de la ressource (Texture, TextureAtlas, Skin, BitmapFont...)
+     */
+    public void queue(String path, Class<?> type) {
+        if (!references.containsKey(path)) assets.load(path, type);
+        references.getAndIncrement(path, 0, 1);
+    }
+
+    /**
+     * Avance le chargement des ressources en file.
+     * @param millis budget de temps (millisecondes)
+     * @return true si tout est charge
+     */
+    public boolean update(int millis) {
+        return assets.update(millis);
+    }
+
+    /**
+     * Retourne l'avancement du chargement des ressources en file.
+     * @return progression entre 0 et 1
+     */
+    public float getProgress() {
+        return assets.getProgress();
+    }
+
+    /**
+     * Prend une reference sur une ressource, chargee immediatement si elle n'est pas prete.
+     * @param path chemin de la ressource (relatif a assets/)
+     * @param type type de la ressource
+     * @param <T> type de la ressource
+     * @return ressource partagee
+     * @throws GdxRuntimeException si la ressource ne peut pas etre chargee
+     */
+    public <T> T acquire(String path, Class<T> type) {
+        queue(path, type);
+        if (!assets.isLoaded(path, type)) {
+            // s'arrete des que cette ressource est chargee (le reste de la file continue en fond)
+            awaited = path;
+            try {
+                assets.finishLoadingAsset(path);
+            } finally {
+                awaited = null;
+            }
+        }
+        return assets.get(path, type);
+    }
+
+    /**
+     * Prend une reference sur une texture.
+     * @param path chemin de la texture (relatif a assets/)
+     * @return texture partagee
+     * @throws GdxRuntimeException si le fichier n'existe pas
+     */
+    public Texture acquireTexture(String path) {
+        return acquire(path, Texture.class);
+    }
+
+    /**
+     * Prend une reference sur un atlas.
+     * @param path chemin du fichier .atlas (relatif a assets/)
+     * @return atlas partage
+     * @throws GdxRuntimeException si le fichier n'existe pas
+     */
+    public TextureAtlas acquireAtlas(String path) {
+        return acquire(path, TextureAtlas.class);
+    }
+
+    /**
+     * Rend une reference ; la ressource est dechargee quand il n'en reste plus.
+     * @param path chemin passe a {@code acquire} ou {@link #queue(String, Class)}
+     */
+    public void release(String path) {
+        if (!references.containsKey(path)) return;
+        if (references.getAndIncrement(path, 0, -1) > 1) return;
+        references.remove(path, 0);
+        if (assets.contains(path)) assets.unload(path);
+    }
+
+    /**
+     * Retourne le nombre de references sur un chemin.
+     * @param path chemin de la ressource
+     * @return references (0 si non chargee)
+     */
+    public int getReferenceCount(String path) {
+        return references.get(path, 0);
+    }
+
+    /**
+     * Retourne le nombre de ressources referencees.
+     * @return ressources chargees ou en cours de chargement
+     */
+    public int getLoadedCount() {
+        return references.size;
+    }
+
+    /**
+     * Libere toutes les ressources, references restantes comprises (fin du jeu).
+     */
+    public void dispose() {
+        references.clear();
+        assets.dispose();
+        instance = null;
+    }
+}
@@ -0,0 +1,118 @@
+package io.github.Wasnowl.managers;
+
+import io.github.Wasnowl.controllers.GameController;
+
+/**
+ * TickClock : horloge a pas fixe des roues temporelles (spawns, impacts).
+ * Accumule le temps ecoule et le rend par ticks entiers de la duree du pas de simulation
+ * ({@link GameController#getFixedStep()}, transmise par le controleur). La duree peut changer
+ * en cours de partie : le temps deja ecoule est conserve, seuls les ticks suivants changent de duree.
+ * Chaque roue possede sa propre horloge (celle des spawns repart de zero a chaque vague et s'arrete
+ * entre deux vagues) ; seule la duree du pas est commune.
+ */
+public class TickClock {
+    private float tickDuration;
+    private float accumulator;
+    private long tick;
+    // Tick et temps du dernier changement de duree (origine de la conversion temps <-> tick)
+    private long originTick;
+    private double originTime;
+
+    /**
+     * Cree une horloge au tick 0.
+     * @param tickDuration duree d'un tick (secondes)
+     */
+    public TickClock(float tickDuration) {
+        this.tickDuration = tickDuration;
+    }
+
+    /**
+     * Ajoute du temps a consommer par {@link #step()}.
+     * @param delta temps ecoule (secondes)
+     */
+    public void advance(float delta) {
+        accumulator += delta;
+    }
+
+    /**
+     * Avance d'un tick si le temps accumule le permet.
+     * @return false s'il ne reste pas de tick complet
+     */
+    public boolean step() {
+        // tolérance : un pas fixe egal au tick ne doit pas etre perdu par arrondi
+        if (accumulator < tickDuration * 0.999f) return false;
+        accumulator -= tickDuration;
+        tick++;
+        return true;
+    }
+
+    /**
+     * Retourne le tick courant.
+     * @return nombre de ticks ecoules
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Retourne le temps du tick courant.
+     * @return temps (secondes)
+     */
+    public double getTime() {
+        return originTime + (tick - originTick) * (double) tickDuration;
+    }
+
+    /**
+     * Retourne le premier tick dont le temps atteint une date.
+     * @param time date (secondes)
+     * @return tick correspondant
+     */
+    public long tickAt(double time) {
+        return originTick + (long) Math.ceil((time - originTime) / tickDuration - 1e-6);
+    }
+
+    /**
+     * Convertit une duree en nombre de ticks (arrondi).
+     * @param seconds duree (secondes)
+     * @return ticks
+     */
+    public int ticksFor(float seconds) {
+        return Math.round(seconds / tickDuration);
+    }
+
+    /**
+     * Retourne la duree d'un tick.
+     * @return duree (secondes)
+     */
+    public float getTickDuration() {
+        return tickDuration;
+    }
+
+    /**
+     * Change la duree des ticks suivants.
+     * @param tickDuration nouvelle duree (secondes, ignoree si &lt;= 0)
+     */
+    public void setTickDuration(float tickDuration) {
+        if (tickDuration <= 0f || tickDuration == this.tickDuration) return;
+        originTime = getTime();
+        originTick = tick;
+        this.tickDuration = tickDuration;
+    }
+
+    /**
+     * Oublie le temps accumule non consomme.
+     */
+    public void clearAccumulator() {
+        accumulator = 0f;
+    }
+
+    /**
+     * Revient au tick 0 (la duree est conservee).
+     */
+    public void reset() {
+        accumulator = 0f;
+        tick = 0;
+        originTick = 0;
+        originTime = 0.0;
+    }
+}
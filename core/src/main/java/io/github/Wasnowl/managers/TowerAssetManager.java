@@ -1,7 +1,7 @@
 package io.github.Wasnowl.managers;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
 import java.io.File;
 import java.util.HashMap;
 import java.util.Map;
@@ -10,11 +10,17 @@ import java.util.Arrays;
 /**
  * TowerAssetManager : charge les assets des tours (textures, animations)
  * Évite de surcharger la classe Tower avec les logiques de chargement
+ * Les spritesheets sont lus dans l'atlas des entites ({@link SpriteAtlasManager}) quand il existe.
  */
 public class TowerAssetManager {
     private static final String TOWER_ASSETS_PATH = "towers/Idle/";
     private static TowerAssetManager instance;
     private Map<Integer, TextureRegion> cachedTextures = new HashMap<>();
+    // frames partagees par toutes les tours d'un meme sheet : cle "id:colsxrows"
+    private Map<String, TextureRegion[]> cachedAnimations = new HashMap<>();
+    // spritesheets references par les caches (rendus au dispose)
+    private final Array<String> acquiredSheets = new Array<>();
+    private boolean loadingEnabled = true;
     
     private TowerAssetManager() {
     }
@@ -30,6 +36,23 @@ public class TowerAssetManager {
         return instance;
     }
     
+    /**
+     * Active ou desactive le chargement des textures.
+     * Desactive (simulation headless), les chargements retournent null sans erreur.
+     * @param enabled false pour ne charger aucune texture
+     */
+    public void setLoadingEnabled(boolean enabled) {
+        this.loadingEnabled = enabled;
+    }
+
+    /**
+     * Indique si le chargement des textures est actif.
+     * @return true si actif
+     */
+    public boolean isLoadingEnabled() {
+        return loadingEnabled;
+    }
+
     /**
      * Charge la texture d'une tour par son ID
      * Ex: loadTowerTexture(7) charge "assets/towersidle/7.png"
@@ -37,14 +60,15 @@ public class TowerAssetManager {
      * @return texture chargee ou null
      */
     public TextureRegion loadTowerTexture(int towerId) {
+        if (!loadingEnabled) return null;
         if (cachedTextures.containsKey(towerId)) {
             return cachedTextures.get(towerId);
         }
         
         try {
             String path = TOWER_ASSETS_PATH + towerId + ".png";
-            Texture texture = new Texture(path);
-            TextureRegion region = new TextureRegion(texture);
+            TextureRegion region = SpriteAtlasManager.getInstance().getSheet(path);
+            acquiredSheets.add(path);
             cachedTextures.put(towerId, region);
             return region;
         } catch (Exception e) {
@@ -57,31 +81,25 @@ public class TowerAssetManager {
     /**
      * Charge une animation à partir d'un spritesheet
      * Ex: loadTowerAnimationFromSpritesheet(7, 6, 1) découpe l'image 7.png en 6 frames (6 colonnes, 1 ligne)
+     * Les frames sont mises en cache : toutes les tours d'un meme type partagent le meme tableau.
      * @param towerId ID du fichier (exemple: 7 -> towers/Idle/7.png)
      * @param cols Nombre de colonnes
      * @param rows Nombre de lignes
      * @return frames d'animation ou null
      */
     public TextureRegion[] loadTowerAnimationFromSpritesheet(int towerId, int cols, int rows) {
+        if (!loadingEnabled) return null;
+        String key = towerId + ":" + cols + "x" + rows;
+        TextureRegion[] cached = cachedAnimations.get(key);
+        if (cached != null) return cached;
         try {
             String path = TOWER_ASSETS_PATH + towerId + ".png";
-            Texture spritesheet = new Texture(path);
-            
-            // Découper le spritesheet en frames
-            int frameWidth = spritesheet.getWidth() / cols;
-            int frameHeight = spritesheet.getHeight() / rows;
-            
-            TextureRegion[][] temp = TextureRegion.split(spritesheet, frameWidth, frameHeight);
-            
-            // Aplatir en tableau 1D
-            TextureRegion[] frames = new TextureRegion[cols * rows];
-            int index = 0;
-            for (int row = 0; row < rows; row++) {
-                for (int col = 0; col < cols; col++) {
-                    frames[index++] = temp[row][col];
-                }
-            }
+            TextureRegion spritesheet = SpriteAtlasManager.getInstance().getSheet(path);
+            acquiredSheets.add(path);
             
+            // Découper le spritesheet en frames (tableau 1D)
+            TextureRegion[] frames = SpriteAtlasManager.split(spritesheet, cols, rows);
+            cachedAnimations.put(key, frames);
             return frames;
         } catch (Exception e) {
             System.err.println("Erreur : impossible de charger l'animation spritesheet de la tour " + towerId);
@@ -91,14 +109,13 @@ public class TowerAssetManager {
     }
     
     /**
-     * Dispose les assets chargés (quand le jeu se termine)
+     * Dispose les assets chargés (a la sortie de la partie)
+     * Vide les caches et rend les spritesheets au {@link TextureRegistry}.
      */
     public void dispose() {
-        for (TextureRegion region : cachedTextures.values()) {
-            if (region.getTexture() != null) {
-                region.getTexture().dispose();
-            }
-        }
+        for (String path : acquiredSheets) SpriteAtlasManager.getInstance().releaseSheet(path);
+        acquiredSheets.clear();
         cachedTextures.clear();
+        cachedAnimations.clear();
     }
 }
@@ -1,46 +1,69 @@
 package io.github.Wasnowl.managers;
 
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.utils.Array;
-import java.util.List;
-import java.util.ArrayList;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.IntSet;
+import io.github.Wasnowl.controllers.GameController;
 import io.github.Wasnowl.entities.Enemy;
+import io.github.Wasnowl.entities.EnemyHealth;
+import io.github.Wasnowl.entities.EnemyMovement;
+import io.github.Wasnowl.entities.ProjectileType;
 import io.github.Wasnowl.strategies.PathStrategyFactory;
 import java.util.function.IntConsumer;
+import io.github.Wasnowl.model.EnemyStore;
 import io.github.Wasnowl.model.GameState;
+import io.github.Wasnowl.model.WaveDefinition;
+import io.github.Wasnowl.model.WaveDefinition.SpawnGroup;
 
 /**
- * WaveManager: gère le spawn des vagues. Pour la première vague on spawn 3 de chaque ennemi 1..4
+ * WaveManager: gère le spawn des vagues décrites dans assets/waves/waves.json.
+ * Les spawns sont ordonnancés par un {@link SpawnScheduler} (groupes, intervalles, rafales).
  */
 public class WaveManager {
+    /** Fichier de vagues par defaut (relatif aux assets). */
+    public static final String DEFAULT_WAVES_FILE = "waves/waves.json";
+    /** Nombre max de spawns par tick par defaut (les rafales au-dela sont etalees). */
+    public static final int DEFAULT_MAX_SPAWNS_PER_TICK = 256;
+
     private int currentWave = 0;
-    private final Array<Enemy> enemies;
-    private float spawnTimer = 0f;
-    private final float timeBetweenSpawns = 1.5f; // délai entre chaque ennemi
+    private final EnemyStore store;
+    private final EnemyMovement movement;
+    private final EnemyHealth health;
+    private final EnemyPool pool;
+    private final IntArray killed = new IntArray();
+    private int pathId = -1;
+    private int pathWave = -1;
+    private final SpawnScheduler scheduler = new SpawnScheduler(GameController.DEFAULT_FIXED_STEP);
+    private int maxSpawnsPerTick = DEFAULT_MAX_SPAWNS_PER_TICK;
     private int enemiesToSpawn = 0;
     private int enemiesSpawned = 0;
-    private final List<Integer> spawnQueue = new ArrayList<>();
     private final CurrencyManager currencyManager;
     private Runnable onMoneyChanged; // Callback pour mettre à jour l'UI
     private IntConsumer onLifeLost; // Callback pour notifier une perte de vie (int amount)
 
-    // Configuration des vagues (exemple simple)
-    private int[] waveSizes = {5, 10, 15}; // nombre d'ennemis par vague
+    // Configuration des vagues (chargée depuis le JSON)
+    private Array<WaveDefinition> waves = new Array<>();
     private java.util.Map<Integer, Integer> damageByEnemyType = new java.util.HashMap<>();
 
     /**
      * Cree un gestionnaire de vagues avec dependances explicites.
-     * @param enemies liste d'ennemis
+     * @param store store des ennemis
      * @param currencyManager gestionnaire d'argent
      */
-    public WaveManager(Array<Enemy> enemies, CurrencyManager currencyManager) {
-        this.enemies = enemies;
+    public WaveManager(EnemyStore store, CurrencyManager currencyManager) {
+        this.store = store;
+        this.movement = new EnemyMovement(store);
+        this.health = new EnemyHealth(store);
+        this.pool = new EnemyPool(store, health);
         this.currencyManager = currencyManager;
         // valeurs par défaut des dégâts égal au type (1->1, 2->2, etc.)
         for (int i = 1; i <= 4; i++) {
             damageByEnemyType.put(i, i);
         }
+        loadWaves(DEFAULT_WAVES_FILE);
     }
 
     /**
@@ -48,7 +71,7 @@ public class WaveManager {
      * @param state etat du jeu
      */
     public WaveManager(GameState state) {
-        this(state.getEnemies(), state.getCurrencyManager());
+        this(state.getEnemyStore(), state.getCurrencyManager());
     }
 
     /**
@@ -67,6 +90,72 @@ public class WaveManager {
         this.onLifeLost = callback;
     }
 
+    /**
+     * Charge les vagues depuis un fichier JSON interne (voir {@link WaveDefinition}).
+     * Sans backend libGDX (benchmarks) ou si le fichier est absent, aucune vague n'est chargee.
+     * @param path chemin relatif aux assets
+     */
+    public void loadWaves(String path) {
+        if (Gdx.files == null) return;
+        FileHandle file = Gdx.files.internal(path);
+        if (!file.exists()) {
+            System.err.println("Erreur: fichier de vagues introuvable: " + path);
+            return;
+        }
+        try {
+            setWaves(WaveDefinition.load(file));
+        } catch (Exception e) {
+            System.err.println("Erreur: impossible de lire " + path + " -> " + e.getMessage());
+        }
+    }
+
+    /**
+     * Remplace la liste des vagues (les vagues deja jouees sont conservees dans le compte).
+     * @param definitions vagues a jouer
+     */
+    public void setWaves(Array<WaveDefinition> definitions) {
+        this.waves = definitions != null ? definitions : new Array<WaveDefinition>();
+    }
+
+    /**
+     * Charge d'avance les animations de tous les types d'ennemis des vagues definies
+     * (le spawn ne lit plus que le cache d'{@link EnemyAssetManager}).
+     */
+    public void preloadEnemyAssets() {
+        EnemyAssetManager assets = EnemyAssetManager.getInstance();
+        if (!assets.isLoadingEnabled()) return;
+        IntSet types = new IntSet();
+        for (WaveDefinition wave : waves) {
+            for (SpawnGroup group : wave.getGroups()) {
+                if (group.getEnemyType() != -1 && types.add(group.getEnemyType())) assets.preload(group.getEnemyType());
+            }
+        }
+    }
+
+    /**
+     * Retourne le nombre de vagues definies.
+     * @return nombre de vagues
+     */
+    public int getWaveCount() {
+        return waves.size;
+    }
+
+    /**
+     * Aligne la roue des spawns sur le pas de simulation (voir {@link GameController#setFixedStep(float)}).
+     * @param tickDuration duree d'un pas (secondes)
+     */
+    public void setTickDuration(float tickDuration) {
+        scheduler.setTickDuration(tickDuration);
+    }
+
+    /**
+     * Definit le nombre max d'ennemis crees par tick (les rafales plus grosses sont etalees).
+     * @param maxSpawnsPerTick nombre max de spawns par tick
+     */
+    public void setMaxSpawnsPerTick(int maxSpawnsPerTick) {
+        this.maxSpawnsPerTick = Math.max(1, maxSpawnsPerTick);
+    }
+
     /**
      * Remplace ou complète la table de dégâts par type d'ennemi.
      * Exemple: map.put(1,1); map.put(2,2); map.put(3,5);
@@ -82,20 +171,17 @@ public class WaveManager {
      * Lance la prochaine vague (ou signale la fin).
      */
     public void startNextWave() {
-        if (currentWave < waveSizes.length) {
-            enemies.clear();
-            // Pour la 1ère vague, on veut 3 de chaque ennemi 1..4
-            if (currentWave == 0) {
-                spawnQueue.clear();
-                for (int id = 1; id <= 4; id++) {
-                    for (int k = 0; k < 3; k++) spawnQueue.add(id);
-                }
-                enemiesToSpawn = spawnQueue.size();
-            } else {
-                enemiesToSpawn = waveSizes[currentWave];
+        if (currentWave < waves.size) {
+            // Rendre les ennemis restants au pool
+            int[] type = store.getType();
+            for (int i = store.size() - 1; i >= 0; i--) {
+                int enemyType = type[i];
+                pool.release(store.remove(i), enemyType);
             }
+            WaveDefinition wave = waves.get(currentWave);
+            scheduler.start(wave);
+            enemiesToSpawn = wave.getEnemyCount();
             enemiesSpawned = 0;
-            spawnTimer = 0f;
             currentWave++;
         } else {
             System.out.println("Toutes les vagues terminées !");
@@ -107,67 +193,81 @@ public class WaveManager {
      * @param delta temps ecoule (secondes)
      */
     public void update(float delta) {
-        // Spawn progressif des ennemis
-        if (enemiesSpawned < enemiesToSpawn) {
-            spawnTimer += delta;
-            if (spawnTimer >= timeBetweenSpawns) {
-                spawnTimer = 0f;
-                spawnEnemy();
-                enemiesSpawned++;
-            }
+        // Spawn des rafales arrivées à échéance (au plus maxSpawnsPerTick par tick)
+        scheduler.update(delta);
+        for (int n = 0; n < maxSpawnsPerTick; n++) {
+            int group = scheduler.poll();
+            if (group < 0) break;
+            spawnEnemy(scheduler.getGroup(group));
+            enemiesSpawned++;
         }
 
-        // Mise à jour des ennemis existants
-        // Mise à jour des ennemis existants (itération arrière pour suppression sûre)
-        for (int i = enemies.size - 1; i >= 0; i--) {
-            Enemy e = enemies.get(i);
-            e.update(delta);
-            if (e.isDead()) {
+        // Mise à jour des ennemis existants : systèmes sur les colonnes du store
+        movement.update(delta);
+        health.update(delta);
+
+        // Itération arrière : le swap-remove ne déplace que des slots déjà traités
+        int[] state = store.getState();
+        int[] type = store.getType();
+        float[] maxHealth = store.getMaxHealth();
+        for (int i = store.size() - 1; i >= 0; i--) {
+            // Si l'ennemi atteint la fin du chemin, le marquer comme mort
+            if (state[i] < EnemyStore.STATE_DEATH && movement.hasReachedEnd(i)) {
+                store.markReachedEnd(i);
+                health.takeDamage(i, maxHealth[i]);
+            }
+            if (state[i] == EnemyStore.STATE_DEAD) {
                 // Si l'ennemi a atteint la fin du chemin, le joueur perd des vies
-                if (e.hasReachedEndOfPath()) {
+                if (store.hasReachedEnd(i)) {
                     if (onLifeLost != null) {
-                        int damage = getDamageForEnemyType(e.getEnemyType());
+                        int damage = getDamageForEnemyType(type[i]);
                         onLifeLost.accept(damage);
                     }
-                } else {
-                    // Donner de l'argent si l'ennemi n'a pas atteint la fin du chemin
-                    int reward = getRewardForEnemyType(e.getEnemyType());
-                    currencyManager.add(reward);
-                    // Notifier que l'argent a changé
-                    if (onMoneyChanged != null) {
-                        onMoneyChanged.run();
-                    }
                 }
-                enemies.removeIndex(i);
+                int enemyType = type[i]; // lu avant le swap-remove
+                pool.release(store.remove(i), enemyType);
             }
         }
     }
 
-    private void spawnEnemy() {
-        // Si spawnQueue remplie, utiliser les IDs demandés
-        int enemyId = -1;
-        if (!spawnQueue.isEmpty()) {
-            enemyId = spawnQueue.remove(0);
+    /**
+     * Applique les degats enregistres par les projectiles pendant le tick (une passe sur le store)
+     * et credite la recompense des ennemis tues. Appele apres la mise a jour des projectiles.
+     */
+    public void applyDamage() {
+        killed.clear();
+        if (health.applyQueuedDamage(killed) == 0) return;
+        int[] type = store.getType();
+        int reward = 0;
+        for (int i = 0; i < killed.size; i++) {
+            reward += getRewardForEnemyType(type[killed.get(i)]);
         }
+        currencyManager.add(reward);
+        // Notifier que l'argent a changé (une fois par tick)
+        if (onMoneyChanged != null) {
+            onMoneyChanged.run();
+        }
+    }
 
-        Enemy enemy = new Enemy(0, 0, getPathForWave(currentWave), 50f);
-        // Assigner taille raisonnable (ex: 32x32)
-        enemy.setSize(new com.badlogic.gdx.math.Vector2(32f, 32f));
-
-        if (enemyId != -1) {
-            // Charger seulement walk et death au spawn
-            // walk2 sera chargé de manière lazy quand <50% HP
-            TextureRegion[] walk = EnemyAssetManager.getInstance().loadAnimationFromSpritesheet(enemyId, "walk", 6, 1);
-            if (walk != null) enemy.setWalkFrames(walk, 0.1f);
-
-            TextureRegion[] death = EnemyAssetManager.getInstance().loadAnimationFromSpritesheet(enemyId, "death", 6, 1);
-            if (death != null) enemy.setDeathFrames(death, 0.1f);
+    /**
+     * Retourne le total des degats infliges par un type de projectile.
+     * @param type type de projectile
+     * @return degats cumules
+     */
+    public float getDamageDealt(ProjectileType type) {
+        return health.getDamageDealt(type);
+    }
 
-            // Passer l'ID pour lazy loading de walk2
-            enemy.setEnemyId(enemyId);
+    private void spawnEnemy(SpawnGroup group) {
+        int enemyId = group.getEnemyType();
+        if (pathWave != currentWave) {
+            pathId = store.registerPath(getPathForWave(currentWave));
+            pathWave = currentWave;
         }
 
-        enemies.add(enemy);
+        // Vue recyclée (animations déjà chargées) ; store.add réinitialise position, vie, état et chemin
+        Enemy enemy = pool.acquire(enemyId);
+        store.add(enemy, 0f, group.getHealth(), group.getSpeed(), enemyId, pathId);
     }
 
     private Vector2[] getPathForWave(int wave) {
@@ -198,7 +298,23 @@ public class WaveManager {
      * @return true si terminee
      */
     public boolean isWaveFinished() {
-        return enemies.size == 0 && enemiesSpawned == enemiesToSpawn;
+        return store.size() == 0 && scheduler.isFinished();
+    }
+
+    /**
+     * Retourne le nombre d'ennemis de la vague courante restant a faire apparaitre.
+     * @return spawns restants
+     */
+    public int getRemainingSpawns() {
+        return enemiesToSpawn - enemiesSpawned;
+    }
+
+    /**
+     * Retourne le pool des vues ennemies (statistiques, pre-allocation).
+     * @return pool des ennemis
+     */
+    public EnemyPool getEnemyPool() {
+        return pool;
     }
 
     /**
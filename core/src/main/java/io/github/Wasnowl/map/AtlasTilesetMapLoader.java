@@ -0,0 +1,85 @@
+package io.github.Wasnowl.map;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.ObjectMap;
+import io.github.Wasnowl.managers.TextureRegistry;
+
+/**
+ * AtlasTilesetMapLoader : charge une map .tmx en resolvant les images des tilesets dans l'atlas
+ * genere au build (tache Gradle {@code packMapAtlas}) au lieu d'une texture par image.
+ * Les tilesets "collection d'images" (Objects_Props, Objects_Trees...) et les tilesets en grille
+ * pointent alors sur quelques pages partagees : les gids restent ceux de la map, seules leurs
+ * regions changent. Une image absente de l'atlas est chargee depuis son fichier.
+ * Atlas et textures passent par le {@link TextureRegistry} : {@code map.dispose()} rend les references.
+ */
+public class AtlasTilesetMapLoader extends TmxMapLoader {
+    /** Chemin de l'atlas des tilesets (relatif a assets/). */
+    public static final String ATLAS_PATH = "atlas/map.atlas";
+
+    /**
+     * Charge une map avec l'atlas par defaut ({@link #ATLAS_PATH}) s'il existe.
+     * La map reference l'atlas : {@code map.dispose()} le rend au registre.
+     * @param fileName chemin de la map
+     * @return map chargee
+     */
+    @Override
+    public TiledMap load(String fileName) {
+        FileHandle atlasFile = Gdx.files.internal(ATLAS_PATH);
+        if (!atlasFile.exists()) return super.load(fileName);
+        TextureAtlas atlas = TextureRegistry.getInstance().acquireAtlas(ATLAS_PATH);
+        Array<Disposable> owned = new Array<>();
+        owned.add(() -> TextureRegistry.getInstance().release(ATLAS_PATH));
+        return load(fileName, atlas, owned);
+    }
+
+    /**
+     * Charge une map dont les images des tilesets sont lues dans un atlas (non possede par la map).
+     * @param fileName chemin de la map
+     * @param atlas atlas des tilesets (regions nommees par chemin d'image sans extension)
+     * @return map chargee
+     */
+    public TiledMap load(String fileName, TextureAtlas atlas) {
+        return load(fileName, atlas, new Array<Disposable>());
+    }
+
+    private TiledMap load(String fileName, TextureAtlas atlas, Array<Disposable> owned) {
+        Parameters parameter = new Parameters();
+        FileHandle tmxFile = resolve(fileName);
+        this.root = xml.parse(tmxFile);
+
+        ObjectMap<String, TextureRegion> regions = new ObjectMap<>();
+        for (FileHandle image : getDependencyFileHandles(tmxFile)) {
+            String path = image.path();
+            if (regions.containsKey(path)) continue;
+            TextureRegion region = atlas.findRegion(regionName(path));
+            if (region == null) {
+                Texture texture = TextureRegistry.getInstance().acquireTexture(path);
+                owned.add(() -> TextureRegistry.getInstance().release(path));
+                region = new TextureRegion(texture);
+            }
+            regions.put(path, region);
+        }
+
+        TiledMap map = loadTiledMap(tmxFile, parameter, regions::get);
+        map.setOwnedResources(owned);
+        return map;
+    }
+
+    /**
+     * Nom de la region d'atlas d'une image : son chemin sans extension.
+     * @param path chemin de l'image (relatif a assets/)
+     * @return nom de region
+     */
+    public static String regionName(String path) {
+        int dot = path.lastIndexOf('.');
+        return dot > path.lastIndexOf('/') ? path.substring(0, dot) : path;
+    }
+}
@@ -0,0 +1,187 @@
+package io.github.Wasnowl.map;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.maps.tiled.renderers.BatchTiledMapRenderer;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * BlurredBackground : fond flou de la map, calcule une fois puis simplement recopie a chaque frame.
+ * La map est rendue entiere dans un FrameBuffer, reduite d'un facteur {@link #DOWNSAMPLE} puis floutee
+ * par un gaussien separable (une passe horizontale, une verticale). Le resultat n'est recalcule que
+ * si la taille de l'ecran change ({@link #render(Batch, int, int)}) ou si la map change
+ * ({@link #invalidate()}) ; le rendu d'une frame est un seul quad sans shader de flou.
+ */
+public class BlurredBackground implements Disposable {
+    /** Facteur de reduction de la texture floutee par rapport a sa taille a l'ecran. */
+    public static final int DOWNSAMPLE = 2;
+    private static final String VERTEX_SHADER =
+        "attribute vec4 a_position;\n" +
+        "attribute vec4 a_color;\n" +
+        "attribute vec2 a_texCoord0;\n" +
+        "uniform mat4 u_projTrans;\n" +
+        "varying vec4 v_color;\n" +
+        "varying vec2 v_texCoords;\n" +
+        "void main() {\n" +
+        "    v_color = a_color;\n" +
+        "    v_texCoords = a_texCoord0;\n" +
+        "    gl_Position = u_projTrans * a_position;\n" +
+        "}\n";
+    // gaussien 9 taps en 5 lectures (filtrage lineaire entre deux texels)
+    private static final String FRAGMENT_SHADER =
+        "#ifdef GL_ES\n" +
+        "precision mediump float;\n" +
+        "#endif\n" +
+        "varying vec4 v_color;\n" +
+        "varying vec2 v_texCoords;\n" +
+        "uniform sampler2D u_texture;\n" +
+        "uniform vec2 u_direction;\n" +
+        "void main() {\n" +
+        "    vec2 near = u_direction * 1.3846153846;\n" +
+        "    vec2 far = u_direction * 3.2307692308;\n" +
+        "    vec4 sum = texture2D(u_texture, v_texCoords) * 0.2270270270;\n" +
+        "    sum += texture2D(u_texture, v_texCoords + near) * 0.3162162162;\n" +
+        "    sum += texture2D(u_texture, v_texCoords - near) * 0.3162162162;\n" +
+        "    sum += texture2D(u_texture, v_texCoords + far) * 0.0702702703;\n" +
+        "    sum += texture2D(u_texture, v_texCoords - far) * 0.0702702703;\n" +
+        "    gl_FragColor = v_color * sum;\n" +
+        "}\n";
+
+    private final BatchTiledMapRenderer renderer;
+    private final int mapWidth;
+    private final int mapHeight;
+    private final OrthographicCamera camera = new OrthographicCamera();
+    private ShaderProgram shader;
+    private FrameBuffer mapBuffer;
+    private FrameBuffer horizontalBuffer;
+    private FrameBuffer blurBuffer;
+    private int screenWidth;
+    private int screenHeight;
+
+    /**
+     * Cree le fond flou d'une map ; le premier calcul a lieu au premier rendu.
+     * @param renderer renderer de la map
+     * @param mapWidth largeur de la map (pixels)
+     * @param mapHeight hauteur de la map (pixels)
+     */
+    public BlurredBackground(BatchTiledMapRenderer renderer, int mapWidth, int mapHeight) {
+        this.renderer = renderer;
+        this.mapWidth = mapWidth;
+        this.mapHeight = mapHeight;
+        shader = new ShaderProgram(VERTEX_SHADER, FRAGMENT_SHADER);
+        if (!shader.isCompiled()) {
+            Gdx.app.log("SHADER", "Blur shader compile error: " + shader.getLog());
+            shader.dispose();
+            shader = null;
+        }
+    }
+
+    /**
+     * Dessine le fond flou couvrant l'ecran (recalcule si la taille de l'ecran a change).
+     * Le batch ne doit pas etre commence ; sa matrice de projection est remplacee.
+     * @param batch batch de rendu
+     * @param width largeur de l'ecran
+     * @param height hauteur de l'ecran
+     */
+    public void render(Batch batch, int width, int height) {
+        if (shader == null || width <= 0 || height <= 0) return;
+        if (blurBuffer == null || width != screenWidth || height != screenHeight) rebuild(batch, width, height);
+
+        Gdx.gl.glViewport(0, 0, width, height);
+        float scale = Math.max((float) width / mapWidth, (float) height / mapHeight);
+        float drawWidth = mapWidth * scale;
+        float drawHeight = mapHeight * scale;
+        camera.setToOrtho(false, width, height);
+        batch.setProjectionMatrix(camera.combined);
+        batch.begin();
+        drawFlipped(batch, blurBuffer.getColorBufferTexture(),
+            (width - drawWidth) / 2f, (height - drawHeight) / 2f, drawWidth, drawHeight);
+        batch.end();
+    }
+
+    /**
+     * Force le rendu de la map et le flou au prochain {@link #render(Batch, int, int)} (map modifiee).
+     */
+    public void invalidate() {
+        if (mapBuffer != null) mapBuffer.dispose();
+        mapBuffer = null;
+        disposeBlurBuffers();
+    }
+
+    /**
+     * Libere les FrameBuffers et le shader.
+     */
+    @Override
+    public void dispose() {
+        invalidate();
+        if (shader != null) shader.dispose();
+        shader = null;
+    }
+
+    private void rebuild(Batch batch, int width, int height) {
+        if (mapBuffer == null) renderMap();
+        disposeBlurBuffers();
+        screenWidth = width;
+        screenHeight = height;
+
+        // taille du fond a l'ecran (il couvre l'ecran), reduite
+        float scale = Math.max((float) width / mapWidth, (float) height / mapHeight);
+        int blurWidth = Math.max(1, Math.round(mapWidth * scale / DOWNSAMPLE));
+        int blurHeight = Math.max(1, Math.round(mapHeight * scale / DOWNSAMPLE));
+        horizontalBuffer = createBuffer(blurWidth, blurHeight);
+        blurBuffer = createBuffer(blurWidth, blurHeight);
+
+        camera.setToOrtho(false, blurWidth, blurHeight);
+        batch.setProjectionMatrix(camera.combined);
+        blurPass(batch, mapBuffer, horizontalBuffer, 1f / blurWidth, 0f);
+        blurPass(batch, horizontalBuffer, blurBuffer, 0f, 1f / blurHeight);
+    }
+
+    private void renderMap() {
+        mapBuffer = createBuffer(mapWidth, mapHeight);
+        mapBuffer.begin();
+        Gdx.gl.glClearColor(0, 0, 0, 1);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        camera.setToOrtho(false, mapWidth, mapHeight);
+        renderer.setView(camera);
+        renderer.render();
+        mapBuffer.end();
+    }
+
+    private void blurPass(Batch batch, FrameBuffer source, FrameBuffer target, float stepX, float stepY) {
+        target.begin();
+        Gdx.gl.glClearColor(0, 0, 0, 1);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        batch.setShader(shader);
+        batch.begin();
+        shader.setUniformf("u_direction", stepX, stepY);
+        drawFlipped(batch, source.getColorBufferTexture(), 0, 0, target.getWidth(), target.getHeight());
+        batch.end();
+        batch.setShader(null);
+        target.end();
+    }
+
+    // les textures des FrameBuffers sont a l'envers (origine en bas)
+    private static void drawFlipped(Batch batch, Texture texture, float x, float y, float width, float height) {
+        batch.draw(texture, x, y, width, height, 0f, 0f, 1f, 1f);
+    }
+
+    private static FrameBuffer createBuffer(int width, int height) {
+        FrameBuffer buffer = new FrameBuffer(Pixmap.Format.RGBA8888, width, height, false);
+        buffer.getColorBufferTexture().setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+        return buffer;
+    }
+
+    private void disposeBlurBuffers() {
+        if (horizontalBuffer != null) horizontalBuffer.dispose();
+        if (blurBuffer != null) blurBuffer.dispose();
+        horizontalBuffer = null;
+        blurBuffer = null;
+    }
+}
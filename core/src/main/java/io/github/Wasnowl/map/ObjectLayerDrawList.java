@@ -0,0 +1,151 @@
+package io.github.Wasnowl.map;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.MapObject;
+import com.badlogic.gdx.maps.MapObjects;
+import com.badlogic.gdx.maps.MapProperties;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTile;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.tiles.AnimatedTiledMapTile;
+
+/**
+ * ObjectLayerDrawList : liste de dessin precalculee des objets tuiles des object layers.
+ * Les proprietes (gid, x, y) et les tuiles sont resolues une seule fois au chargement de la map ;
+ * chaque frame ne fait que parcourir des tableaux primitifs, ecarter les objets hors camera et dessiner.
+ * Les objets sont regroupes par texture sans jamais inverser l'ordre de deux objets qui se chevauchent.
+ */
+public class ObjectLayerDrawList {
+    private TextureRegion[] regions = new TextureRegion[16];
+    private TiledMapTile[] animatedTiles = new TiledMapTile[16];
+    private float[] x = new float[16];
+    private float[] y = new float[16];
+    private float[] width = new float[16];
+    private float[] height = new float[16];
+    private int size;
+    private int drawnCount;
+
+    /**
+     * Compile les object layers d'une map (ordre des layers puis des objets).
+     * @param map map chargee
+     */
+    public ObjectLayerDrawList(TiledMap map) {
+        for (MapLayer layer : map.getLayers()) {
+            if (layer instanceof TiledMapTileLayer) continue;
+            MapObjects objects = layer.getObjects();
+            if (objects == null) continue;
+            for (MapObject object : objects) {
+                MapProperties properties = object.getProperties();
+                Object gid = properties.get("gid");
+                if (!(gid instanceof Number)) continue;
+                TiledMapTile tile = map.getTileSets().getTile(((Number) gid).intValue());
+                if (tile == null || tile.getTextureRegion() == null) continue;
+                add(tile, ((Number) properties.get("x")).floatValue(), ((Number) properties.get("y")).floatValue());
+            }
+        }
+    }
+
+    /**
+     * Dessine les objets visibles par la camera (le batch doit etre actif).
+     * @param batch batch actif
+     * @param camera camera courante
+     */
+    public void render(Batch batch, OrthographicCamera camera) {
+        float halfWidth = camera.viewportWidth * camera.zoom * 0.5f;
+        float halfHeight = camera.viewportHeight * camera.zoom * 0.5f;
+        float minX = camera.position.x - halfWidth;
+        float maxX = camera.position.x + halfWidth;
+        float minY = camera.position.y - halfHeight;
+        float maxY = camera.position.y + halfHeight;
+
+        int drawn = 0;
+        for (int i = 0; i < size; i++) {
+            if (x[i] > maxX || y[i] > maxY || x[i] + width[i] < minX || y[i] + height[i] < minY) continue;
+            TextureRegion region = animatedTiles[i] != null ? animatedTiles[i].getTextureRegion() : regions[i];
+            batch.draw(region, x[i], y[i]);
+            drawn++;
+        }
+        drawnCount = drawn;
+    }
+
+    /**
+     * Retourne le nombre d'objets compiles.
+     * @return nombre d'objets
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Retourne le nombre d'objets dessines lors du dernier rendu.
+     * @return objets visibles
+     */
+    public int getDrawnCount() {
+        return drawnCount;
+    }
+
+    private void add(TiledMapTile tile, float objX, float objY) {
+        TextureRegion region = tile.getTextureRegion();
+        float w = region.getRegionWidth();
+        float h = region.getRegionHeight();
+        Texture texture = region.getTexture();
+
+        // L'objet doit rester apres le dernier objet qu'il chevauche ; au-dela, on le colle
+        // au dernier objet de meme texture pour eviter un changement de texture au rendu
+        int insertAt = size;
+        for (int i = size - 1; i >= 0; i--) {
+            if (regions[i].getTexture() == texture) {
+                insertAt = i + 1;
+                break;
+            }
+            if (overlaps(i, objX, objY, w, h)) break;
+        }
+
+        ensureCapacity(size + 1);
+        int moved = size - insertAt;
+        if (moved > 0) {
+            System.arraycopy(regions, insertAt, regions, insertAt + 1, moved);
+            System.arraycopy(animatedTiles, insertAt, animatedTiles, insertAt + 1, moved);
+            System.arraycopy(x, insertAt, x, insertAt + 1, moved);
+            System.arraycopy(y, insertAt, y, insertAt + 1, moved);
+            System.arraycopy(width, insertAt, width, insertAt + 1, moved);
+            System.arraycopy(height, insertAt, height, insertAt + 1, moved);
+        }
+        regions[insertAt] = region;
+        animatedTiles[insertAt] = tile instanceof AnimatedTiledMapTile ? tile : null;
+        x[insertAt] = objX;
+        y[insertAt] = objY;
+        width[insertAt] = w;
+        height[insertAt] = h;
+        size++;
+    }
+
+    private boolean overlaps(int i, float objX, float objY, float w, float h) {
+        return x[i] < objX + w && objX < x[i] + width[i] && y[i] < objY + h && objY < y[i] + height[i];
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (regions.length >= capacity) return;
+        int cap = Math.max(capacity, regions.length * 2);
+        TextureRegion[] newRegions = new TextureRegion[cap];
+        System.arraycopy(regions, 0, newRegions, 0, size);
+        regions = newRegions;
+        TiledMapTile[] newAnimated = new TiledMapTile[cap];
+        System.arraycopy(animatedTiles, 0, newAnimated, 0, size);
+        animatedTiles = newAnimated;
+        x = grow(x, cap);
+        y = grow(y, cap);
+        width = grow(width, cap);
+        height = grow(height, cap);
+    }
+
+    private float[] grow(float[] array, int capacity) {
+        float[] grown = new float[capacity];
+        System.arraycopy(array, 0, grown, 0, size);
+        return grown;
+    }
+}
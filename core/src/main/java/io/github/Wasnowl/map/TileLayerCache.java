@@ -0,0 +1,324 @@
+package io.github.Wasnowl.map;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTile;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.renderers.BatchTiledMapRenderer;
+import com.badlogic.gdx.maps.tiled.tiles.AnimatedTiledMapTile;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * TileLayerCache : rendu des tile layers statiques depuis des SpriteCache construits au chargement.
+ * Chaque layer est decoupe en chunks de {@link #CHUNK_TILES} x {@link #CHUNK_TILES} tuiles ; un chunk
+ * visible coute un seul appel de dessin et aucun sommet n'est renvoye au GPU.
+ * Les tuiles animees (fleurs, feu de camp) sont dessinees a chaque frame par le batch du renderer,
+ * juste apres les tuiles statiques de leur chunk ;
+ * les autres layers (images, groupes, parallaxe) sont delegues au renderer.
+ * L'opacite et la teinte des layers sont figees a la construction.
+ */
+public class TileLayerCache implements Disposable {
+    /** Cote d'un chunk (en tuiles). */
+    public static final int CHUNK_TILES = 16;
+    private static final int CACHE_SIZE = 8191; // max d'un SpriteCache indexe
+    private static final int VERTEX_SIZE = 20;
+
+    private final BatchTiledMapRenderer renderer;
+    private final float unitScale;
+    private final Array<SpriteCache> caches = new Array<>();
+    private final Array<CachedLayer> layers = new Array<>();
+    private final float[] vertices = new float[VERTEX_SIZE];
+    private SpriteCache building;
+    private int buildingCount;
+    private int drawnChunks;
+
+    /**
+     * Construit les caches de tous les tile layers de la map.
+     * @param map map chargee
+     * @param renderer renderer de la map (tuiles animees et layers non caches)
+     */
+    public TileLayerCache(TiledMap map, BatchTiledMapRenderer renderer) {
+        this.renderer = renderer;
+        this.unitScale = renderer.getUnitScale();
+        for (MapLayer layer : map.getLayers()) {
+            CachedLayer cached = new CachedLayer(layer);
+            if (layer instanceof TiledMapTileLayer && layer.getParallaxX() == 1f && layer.getParallaxY() == 1f) {
+                buildLayer((TiledMapTileLayer) layer, cached);
+            }
+            layers.add(cached);
+        }
+    }
+
+    /**
+     * Dessine la map vue par la camera (a la place de {@code renderer.render()}).
+     * @param camera camera courante
+     */
+    public void render(OrthographicCamera camera) {
+        AnimatedTiledMapTile.updateAnimationBaseTime();
+        renderer.setView(camera);
+        float halfWidth = camera.viewportWidth * camera.zoom * 0.5f;
+        float halfHeight = camera.viewportHeight * camera.zoom * 0.5f;
+        float minX = camera.position.x - halfWidth;
+        float maxX = camera.position.x + halfWidth;
+        float minY = camera.position.y - halfHeight;
+        float maxY = camera.position.y + halfHeight;
+
+        Batch batch = renderer.getBatch();
+        int drawn = 0;
+        for (int l = 0; l < layers.size; l++) {
+            CachedLayer cached = layers.get(l);
+            if (!cached.layer.isVisible()) continue;
+            if (cached.chunks == null) {
+                batch.begin();
+                renderer.renderMapLayer(cached.layer);
+                batch.end();
+                continue;
+            }
+
+            TiledMapTileLayer layer = (TiledMapTileLayer) cached.layer;
+            SpriteCache current = null;
+            for (int c = 0; c < cached.chunks.length; c++) {
+                Chunk chunk = cached.chunks[c];
+                if (chunk.minX > maxX || chunk.minY > maxY || chunk.maxX < minX || chunk.maxY < minY) continue;
+                if (chunk.id >= 0) {
+                    if (chunk.cache != current) {
+                        endCache(current);
+                        current = chunk.cache;
+                        beginCache(current, camera);
+                    }
+                    current.draw(chunk.id);
+                    drawn++;
+                }
+                // Tuiles animees du chunk juste apres ses tuiles statiques (ordre des chunks conserve)
+                if (chunk.animatedCells != null) {
+                    endCache(current);
+                    current = null;
+                    batch.begin();
+                    drawAnimated(batch, layer, chunk.animatedCells, cached.color, minX, minY, maxX, maxY);
+                    batch.end();
+                }
+            }
+            endCache(current);
+        }
+        drawnChunks = drawn;
+    }
+
+    private void beginCache(SpriteCache cache, OrthographicCamera camera) {
+        // SpriteBatch.end() coupe le blending et SpriteCache ne le gere pas : transparence des layers
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        cache.setProjectionMatrix(camera.combined);
+        cache.begin();
+    }
+
+    private void endCache(SpriteCache cache) {
+        if (cache == null) return;
+        cache.end();
+        Gdx.gl.glDisable(GL20.GL_BLEND);
+    }
+
+    private void drawAnimated(Batch batch, TiledMapTileLayer layer, IntArray cells, float color,
+                              float minX, float minY, float maxX, float maxY) {
+        float tileWidth = layer.getTileWidth() * unitScale;
+        float tileHeight = layer.getTileHeight() * unitScale;
+        for (int i = 0; i < cells.size; i++) {
+            int packed = cells.get(i);
+            int col = packed >>> 16;
+            int row = packed & 0xFFFF;
+            float x = col * tileWidth;
+            float y = row * tileHeight;
+            if (x > maxX || y > maxY || x + tileWidth < minX || y + tileHeight < minY) continue;
+            TiledMapTileLayer.Cell cell = layer.getCell(col, row);
+            Texture texture = fillVertices(layer, cell, x, y, color);
+            batch.draw(texture, vertices, 0, VERTEX_SIZE);
+        }
+    }
+
+    /**
+     * Retourne le nombre de chunks dessines lors du dernier rendu.
+     * @return chunks visibles
+     */
+    public int getDrawnChunks() {
+        return drawnChunks;
+    }
+
+    /**
+     * Libere les SpriteCache.
+     */
+    @Override
+    public void dispose() {
+        for (SpriteCache cache : caches) cache.dispose();
+        caches.clear();
+    }
+
+    private void buildLayer(TiledMapTileLayer layer, CachedLayer cached) {
+        Color tint = layer.getCombinedTintColor();
+        cached.color = Color.toFloatBits(tint.r, tint.g, tint.b, tint.a * layer.getOpacity());
+        float tileWidth = layer.getTileWidth() * unitScale;
+        float tileHeight = layer.getTileHeight() * unitScale;
+        int chunksX = (layer.getWidth() + CHUNK_TILES - 1) / CHUNK_TILES;
+        int chunksY = (layer.getHeight() + CHUNK_TILES - 1) / CHUNK_TILES;
+        Array<Chunk> chunks = new Array<>();
+
+        for (int cy = 0; cy < chunksY; cy++) {
+            for (int cx = 0; cx < chunksX; cx++) {
+                int col1 = cx * CHUNK_TILES;
+                int col2 = Math.min(layer.getWidth(), col1 + CHUNK_TILES);
+                int row1 = cy * CHUNK_TILES;
+                int row2 = Math.min(layer.getHeight(), row1 + CHUNK_TILES);
+
+                int count = 0;
+                IntArray animated = null;
+                // Meme ordre que OrthogonalTiledMapRenderer : lignes du haut vers le bas
+                for (int row = row2 - 1; row >= row1; row--) {
+                    for (int col = col1; col < col2; col++) {
+                        TiledMapTileLayer.Cell cell = layer.getCell(col, row);
+                        if (cell == null || cell.getTile() == null) continue;
+                        if (cell.getTile() instanceof AnimatedTiledMapTile) {
+                            if (animated == null) animated = new IntArray();
+                            animated.add(col << 16 | row);
+                        } else {
+                            count++;
+                        }
+                    }
+                }
+                if (count == 0 && animated == null) continue;
+
+                Chunk chunk = new Chunk();
+                chunk.animatedCells = animated;
+                chunk.minX = Float.MAX_VALUE;
+                chunk.minY = Float.MAX_VALUE;
+                chunk.maxX = -Float.MAX_VALUE;
+                chunk.maxY = -Float.MAX_VALUE;
+                if (animated != null) {
+                    chunk.minX = Math.min(chunk.minX, col1 * tileWidth);
+                    chunk.minY = Math.min(chunk.minY, row1 * tileHeight);
+                    chunk.maxX = Math.max(chunk.maxX, col2 * tileWidth);
+                    chunk.maxY = Math.max(chunk.maxY, row2 * tileHeight);
+                }
+                if (count == 0) {
+                    chunks.add(chunk);
+                    continue;
+                }
+
+                ensureRoom(count);
+                chunk.cache = building;
+                building.beginCache();
+                for (int row = row2 - 1; row >= row1; row--) {
+                    for (int col = col1; col < col2; col++) {
+                        TiledMapTileLayer.Cell cell = layer.getCell(col, row);
+                        if (cell == null || cell.getTile() == null || cell.getTile() instanceof AnimatedTiledMapTile) continue;
+                        Texture texture = fillVertices(layer, cell, col * tileWidth, row * tileHeight, cached.color);
+                        building.add(texture, vertices, 0, VERTEX_SIZE);
+                        for (int v = 0; v < VERTEX_SIZE; v += 5) {
+                            chunk.minX = Math.min(chunk.minX, vertices[v]);
+                            chunk.maxX = Math.max(chunk.maxX, vertices[v]);
+                            chunk.minY = Math.min(chunk.minY, vertices[v + 1]);
+                            chunk.maxY = Math.max(chunk.maxY, vertices[v + 1]);
+                        }
+                    }
+                }
+                chunk.id = building.endCache();
+                buildingCount += count;
+                chunks.add(chunk);
+            }
+        }
+        cached.chunks = chunks.toArray(Chunk[]::new);
+    }
+
+    private void ensureRoom(int count) {
+        if (building != null && buildingCount + count <= CACHE_SIZE) return;
+        building = new SpriteCache(CACHE_SIZE, true);
+        buildingCount = 0;
+        caches.add(building);
+    }
+
+    private Texture fillVertices(TiledMapTileLayer layer, TiledMapTileLayer.Cell cell, float x, float y, float color) {
+        // Meme calcul que OrthogonalTiledMapRenderer.renderTileLayer (retournements et rotations compris)
+        TiledMapTile tile = cell.getTile();
+        TextureRegion region = tile.getTextureRegion();
+        float x1 = x + tile.getOffsetX() * unitScale + layer.getRenderOffsetX() * unitScale;
+        float y1 = y + tile.getOffsetY() * unitScale - layer.getRenderOffsetY() * unitScale;
+        float x2 = x1 + region.getRegionWidth() * unitScale;
+        float y2 = y1 + region.getRegionHeight() * unitScale;
+        float u1 = region.getU();
+        float v1 = region.getV2();
+        float u2 = region.getU2();
+        float v2 = region.getV();
+
+        float[] vx = vertices;
+        vx[0] = x1; vx[1] = y1; vx[2] = color; vx[3] = u1; vx[4] = v1;
+        vx[5] = x1; vx[6] = y2; vx[7] = color; vx[8] = u1; vx[9] = v2;
+        vx[10] = x2; vx[11] = y2; vx[12] = color; vx[13] = u2; vx[14] = v2;
+        vx[15] = x2; vx[16] = y1; vx[17] = color; vx[18] = u2; vx[19] = v1;
+
+        if (cell.getFlipHorizontally()) {
+            swap(3, 13);
+            swap(8, 18);
+        }
+        if (cell.getFlipVertically()) {
+            swap(4, 14);
+            swap(9, 19);
+        }
+        switch (cell.getRotation()) {
+            case TiledMapTileLayer.Cell.ROTATE_90:
+                rotate(4, 9, 14, 19);
+                rotate(3, 8, 13, 18);
+                break;
+            case TiledMapTileLayer.Cell.ROTATE_180:
+                swap(3, 13);
+                swap(8, 18);
+                swap(4, 14);
+                swap(9, 19);
+                break;
+            case TiledMapTileLayer.Cell.ROTATE_270:
+                rotate(4, 19, 14, 9);
+                rotate(3, 18, 13, 8);
+                break;
+            default:
+                break;
+        }
+        return region.getTexture();
+    }
+
+    private void swap(int a, int b) {
+        float tmp = vertices[a];
+        vertices[a] = vertices[b];
+        vertices[b] = tmp;
+    }
+
+    private void rotate(int a, int b, int c, int d) {
+        float tmp = vertices[a];
+        vertices[a] = vertices[b];
+        vertices[b] = vertices[c];
+        vertices[c] = vertices[d];
+        vertices[d] = tmp;
+    }
+
+    private static class CachedLayer {
+        final MapLayer layer;
+        Chunk[] chunks; // null : layer rendu par le renderer
+        float color;
+
+        CachedLayer(MapLayer layer) {
+            this.layer = layer;
+        }
+    }
+
+    private static class Chunk {
+        SpriteCache cache;
+        int id = -1; // -1 : chunk sans tuile statique
+        IntArray animatedCells; // null : aucune tuile animee
+        float minX, minY, maxX, maxY;
+    }
+}
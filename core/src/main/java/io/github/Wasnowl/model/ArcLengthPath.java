@@ -0,0 +1,157 @@
+package io.github.Wasnowl.model;
+
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * ArcLengthPath : chemin compile une fois en table d'abscisses curvilignes.
+ * Pour chaque point, la distance cumulee depuis le debut ; pour chaque segment, sa direction unitaire.
+ * Une position sur le chemin est alors une fonction de la seule distance parcourue :
+ * recherche du segment (curseur, amorti O(1) pour une distance croissante) puis un mulAdd.
+ * Une distance au-dela de la longueur totale reste sur le dernier point (aucun depassement).
+ */
+public class ArcLengthPath {
+    private final float[] xs;
+    private final float[] ys;
+    // cumulative[i] : distance du debut au point i
+    private final float[] cumulative;
+    private final float[] dirX;
+    private final float[] dirY;
+    private final int segmentCount;
+
+    /**
+     * Compile un chemin.
+     * @param points points du chemin (au moins un)
+     */
+    public ArcLengthPath(Vector2[] points) {
+        int n = points.length;
+        xs = new float[n];
+        ys = new float[n];
+        cumulative = new float[n];
+        segmentCount = Math.max(0, n - 1);
+        dirX = new float[Math.max(1, segmentCount)];
+        dirY = new float[Math.max(1, segmentCount)];
+        for (int i = 0; i < n; i++) {
+            xs[i] = points[i].x;
+            ys[i] = points[i].y;
+            if (i == 0) continue;
+            float dx = xs[i] - xs[i - 1];
+            float dy = ys[i] - ys[i - 1];
+            float length = (float) Math.sqrt(dx * dx + dy * dy);
+            cumulative[i] = cumulative[i - 1] + length;
+            if (length > 0f) {
+                dirX[i - 1] = dx / length;
+                dirY[i - 1] = dy / length;
+            }
+        }
+    }
+
+    /**
+     * Retourne la longueur totale du chemin.
+     * @return longueur (pixels)
+     */
+    public float getLength() {
+        return cumulative[cumulative.length - 1];
+    }
+
+    /**
+     * Retourne le segment contenant une distance, en partant d'un segment connu.
+     * @param distance distance le long du chemin
+     * @param hint segment de depart (ex: segment du tick precedent)
+     * @return index du segment (0 si le chemin n'a qu'un point)
+     */
+    public int segmentAt(float distance, int hint) {
+        if (segmentCount == 0) return 0;
+        int s = hint < 0 ? 0 : Math.min(hint, segmentCount - 1);
+        while (s < segmentCount - 1 && distance >= cumulative[s + 1]) s++;
+        while (s > 0 && distance < cumulative[s]) s--;
+        return s;
+    }
+
+    /**
+     * Retourne la coordonnee X a une distance, sur un segment donne par {@link #segmentAt}.
+     * @param segment segment contenant la distance
+     * @param distance distance le long du chemin
+     * @return position X
+     */
+    public float xAt(int segment, float distance) {
+        return xs[segment] + dirX[segment] * along(segment, distance);
+    }
+
+    /**
+     * Retourne la coordonnee Y a une distance, sur un segment donne par {@link #segmentAt}.
+     * @param segment segment contenant la distance
+     * @param distance distance le long du chemin
+     * @return position Y
+     */
+    public float yAt(int segment, float distance) {
+        return ys[segment] + dirY[segment] * along(segment, distance);
+    }
+
+    /**
+     * Calcule la position a une distance le long du chemin.
+     * @param distance distance le long du chemin
+     * @param hint segment de depart de la recherche
+     * @param out position (sortie)
+     * @return out
+     */
+    public Vector2 positionAt(float distance, int hint, Vector2 out) {
+        int segment = segmentAt(distance, hint);
+        return out.set(xAt(segment, distance), yAt(segment, distance));
+    }
+
+    /**
+     * Calcule les intervalles de distance ou le chemin passe dans un disque (portee d'une tour).
+     * Les intervalles sont tries et disjoints ; si le dernier point est dans le disque, le dernier
+     * intervalle s'etend a l'infini (un ennemi au-dela de la longueur reste sur ce point).
+     * @param cx centre X
+     * @param cy centre Y
+     * @param radius rayon
+     * @return paires [debut, fin] a plat (tableau vide si le chemin ne traverse pas le disque)
+     */
+    public float[] intervalsWithin(float cx, float cy, float radius) {
+        float r2 = radius * radius;
+        float[] out = new float[Math.max(2, segmentCount * 2)];
+        int count = 0;
+        for (int s = 0; s < segmentCount; s++) {
+            float fx = xs[s] - cx;
+            float fy = ys[s] - cy;
+            float b = fx * dirX[s] + fy * dirY[s];
+            float disc = b * b - (fx * fx + fy * fy - r2);
+            if (disc < 0f) continue;
+            float sq = (float) Math.sqrt(disc);
+            float length = cumulative[s + 1] - cumulative[s];
+            float t0 = Math.max(0f, -b - sq);
+            float t1 = Math.min(length, -b + sq);
+            if (t0 > t1) continue;
+            float start = cumulative[s] + t0;
+            float end = cumulative[s] + t1;
+            // segments consecutifs : fusionner les intervalles qui se touchent
+            if (count > 0 && start <= out[count - 1]) {
+                out[count - 1] = Math.max(out[count - 1], end);
+            } else {
+                out[count++] = start;
+                out[count++] = end;
+            }
+        }
+        int last = xs.length - 1;
+        float lx = xs[last] - cx;
+        float ly = ys[last] - cy;
+        if (lx * lx + ly * ly <= r2) {
+            if (count == 0) {
+                out[count++] = getLength();
+                out[count++] = getLength();
+            }
+            out[count - 1] = Float.MAX_VALUE;
+        }
+        float[] intervals = new float[count];
+        System.arraycopy(out, 0, intervals, 0, count);
+        return intervals;
+    }
+
+    private float along(int segment, float distance) {
+        if (segmentCount == 0) return 0f;
+        float offset = distance - cumulative[segment];
+        float length = cumulative[segment + 1] - cumulative[segment];
+        return offset < 0f ? 0f : Math.min(offset, length);
+    }
+}
@@ -0,0 +1,285 @@
+package io.github.Wasnowl.model;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import java.util.Arrays;
+
+/**
+ * CollisionMap : obstacles de la map indexes sur une grille a la resolution des tuiles.
+ * Les rectangles alignes sur la grille sont fusionnes gloutonnement (bandes horizontales
+ * etendues vers le haut) ; les autres sont conserves tels quels. Chaque cellule connait
+ * les rectangles qui la touchent : un test de recouvrement ne lit que les cellules sous
+ * la boite testee, quelle que soit la taille de la map.
+ */
+public class CollisionMap {
+    private final int cols;
+    private final int rows;
+    private final float cellWidth;
+    private final float cellHeight;
+    private final long[] blocked;
+    private final Array<Rectangle> rects = new Array<>();
+    private final int[] cellStart;
+    private int[] cellRects;
+    // Rectangles depassant de la grille : testes seulement si la boite en sort aussi
+    private final Array<Rectangle> outside = new Array<>();
+
+    // Tampons de la recherche de position libre (reutilises)
+    private final int[] queue;
+    // Generation de la derniere recherche ayant visite chaque cellule (pas de remise a zero par appel)
+    private final int[] visitStamp;
+    private int stamp;
+
+    /**
+     * Construit la grille de collision.
+     * @param source rectangles de collision (coordonnees monde)
+     * @param cols nombre de colonnes (largeur de la map en tuiles)
+     * @param rows nombre de lignes (hauteur de la map en tuiles)
+     * @param cellWidth largeur d'une tuile
+     * @param cellHeight hauteur d'une tuile
+     */
+    public CollisionMap(Array<Rectangle> source, int cols, int rows, float cellWidth, float cellHeight) {
+        this.cols = Math.max(1, cols);
+        this.rows = Math.max(1, rows);
+        this.cellWidth = cellWidth;
+        this.cellHeight = cellHeight;
+        int cellCount = this.cols * this.rows;
+        this.blocked = new long[(cellCount + 63) >>> 6];
+        this.cellStart = new int[cellCount + 1];
+        this.queue = new int[cellCount];
+        this.visitStamp = new int[cellCount];
+
+        // Cellules entierement couvertes par un rectangle aligne : fusionnees plus bas
+        long[] solid = new long[blocked.length];
+        if (source != null) {
+            for (Rectangle r : source) {
+                if (r.width <= 0f || r.height <= 0f) continue;
+                if (!markAligned(r, solid)) rects.add(new Rectangle(r));
+            }
+        }
+        mergeSolid(solid);
+        buildCells();
+    }
+
+    /**
+     * Indique si une boite chevauche un obstacle (meme regle que {@link Rectangle#overlaps}).
+     * @param x coin bas-gauche X
+     * @param y coin bas-gauche Y
+     * @param width largeur
+     * @param height hauteur
+     * @return true si collision
+     */
+    public boolean overlaps(float x, float y, float width, float height) {
+        if (x < 0f || y < 0f || x + width > cols * cellWidth || y + height > rows * cellHeight) {
+            for (int i = 0; i < outside.size; i++) {
+                Rectangle r = outside.get(i);
+                if (x < r.x + r.width && x + width > r.x && y < r.y + r.height && y + height > r.y) {
+                    return true;
+                }
+            }
+        }
+        int c0 = Math.max(0, colOf(x));
+        int c1 = Math.min(cols - 1, colOf(x + width));
+        int r0 = Math.max(0, rowOf(y));
+        int r1 = Math.min(rows - 1, rowOf(y + height));
+        for (int row = r0; row <= r1; row++) {
+            for (int col = c0; col <= c1; col++) {
+                int cell = row * cols + col;
+                if (!isSet(blocked, cell)) continue;
+                for (int k = cellStart[cell], end = cellStart[cell + 1]; k < end; k++) {
+                    Rectangle r = rects.get(cellRects[k]);
+                    if (x < r.x + r.width && x + width > r.x && y < r.y + r.height && y + height > r.y) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Cherche la position libre la plus proche pour une boite, par pas d'une tuile.
+     * Parcours en largeur de la grille depuis la cellule de depart (distance de Chebyshev
+     * croissante) : le cout depend de la zone bloquee autour du point, pas de la taille de la map
+     * (cellules marquees par generation, aucune cellule au-dela de maxDistance n'est mise en file).
+     * @param x coin bas-gauche X souhaite
+     * @param y coin bas-gauche Y souhaite
+     * @param width largeur de la boite
+     * @param height hauteur de la boite
+     * @param maxDistance distance max de recherche
+     * @param out position libre trouvee (coin bas-gauche)
+     * @return false si aucune position libre dans le rayon
+     */
+    public boolean findNearestFree(float x, float y, float width, float height, float maxDistance, Vector2 out) {
+        if (!overlaps(x, y, width, height)) {
+            out.set(x, y);
+            return true;
+        }
+        int startCol = clampCol(colOf(x));
+        int startRow = clampRow(rowOf(y));
+        int maxSteps = (int) Math.ceil(maxDistance / Math.min(cellWidth, cellHeight));
+        float maxX = cols * cellWidth - width;
+        float maxY = rows * cellHeight - height;
+
+        if (++stamp == 0) {
+            Arrays.fill(visitStamp, 0);
+            stamp = 1;
+        }
+        int head = 0;
+        int tail = 0;
+        int start = startRow * cols + startCol;
+        queue[tail++] = start;
+        visitStamp[start] = stamp;
+        while (head < tail) {
+            int cell = queue[head++];
+            int col = cell % cols;
+            int row = cell / cols;
+            int dc = col - startCol;
+            int dr = row - startRow;
+
+            float cx = x + dc * cellWidth;
+            float cy = y + dr * cellHeight;
+            if (cell != start && cx >= 0f && cy >= 0f && cx <= maxX && cy <= maxY
+                    && !overlaps(cx, cy, width, height)) {
+                out.set(cx, cy);
+                return true;
+            }
+            int r0 = Math.max(Math.max(0, row - 1), startRow - maxSteps);
+            int r1 = Math.min(Math.min(rows - 1, row + 1), startRow + maxSteps);
+            int c0 = Math.max(Math.max(0, col - 1), startCol - maxSteps);
+            int c1 = Math.min(Math.min(cols - 1, col + 1), startCol + maxSteps);
+            for (int nr = r0; nr <= r1; nr++) {
+                for (int nc = c0; nc <= c1; nc++) {
+                    int next = nr * cols + nc;
+                    if (visitStamp[next] == stamp) continue;
+                    visitStamp[next] = stamp;
+                    queue[tail++] = next;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Indique si une cellule contient un obstacle.
+     * @param col colonne
+     * @param row ligne
+     * @return true si bloquee
+     */
+    public boolean isBlocked(int col, int row) {
+        if (col < 0 || row < 0 || col >= cols || row >= rows) return false;
+        return isSet(blocked, row * cols + col);
+    }
+
+    /**
+     * Retourne les rectangles de collision apres fusion.
+     * @return rectangles
+     */
+    public Array<Rectangle> getRects() {
+        return rects;
+    }
+
+    private boolean markAligned(Rectangle r, long[] solid) {
+        float c0 = r.x / cellWidth;
+        float r0 = r.y / cellHeight;
+        float c1 = (r.x + r.width) / cellWidth;
+        float r1 = (r.y + r.height) / cellHeight;
+        if (c0 != (int) c0 || r0 != (int) r0 || c1 != (int) c1 || r1 != (int) r1) return false;
+        if (c0 < 0 || r0 < 0 || c1 > cols || r1 > rows) return false;
+        for (int row = (int) r0; row < (int) r1; row++) {
+            for (int col = (int) c0; col < (int) c1; col++) {
+                set(solid, row * cols + col);
+            }
+        }
+        return true;
+    }
+
+    private void mergeSolid(long[] solid) {
+        // Fusion gloutonne : bande horizontale maximale, puis extension vers le haut
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                if (!isSet(solid, row * cols + col)) continue;
+                int width = 1;
+                while (col + width < cols && isSet(solid, row * cols + col + width)) width++;
+                int height = 1;
+                extend:
+                while (row + height < rows) {
+                    int base = (row + height) * cols + col;
+                    for (int k = 0; k < width; k++) {
+                        if (!isSet(solid, base + k)) break extend;
+                    }
+                    height++;
+                }
+                for (int r = row; r < row + height; r++) {
+                    for (int k = 0; k < width; k++) clear(solid, r * cols + col + k);
+                }
+                rects.add(new Rectangle(col * cellWidth, row * cellHeight, width * cellWidth, height * cellHeight));
+            }
+        }
+    }
+
+    private void buildCells() {
+        // Comptage puis remplissage : indices des rectangles contigus par cellule
+        int[] range = new int[4];
+        for (int i = 0; i < rects.size; i++) {
+            Rectangle r = rects.get(i);
+            if (r.x < 0f || r.y < 0f || r.x + r.width > cols * cellWidth || r.y + r.height > rows * cellHeight) {
+                outside.add(r);
+            }
+            cellRange(r, range);
+            for (int row = range[2]; row <= range[3]; row++) {
+                for (int col = range[0]; col <= range[1]; col++) {
+                    int cell = row * cols + col;
+                    cellStart[cell + 1]++;
+                    set(blocked, cell);
+                }
+            }
+        }
+        for (int i = 0; i < cellStart.length - 1; i++) cellStart[i + 1] += cellStart[i];
+        cellRects = new int[cellStart[cellStart.length - 1]];
+        int[] cursor = cellStart.clone();
+        for (int i = 0; i < rects.size; i++) {
+            cellRange(rects.get(i), range);
+            for (int row = range[2]; row <= range[3]; row++) {
+                for (int col = range[0]; col <= range[1]; col++) {
+                    cellRects[cursor[row * cols + col]++] = i;
+                }
+            }
+        }
+    }
+
+    private void cellRange(Rectangle r, int[] out) {
+        out[0] = Math.max(0, colOf(r.x));
+        out[1] = Math.min(cols - 1, (int) Math.ceil((r.x + r.width) / cellWidth) - 1);
+        out[2] = Math.max(0, rowOf(r.y));
+        out[3] = Math.min(rows - 1, (int) Math.ceil((r.y + r.height) / cellHeight) - 1);
+    }
+
+    private int colOf(float x) {
+        return (int) Math.floor(x / cellWidth);
+    }
+
+    private int rowOf(float y) {
+        return (int) Math.floor(y / cellHeight);
+    }
+
+    private int clampCol(int col) {
+        return Math.max(0, Math.min(cols - 1, col));
+    }
+
+    private int clampRow(int row) {
+        return Math.max(0, Math.min(rows - 1, row));
+    }
+
+    private static boolean isSet(long[] bits, int i) {
+        return (bits[i >>> 6] & (1L << i)) != 0;
+    }
+
+    private static void set(long[] bits, int i) {
+        bits[i >>> 6] |= 1L << i;
+    }
+
+    private static void clear(long[] bits, int i) {
+        bits[i >>> 6] &= ~(1L << i);
+    }
+}
@@ -0,0 +1,101 @@
+package io.github.Wasnowl.model;
+
+/**
+ * DamageBuffer : degats enregistres pendant un tick, appliques en une seule passe a la fin du tick.
+ * Chaque entree est un triplet (handle de l'ennemi, montant, source) range dans des tableaux primitifs
+ * reutilises d'un tick a l'autre. Les handles sont resolus au moment de l'application : un ennemi
+ * retire entre-temps est simplement ignore.
+ */
+public class DamageBuffer {
+    private int[] handles;
+    private float[] amounts;
+    private int[] sources;
+    private int size;
+
+    /**
+     * Cree un tampon avec une capacite initiale par defaut.
+     */
+    public DamageBuffer() {
+        this(64);
+    }
+
+    /**
+     * Cree un tampon avec une capacite initiale donnee.
+     * @param capacity nombre d'entrees pre-allouees
+     */
+    public DamageBuffer(int capacity) {
+        int cap = Math.max(1, capacity);
+        handles = new int[cap];
+        amounts = new float[cap];
+        sources = new int[cap];
+    }
+
+    /**
+     * Enregistre des degats.
+     * @param handle handle stable de l'ennemi touche
+     * @param amount degats
+     * @param source source des degats (ex: ordinal du type de projectile)
+     */
+    public void add(int handle, float amount, int source) {
+        if (size == handles.length) grow();
+        handles[size] = handle;
+        amounts[size] = amount;
+        sources[size] = source;
+        size++;
+    }
+
+    /**
+     * Retourne le nombre d'entrees enregistrees.
+     * @return entrees en attente
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Retourne le handle de l'ennemi d'une entree.
+     * @param index index de l'entree
+     * @return handle
+     */
+    public int getHandle(int index) {
+        return handles[index];
+    }
+
+    /**
+     * Retourne le montant d'une entree.
+     * @param index index de l'entree
+     * @return degats
+     */
+    public float getAmount(int index) {
+        return amounts[index];
+    }
+
+    /**
+     * Retourne la source d'une entree.
+     * @param index index de l'entree
+     * @return source
+     */
+    public int getSource(int index) {
+        return sources[index];
+    }
+
+    /**
+     * Vide le tampon (la capacite est conservee).
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    private void grow() {
+        int cap = handles.length * 2;
+        int[] newHandles = new int[cap];
+        float[] newAmounts = new float[cap];
+        int[] newSources = new int[cap];
+        System.arraycopy(handles, 0, newHandles, 0, size);
+        System.arraycopy(amounts, 0, newAmounts, 0, size);
+        System.arraycopy(sources, 0, newSources, 0, size);
+        handles = newHandles;
+        amounts = newAmounts;
+        sources = newSources;
+    }
+}
@@ -0,0 +1,403 @@
+package io.github.Wasnowl.model;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import io.github.Wasnowl.entities.Enemy;
+import java.util.Arrays;
+
+/**
+ * EnemyStore : stockage "structure of arrays" des ennemis actifs.
+ * Chaque colonne (x, y, vie, vitesse, etat...) est un tableau primitif indexe par slot ;
+ * la suppression compacte par echange avec le dernier slot (swap-remove).
+ * Les handles restent stables malgre la compaction (index + generation).
+ * La liste {@link #getEnemies()} contient les vues Enemy dans le meme ordre que les slots.
+ * Le mouvement ne fait avancer que la distance parcourue le long du chemin ({@link #getDistance()}) ;
+ * les colonnes X/Y en sont deduites via les {@link ArcLengthPath} a la premiere lecture suivante
+ * ({@link #getX()}, {@link #getY()}). Cette evaluation differee n'est pas thread-safe : elle est faite
+ * sur le thread de simulation (reconstruction de l'index spatial) avant toute lecture parallele.
+ */
+public class EnemyStore {
+    /** Etat: marche normale. */
+    public static final int STATE_WALK = 0;
+    /** Etat: marche blessee. */
+    public static final int STATE_WALK2 = 1;
+    /** Etat: animation de mort en cours. */
+    public static final int STATE_DEATH = 2;
+    /** Etat: mort terminee (a retirer). */
+    public static final int STATE_DEAD = 3;
+    /** Handle invalide. */
+    public static final int NO_HANDLE = -1;
+    /** Nombre max de chemins enregistres (8 bits de chemin dans les cles de tri du ProgressIndex). */
+    public static final int MAX_PATHS = 256;
+
+    private static final int FLAG_REACHED_END = 1;
+    private static final int INDEX_BITS = 20;
+    private static final int INDEX_MASK = (1 << INDEX_BITS) - 1;
+    private static final int GENERATION_MASK = 0x7FF;
+
+    private int size;
+    private float[] x;
+    private float[] y;
+    private float[] distance;
+    private boolean positionsStale;
+    private float[] prevX;
+    private float[] prevY;
+    private float[] health;
+    private float[] maxHealth;
+    private float[] speed;
+    private float[] stateTime;
+    private int[] pathIndex;
+    private int[] pathId;
+    private int[] type;
+    private int[] state;
+    private int[] flags;
+    private int[] handles;
+    private final Array<Enemy> enemies = new Array<>(false, 16);
+
+    // handle index -> slot, et generation courante de chaque index
+    private int[] slotOfIndex;
+    private int[] generation;
+    private int[] freeIndices;
+    private int freeCount;
+    private int nextIndex;
+
+    private final Array<Vector2[]> paths = new Array<>();
+    private final Array<ArcLengthPath> arcLengthPaths = new Array<>();
+
+    /**
+     * Cree un store avec une capacite initiale par defaut.
+     */
+    public EnemyStore() {
+        this(64);
+    }
+
+    /**
+     * Cree un store avec une capacite initiale.
+     * @param capacity nombre d'ennemis avant reallocation
+     */
+    public EnemyStore(int capacity) {
+        int cap = Math.max(1, capacity);
+        x = new float[cap];
+        y = new float[cap];
+        distance = new float[cap];
+        prevX = new float[cap];
+        prevY = new float[cap];
+        health = new float[cap];
+        maxHealth = new float[cap];
+        speed = new float[cap];
+        stateTime = new float[cap];
+        pathIndex = new int[cap];
+        pathId = new int[cap];
+        type = new int[cap];
+        state = new int[cap];
+        flags = new int[cap];
+        handles = new int[cap];
+        slotOfIndex = new int[cap];
+        generation = new int[cap];
+        freeIndices = new int[cap];
+    }
+
+    /**
+     * Ajoute un ennemi et lie la vue a son handle.
+     * @param view vue Enemy (rendu, API objet)
+     * @param startDistance distance initiale le long du chemin (0 : premier point)
+     * @param maxHp vie maximale
+     * @param moveSpeed vitesse de deplacement
+     * @param enemyType identifiant du type d'ennemi (-1 si aucun)
+     * @param path identifiant de chemin (voir {@link #registerPath(Vector2[])})
+     * @return handle stable de l'ennemi
+     * @throws IllegalStateException si les {@code 2^INDEX_BITS} index de handle sont tous utilises
+     */
+    public int add(Enemy view, float startDistance, float maxHp, float moveSpeed, int enemyType, int path) {
+        // au-dela, l'index deborderait sur les bits de generation (handles perimes mal resolus)
+        if (freeCount == 0 && nextIndex > INDEX_MASK) {
+            throw new IllegalStateException("EnemyStore plein : " + (INDEX_MASK + 1) + " ennemis max");
+        }
+        if (size == x.length) grow(size * 2);
+        int index = freeCount > 0 ? freeIndices[--freeCount] : nextIndex++;
+        if (index >= slotOfIndex.length) growIndices(slotOfIndex.length * 2);
+        int handle = (generation[index] << INDEX_BITS) | index;
+
+        int slot = size++;
+        ArcLengthPath arcPath = arcLengthPaths.get(path);
+        int segment = arcPath.segmentAt(startDistance, 0);
+        distance[slot] = startDistance;
+        x[slot] = arcPath.xAt(segment, startDistance);
+        y[slot] = arcPath.yAt(segment, startDistance);
+        prevX[slot] = x[slot];
+        prevY[slot] = y[slot];
+        health[slot] = maxHp;
+        maxHealth[slot] = maxHp;
+        speed[slot] = moveSpeed;
+        stateTime[slot] = 0f;
+        pathIndex[slot] = segment;
+        pathId[slot] = path;
+        type[slot] = enemyType;
+        state[slot] = STATE_WALK;
+        flags[slot] = 0;
+        handles[slot] = handle;
+        slotOfIndex[index] = slot;
+        enemies.add(view);
+        view.setHandle(handle);
+        return handle;
+    }
+
+    /**
+     * Retire le slot donne en y deplacant le dernier ennemi (swap-remove).
+     * Le handle retire devient invalide.
+     * @param slot slot a retirer
+     * @return vue retiree (a rendre a l'EnemyPool)
+     */
+    public Enemy remove(int slot) {
+        Enemy view = enemies.get(slot);
+        int index = handles[slot] & INDEX_MASK;
+        generation[index] = (generation[index] + 1) & GENERATION_MASK;
+        slotOfIndex[index] = -1;
+        freeIndices[freeCount++] = index;
+
+        int last = --size;
+        if (slot != last) {
+            x[slot] = x[last];
+            y[slot] = y[last];
+            distance[slot] = distance[last];
+            prevX[slot] = prevX[last];
+            prevY[slot] = prevY[last];
+            health[slot] = health[last];
+            maxHealth[slot] = maxHealth[last];
+            speed[slot] = speed[last];
+            stateTime[slot] = stateTime[last];
+            pathIndex[slot] = pathIndex[last];
+            pathId[slot] = pathId[last];
+            type[slot] = type[last];
+            state[slot] = state[last];
+            flags[slot] = flags[last];
+            handles[slot] = handles[last];
+            slotOfIndex[handles[slot] & INDEX_MASK] = slot;
+        }
+        // Array non ordonnee : removeIndex deplace aussi le dernier element dans le slot
+        enemies.removeIndex(slot);
+        return view;
+    }
+
+    /**
+     * Vide le store (tous les handles deviennent invalides).
+     */
+    public void clear() {
+        for (int slot = size - 1; slot >= 0; slot--) {
+            remove(slot);
+        }
+    }
+
+    /**
+     * Retourne le slot courant d'un handle.
+     * @param handle handle d'ennemi
+     * @return slot ou -1 si le handle n'est plus valide
+     */
+    public int slotOf(int handle) {
+        if (handle < 0) return -1;
+        int index = handle & INDEX_MASK;
+        if (index >= nextIndex || generation[index] != (handle >>> INDEX_BITS)) return -1;
+        return slotOfIndex[index];
+    }
+
+    /**
+     * Copie les positions courantes dans les colonnes du tick precedent.
+     * Appele avant chaque pas de simulation fixe (interpolation du rendu).
+     */
+    public void savePreviousPositions() {
+        if (positionsStale) resolvePositions();
+        System.arraycopy(x, 0, prevX, 0, size);
+        System.arraycopy(y, 0, prevY, 0, size);
+    }
+
+    /**
+     * Enregistre un chemin et retourne son identifiant (reutilise si deja connu).
+     * @param path points du chemin
+     * @return identifiant du chemin
+     * @throws IllegalStateException si {@link #MAX_PATHS} chemins sont deja enregistres
+     */
+    public int registerPath(Vector2[] path) {
+        int existing = paths.indexOf(path, true);
+        if (existing >= 0) return existing;
+        if (paths.size == MAX_PATHS) {
+            throw new IllegalStateException("EnemyStore : " + MAX_PATHS + " chemins max");
+        }
+        paths.add(path);
+        arcLengthPaths.add(new ArcLengthPath(path));
+        return paths.size - 1;
+    }
+
+    /**
+     * Retourne un chemin enregistre, compile en abscisses curvilignes.
+     * @param id identifiant du chemin
+     * @return chemin compile
+     */
+    public ArcLengthPath getArcLengthPath(int id) {
+        return arcLengthPaths.get(id);
+    }
+
+    /**
+     * Signale que les distances ont change : X/Y seront recalcules a la prochaine lecture.
+     */
+    public void invalidatePositions() {
+        positionsStale = true;
+    }
+
+    /**
+     * Retourne les points d'un chemin enregistre.
+     * @param id identifiant du chemin
+     * @return points du chemin
+     */
+    public Vector2[] getPath(int id) {
+        return paths.get(id);
+    }
+
+    /**
+     * Marque le slot comme ayant atteint la fin du chemin.
+     * @param slot slot concerne
+     */
+    public void markReachedEnd(int slot) {
+        flags[slot] |= FLAG_REACHED_END;
+    }
+
+    /**
+     * Indique si le slot a atteint la fin du chemin.
+     * @param slot slot concerne
+     * @return true si fin atteinte
+     */
+    public boolean hasReachedEnd(int slot) {
+        return (flags[slot] & FLAG_REACHED_END) != 0;
+    }
+
+    /**
+     * Retourne le nombre d'ennemis actifs.
+     * @return nombre d'ennemis
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Retourne les vues Enemy, dans l'ordre des slots.
+     * Ne pas modifier directement : passer par add/remove.
+     * @return vues des ennemis
+     */
+    public Array<Enemy> getEnemies() {
+        return enemies;
+    }
+
+    // Colonnes : les tableaux peuvent etre realloues par add, ne pas les conserver entre deux ticks
+    /**
+     * Retourne la colonne X (evaluee depuis les distances si besoin).
+     * @return colonne X
+     */
+    public float[] getX() {
+        if (positionsStale) resolvePositions();
+        return x;
+    }
+    /**
+     * Retourne la colonne Y (evaluee depuis les distances si besoin).
+     * @return colonne Y
+     */
+    public float[] getY() {
+        if (positionsStale) resolvePositions();
+        return y;
+    }
+    /**
+     * Retourne la colonne distance parcourue le long du chemin.
+     * Apres modification directe, appeler {@link #invalidatePositions()}.
+     * @return colonne distance
+     */
+    public float[] getDistance() { return distance; }
+    /**
+     * Retourne la colonne X au tick precedent.
+     * @return colonne X precedente
+     */
+    public float[] getPrevX() { return prevX; }
+    /**
+     * Retourne la colonne Y au tick precedent.
+     * @return colonne Y precedente
+     */
+    public float[] getPrevY() { return prevY; }
+    /**
+     * Retourne la colonne vie courante.
+     * @return colonne vie courante
+     */
+    public float[] getHealth() { return health; }
+    /**
+     * Retourne la colonne vie maximale.
+     * @return colonne vie maximale
+     */
+    public float[] getMaxHealth() { return maxHealth; }
+    /**
+     * Retourne la colonne vitesse.
+     * @return colonne vitesse
+     */
+    public float[] getSpeed() { return speed; }
+    /**
+     * Retourne la colonne temps passe dans l'etat courant.
+     * @return colonne temps passe dans l'etat courant
+     */
+    public float[] getStateTime() { return stateTime; }
+    /**
+     * Retourne la colonne segment courant du chemin (curseur de l'evaluation des positions).
+     * @return colonne segment courant du chemin
+     */
+    public int[] getPathIndex() { return pathIndex; }
+    /**
+     * Retourne la colonne identifiant de chemin.
+     * @return colonne identifiant de chemin
+     */
+    public int[] getPathId() { return pathId; }
+    /**
+     * Retourne la colonne type d'ennemi.
+     * @return colonne type d'ennemi
+     */
+    public int[] getType() { return type; }
+    /**
+     * Retourne la colonne etat (STATE_*).
+     * @return colonne etat (STATE_*)
+     */
+    public int[] getState() { return state; }
+    /**
+     * Retourne la colonne handle de chaque slot.
+     * @return colonne handle de chaque slot
+     */
+    public int[] getHandles() { return handles; }
+
+    private void resolvePositions() {
+        positionsStale = false;
+        for (int i = 0; i < size; i++) {
+            ArcLengthPath path = arcLengthPaths.get(pathId[i]);
+            float d = distance[i];
+            int segment = path.segmentAt(d, pathIndex[i]);
+            pathIndex[i] = segment;
+            x[i] = path.xAt(segment, d);
+            y[i] = path.yAt(segment, d);
+        }
+    }
+
+    private void grow(int capacity) {
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        distance = Arrays.copyOf(distance, capacity);
+        prevX = Arrays.copyOf(prevX, capacity);
+        prevY = Arrays.copyOf(prevY, capacity);
+        health = Arrays.copyOf(health, capacity);
+        maxHealth = Arrays.copyOf(maxHealth, capacity);
+        speed = Arrays.copyOf(speed, capacity);
+        stateTime = Arrays.copyOf(stateTime, capacity);
+        pathIndex = Arrays.copyOf(pathIndex, capacity);
+        pathId = Arrays.copyOf(pathId, capacity);
+        type = Arrays.copyOf(type, capacity);
+        state = Arrays.copyOf(state, capacity);
+        flags = Arrays.copyOf(flags, capacity);
+        handles = Arrays.copyOf(handles, capacity);
+    }
+
+    private void growIndices(int capacity) {
+        slotOfIndex = Arrays.copyOf(slotOfIndex, capacity);
+        generation = Arrays.copyOf(generation, capacity);
+        freeIndices = Arrays.copyOf(freeIndices, capacity);
+    }
+}
@@ -9,9 +9,12 @@ import io.github.Wasnowl.managers.CurrencyManager;
  * Regroupe collections partagées et managers.
  */
 public class GameState {
+    private final EnemyStore enemyStore;
     private final Array<Enemy> enemies;
     private final Array<Tower> towers;
     private final Array<Projectile> projectiles;
+    private final SpatialIndex spatialIndex;
+    private final ProgressIndex progressIndex;
     private CurrencyManager currencyManager;
     private float playerHealth;
     private float playerMaxHealth;
@@ -21,9 +24,12 @@ public class GameState {
      * Cree un etat de jeu vide avec collections par defaut.
      */
     public GameState() {
-        this.enemies = new Array<>();
+        this.enemyStore = new EnemyStore();
+        this.enemies = enemyStore.getEnemies();
         this.towers = new Array<>();
         this.projectiles = new Array<>();
+        this.spatialIndex = new SpatialIndex();
+        this.progressIndex = new ProgressIndex();
         this.currencyManager = new CurrencyManager(0);
         this.playerHealth = 0f;
         this.playerMaxHealth = 0f;
@@ -31,7 +37,12 @@ public class GameState {
     }
 
     /**
-     * Retourne la liste des ennemis actifs.
+     * Retourne le store des ennemis (colonnes de simulation).
+     * @return store des ennemis
+     */
+    public EnemyStore getEnemyStore() { return enemyStore; }
+    /**
+     * Retourne les vues des ennemis actifs (ordre des slots du store, lecture seule).
      * @return ennemis actifs
      */
     public Array<Enemy> getEnemies() { return enemies; }
@@ -45,6 +56,16 @@ public class GameState {
      * @return projectiles actifs
      */
     public Array<Projectile> getProjectiles() { return projectiles; }
+    /**
+     * Retourne l'index spatial des ennemis (reconstruit a chaque tick).
+     * @return index spatial
+     */
+    public SpatialIndex getSpatialIndex() { return spatialIndex; }
+    /**
+     * Retourne l'index des ennemis par progression sur le chemin (reconstruit a chaque tick).
+     * @return index de progression
+     */
+    public ProgressIndex getProgressIndex() { return progressIndex; }
 
     /**
      * Retourne le gestionnaire d'argent.
@@ -0,0 +1,387 @@
+package io.github.Wasnowl.model;
+
+import com.badlogic.gdx.utils.IntMap;
+import io.github.Wasnowl.entities.Enemy;
+import java.util.Arrays;
+
+/**
+ * ProgressIndex : ennemis vivants tries par chemin puis par distance parcourue, avec deux arbres
+ * de segments (vie max / vie min) sur cet ordre. Les ennemis en animation de mort n'y figurent pas.
+ * Sert les politiques de ciblage FIRST, LAST, STRONGEST et WEAKEST sans parcours des ennemis :
+ * la portee d'une tour est convertie une fois en intervalles de distance sur chaque chemin
+ * ({@link ArcLengthPath#intervalsWithin}), les ennemis a portee forment alors des plages contigues
+ * de l'ordre, trouvees par recherche dichotomique.
+ * Mis a jour une fois par tick ({@link #rebuild(EnemyStore)}) : les ennemis ne se depassent que
+ * rarement, l'ordre du tick precedent est retrie par insertion (quasi lineaire) et les ennemis
+ * apparus sont fusionnes ; les arbres sont reconstruits de bas en haut. Si trop d'ennemis se
+ * depassent dans le meme tick, le tri par insertion est abandonne au profit d'un tri complet.
+ * Les requetes ne modifient pas l'index (sures en parallele pendant la phase de ciblage).
+ */
+public class ProgressIndex {
+    /** Decalages par entree au-dela desquels le tri par insertion cede la place a un tri complet. */
+    private static final int MAX_SHIFTS_PER_ENTRY = 8;
+
+    // Ordre courant (et tampon de fusion) : handle, slot, chemin, distance
+    private int[] handles = new int[64];
+    private int[] slots = new int[64];
+    private int[] pathIds = new int[64];
+    private float[] progress = new float[64];
+    private int[] mergeHandles = new int[64];
+    private int[] mergeSlots = new int[64];
+    private int[] mergePathIds = new int[64];
+    private float[] mergeProgress = new float[64];
+    private int count;
+
+    // Arbres de segments (feuilles a partir de leafBase) : index de l'entree de vie max / min
+    private float[] health = new float[64];
+    private int[] strongest = new int[2];
+    private int[] weakest = new int[2];
+    private int leafBase = 1;
+
+    private long[] sortKeys = new long[64];
+    private boolean[] seen = new boolean[64];
+    private EnemyStore store;
+
+    /**
+     * Met a jour l'ordre et les arbres depuis le store (apres le deplacement des ennemis).
+     * @param store store des ennemis
+     */
+    public void rebuild(EnemyStore store) {
+        this.store = store;
+        int n = store.size();
+        int[] state = store.getState();
+        int[] storePath = store.getPathId();
+        float[] distance = store.getDistance();
+        if (seen.length < n) seen = new boolean[Math.max(n, seen.length * 2)];
+        for (int i = 0; i < n; i++) seen[i] = false;
+
+        // Ennemis deja indexes : ordre conserve, distances rafraichies
+        int kept = 0;
+        for (int i = 0; i < count; i++) {
+            int slot = store.slotOf(handles[i]);
+            if (slot < 0 || state[slot] >= EnemyStore.STATE_DEATH) continue;
+            seen[slot] = true;
+            handles[kept] = handles[i];
+            slots[kept] = slot;
+            pathIds[kept] = storePath[slot];
+            progress[kept] = distance[slot];
+            kept++;
+        }
+        ensureMergeCapacity(Math.max(n, kept));
+        if (!insertionSort(handles, slots, pathIds, progress, 0, kept, kept * MAX_SHIFTS_PER_ENTRY)) {
+            sortFully(kept);
+        }
+
+        // Nouveaux ennemis, tries a part (en general tous au debut du chemin)
+        int added = 0;
+        int[] storeHandles = store.getHandles();
+        for (int slot = 0; slot < n; slot++) {
+            if (seen[slot] || state[slot] >= EnemyStore.STATE_DEATH) continue;
+            mergeHandles[added] = storeHandles[slot];
+            mergeSlots[added] = slot;
+            mergePathIds[added] = storePath[slot];
+            mergeProgress[added] = distance[slot];
+            added++;
+        }
+        if (added > 0) {
+            insertionSort(mergeHandles, mergeSlots, mergePathIds, mergeProgress, 0, added, Integer.MAX_VALUE);
+            merge(kept, added);
+        }
+        count = kept + added;
+        buildTrees(store.getHealth());
+    }
+
+    /**
+     * Retourne le nombre d'ennemis indexes.
+     * @return ennemis vivants au dernier rebuild
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Retourne l'ennemi a portee le plus avance sur son chemin.
+     * @param x centre X
+     * @param y centre Y
+     * @param range portee
+     * @param coverage cache des intervalles de portee de l'appelant
+     * @return ennemi ou null
+     */
+    public Enemy first(float x, float y, float range, Coverage coverage) {
+        int best = -1;
+        for (int lo = 0; lo < count; ) {
+            int path = pathIds[lo];
+            int end = pathEnd(lo);
+            float[] intervals = coverage.get(store, path, x, y, range);
+            // dernier intervalle non vide : entree la plus a droite
+            for (int k = intervals.length - 2; k >= 0; k -= 2) {
+                int hi = upperBound(lo, end, intervals[k + 1]);
+                if (hi > lowerBound(lo, end, intervals[k])) {
+                    if (best < 0 || progress[hi - 1] > progress[best]) best = hi - 1;
+                    break;
+                }
+            }
+            lo = end;
+        }
+        return entry(best);
+    }
+
+    /**
+     * Retourne l'ennemi a portee le moins avance sur son chemin.
+     * @param x centre X
+     * @param y centre Y
+     * @param range portee
+     * @param coverage cache des intervalles de portee de l'appelant
+     * @return ennemi ou null
+     */
+    public Enemy last(float x, float y, float range, Coverage coverage) {
+        int best = -1;
+        for (int lo = 0; lo < count; ) {
+            int path = pathIds[lo];
+            int end = pathEnd(lo);
+            float[] intervals = coverage.get(store, path, x, y, range);
+            for (int k = 0; k < intervals.length; k += 2) {
+                int from = lowerBound(lo, end, intervals[k]);
+                if (from < upperBound(lo, end, intervals[k + 1])) {
+                    if (best < 0 || progress[from] < progress[best]) best = from;
+                    break;
+                }
+            }
+            lo = end;
+        }
+        return entry(best);
+    }
+
+    /**
+     * Retourne l'ennemi a portee ayant le plus de vie (le plus avance en cas d'egalite).
+     * @param x centre X
+     * @param y centre Y
+     * @param range portee
+     * @param coverage cache des intervalles de portee de l'appelant
+     * @return ennemi ou null
+     */
+    public Enemy strongest(float x, float y, float range, Coverage coverage) {
+        return entry(queryHealth(x, y, range, coverage, true));
+    }
+
+    /**
+     * Retourne l'ennemi a portee ayant le moins de vie (le plus avance en cas d'egalite).
+     * @param x centre X
+     * @param y centre Y
+     * @param range portee
+     * @param coverage cache des intervalles de portee de l'appelant
+     * @return ennemi ou null
+     */
+    public Enemy weakest(float x, float y, float range, Coverage coverage) {
+        return entry(queryHealth(x, y, range, coverage, false));
+    }
+
+    private int queryHealth(float x, float y, float range, Coverage coverage, boolean max) {
+        int best = -1;
+        for (int lo = 0; lo < count; ) {
+            int path = pathIds[lo];
+            int end = pathEnd(lo);
+            float[] intervals = coverage.get(store, path, x, y, range);
+            for (int k = 0; k < intervals.length; k += 2) {
+                int from = lowerBound(lo, end, intervals[k]);
+                int to = upperBound(lo, end, intervals[k + 1]);
+                if (from < to) best = better(best, query(max ? strongest : weakest, from, to, max), max);
+            }
+            lo = end;
+        }
+        return best;
+    }
+
+    private Enemy entry(int index) {
+        return index < 0 ? null : store.getEnemies().get(slots[index]);
+    }
+
+    // fin (exclue) de la plage des entrees du meme chemin que lo
+    private int pathEnd(int lo) {
+        int path = pathIds[lo];
+        int a = lo, b = count;
+        while (a < b) {
+            int mid = (a + b) >>> 1;
+            if (pathIds[mid] <= path) a = mid + 1;
+            else b = mid;
+        }
+        return a;
+    }
+
+    // premiere entree de [lo, hi) dont la distance est >= d
+    private int lowerBound(int lo, int hi, float d) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (progress[mid] < d) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    // premiere entree de [lo, hi) dont la distance est > d
+    private int upperBound(int lo, int hi, float d) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (progress[mid] <= d) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    private int better(int a, int b, boolean max) {
+        if (a < 0) return b;
+        if (b < 0) return a;
+        if (health[a] != health[b]) return (health[a] > health[b]) == max ? a : b;
+        return progress[a] >= progress[b] ? a : b;
+    }
+
+    private int query(int[] tree, int from, int to, boolean max) {
+        int best = -1;
+        for (int l = from + leafBase, r = to + leafBase; l < r; l >>>= 1, r >>>= 1) {
+            if ((l & 1) == 1) best = better(best, tree[l++], max);
+            if ((r & 1) == 1) best = better(best, tree[--r], max);
+        }
+        return best;
+    }
+
+    private void buildTrees(float[] storeHealth) {
+        int base = 1;
+        while (base < count) base <<= 1;
+        if (strongest.length < base * 2) {
+            strongest = new int[base * 2];
+            weakest = new int[base * 2];
+        }
+        if (health.length < count) health = new float[Math.max(count, health.length * 2)];
+        leafBase = base;
+        for (int i = 0; i < base; i++) {
+            int leaf = i < count ? i : -1;
+            if (leaf >= 0) health[i] = storeHealth[slots[i]];
+            strongest[base + i] = leaf;
+            weakest[base + i] = leaf;
+        }
+        for (int node = base - 1; node >= 1; node--) {
+            strongest[node] = better(strongest[2 * node], strongest[2 * node + 1], true);
+            weakest[node] = better(weakest[2 * node], weakest[2 * node + 1], false);
+        }
+    }
+
+    private void merge(int kept, int added) {
+        int total = kept + added;
+        ensureCapacity(total);
+        // fusion depuis la fin pour travailler en place dans le tableau principal
+        int i = kept - 1, j = added - 1;
+        for (int k = total - 1; k >= 0; k--) {
+            boolean fromKept = j < 0 || (i >= 0 && before(mergePathIds[j], mergeProgress[j], pathIds[i], progress[i]));
+            if (fromKept) {
+                handles[k] = handles[i];
+                slots[k] = slots[i];
+                pathIds[k] = pathIds[i];
+                progress[k] = progress[i];
+                i--;
+            } else {
+                handles[k] = mergeHandles[j];
+                slots[k] = mergeSlots[j];
+                pathIds[k] = mergePathIds[j];
+                progress[k] = mergeProgress[j];
+                j--;
+            }
+        }
+    }
+
+    private static boolean before(int pathA, float progressA, int pathB, float progressB) {
+        return pathA != pathB ? pathA < pathB : progressA < progressB;
+    }
+
+    // tri par insertion stable ; false (ordre partiel) si plus de maxShifts decalages
+    private static boolean insertionSort(int[] h, int[] s, int[] p, float[] d, int from, int to, int maxShifts) {
+        int shifts = 0;
+        for (int i = from + 1; i < to; i++) {
+            int path = p[i];
+            float dist = d[i];
+            if (!before(path, dist, p[i - 1], d[i - 1])) continue;
+            int handle = h[i];
+            int slot = s[i];
+            int j = i - 1;
+            while (j >= from && before(path, dist, p[j], d[j])) {
+                h[j + 1] = h[j];
+                s[j + 1] = s[j];
+                p[j + 1] = p[j];
+                d[j + 1] = d[j];
+                j--;
+                shifts++;
+            }
+            h[j + 1] = handle;
+            s[j + 1] = slot;
+            p[j + 1] = path;
+            d[j + 1] = dist;
+            if (shifts > maxShifts) return false;
+        }
+        return true;
+    }
+
+    // tri complet des n premieres entrees, cle (chemin, bits de la distance >= 0, index) dans un long :
+    // 8 bits de chemin (EnemyStore.MAX_PATHS), 31 de distance, 24 d'index (store limite a 2^20 ennemis)
+    private void sortFully(int n) {
+        if (sortKeys.length < n) sortKeys = new long[Math.max(n, sortKeys.length * 2)];
+        for (int i = 0; i < n; i++) {
+            sortKeys[i] = ((long) pathIds[i] << 55) | ((long) Float.floatToRawIntBits(progress[i]) << 24) | i;
+        }
+        Arrays.sort(sortKeys, 0, n);
+        for (int i = 0; i < n; i++) {
+            int from = (int) (sortKeys[i] & 0xFFFFFF);
+            mergeHandles[i] = handles[from];
+            mergeSlots[i] = slots[from];
+            mergePathIds[i] = pathIds[from];
+            mergeProgress[i] = progress[from];
+        }
+        System.arraycopy(mergeHandles, 0, handles, 0, n);
+        System.arraycopy(mergeSlots, 0, slots, 0, n);
+        System.arraycopy(mergePathIds, 0, pathIds, 0, n);
+        System.arraycopy(mergeProgress, 0, progress, 0, n);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (handles.length >= capacity) return;
+        int cap = Math.max(capacity, handles.length * 2);
+        handles = Arrays.copyOf(handles, cap);
+        slots = Arrays.copyOf(slots, cap);
+        pathIds = Arrays.copyOf(pathIds, cap);
+        progress = Arrays.copyOf(progress, cap);
+    }
+
+    private void ensureMergeCapacity(int capacity) {
+        if (mergeHandles.length >= capacity) return;
+        int cap = Math.max(capacity, mergeHandles.length * 2);
+        mergeHandles = new int[cap];
+        mergeSlots = new int[cap];
+        mergePathIds = new int[cap];
+        mergeProgress = new float[cap];
+    }
+
+    /**
+     * Coverage : intervalles de distance a portee d'une tour, par chemin. Calcules a la premiere
+     * requete sur un chemin puis conserves tant que la position et la portee ne changent pas.
+     * Chaque tour possede le sien (modifie pendant ses propres requetes uniquement).
+     */
+    public static class Coverage {
+        private final IntMap<float[]> intervals = new IntMap<>();
+        private float x = Float.NaN;
+        private float y = Float.NaN;
+        private float range = Float.NaN;
+
+        float[] get(EnemyStore store, int pathId, float x, float y, float range) {
+            if (x != this.x || y != this.y || range != this.range) {
+                intervals.clear();
+                this.x = x;
+                this.y = y;
+                this.range = range;
+            }
+            float[] cached = intervals.get(pathId);
+            if (cached == null) {
+                cached = store.getArcLengthPath(pathId).intervalsWithin(x, y, range);
+                intervals.put(pathId, cached);
+            }
+            return cached;
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package io.github.Wasnowl.model;
+
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Vector2;
+import io.github.Wasnowl.managers.FrameProfiler;
+
+/**
+ * RenderSnapshot : image figee d'un tick de simulation, prete a dessiner sans toucher au modele.
+ * Chaque sprite porte sa frame d'animation deja resolue, sa position au tick precedent et au tick courant
+ * (interpolation) et sa taille ; s'y ajoutent la position du joueur (camera) et les valeurs du HUD.
+ * Rempli par le thread de simulation, publie via un {@link TripleBuffer} puis seulement lu par le
+ * thread de rendu ; les tableaux sont reutilises d'un tick a l'autre (aucune allocation en regime etabli).
+ */
+public class RenderSnapshot {
+    // prevX, prevY, x, y, largeur, hauteur
+    private static final int STRIDE = 6;
+
+    private TextureRegion[] regions = new TextureRegion[256];
+    private float[] sprites = new float[256 * STRIDE];
+    private int spriteCount;
+    private final Vector2 playerPrevious = new Vector2();
+    private final Vector2 player = new Vector2();
+    private long tick;
+    private long publishTime;
+    private int gold;
+    private float playerHealth;
+    private float playerMaxHealth;
+    private boolean waveFinished = true;
+    private final long[] profileTotals = new long[FrameProfiler.Section.values().length];
+    private final long[] profileCounts = new long[FrameProfiler.Counter.values().length];
+
+    /**
+     * Vide l'image avant de la remplir pour un nouveau tick.
+     * @param tick numero du tick
+     */
+    public void begin(long tick) {
+        this.tick = tick;
+        // les frames du tick precedent ne sont plus referencees
+        for (int i = 0; i < spriteCount; i++) regions[i] = null;
+        spriteCount = 0;
+    }
+
+    /**
+     * Ajoute un sprite (dessine dans l'ordre d'ajout).
+     * @param region frame a dessiner
+     * @param prevX position X au tick precedent (coin bas gauche)
+     * @param prevY position Y au tick precedent
+     * @param x position X au tick courant
+     * @param y position Y au tick courant
+     * @param width largeur
+     * @param height hauteur
+     */
+    public void addSprite(TextureRegion region, float prevX, float prevY, float x, float y, float width, float height) {
+        if (region == null) return;
+        if (spriteCount == regions.length) grow();
+        regions[spriteCount] = region;
+        int i = spriteCount * STRIDE;
+        sprites[i] = prevX;
+        sprites[i + 1] = prevY;
+        sprites[i + 2] = x;
+        sprites[i + 3] = y;
+        sprites[i + 4] = width;
+        sprites[i + 5] = height;
+        spriteCount++;
+    }
+
+    /**
+     * Definit la position du joueur (suivi camera).
+     * @param previous position au tick precedent
+     * @param current position au tick courant
+     */
+    public void setPlayer(Vector2 previous, Vector2 current) {
+        playerPrevious.set(previous);
+        player.set(current);
+    }
+
+    /**
+     * Definit les valeurs affichees par le HUD.
+     * @param gold or du joueur
+     * @param playerHealth vie courante
+     * @param playerMaxHealth vie max
+     * @param waveFinished true si la vague courante est terminee
+     */
+    public void setHud(int gold, float playerHealth, float playerMaxHealth, boolean waveFinished) {
+        this.gold = gold;
+        this.playerHealth = playerHealth;
+        this.playerMaxHealth = playerMaxHealth;
+        this.waveFinished = waveFinished;
+    }
+
+    /**
+     * Dessine tous les sprites entre leur position precedente et courante.
+     * @param batch sprite batch actif
+     * @param alpha facteur d'interpolation
+     */
+    public void render(SpriteBatch batch, float alpha) {
+        for (int s = 0; s < spriteCount; s++) {
+            int i = s * STRIDE;
+            float x = sprites[i] + (sprites[i + 2] - sprites[i]) * alpha;
+            float y = sprites[i + 1] + (sprites[i + 3] - sprites[i + 1]) * alpha;
+            batch.draw(regions[s], x, y, sprites[i + 4], sprites[i + 5]);
+        }
+    }
+
+    /**
+     * Calcule la position interpolee du joueur.
+     * @param alpha facteur d'interpolation
+     * @param out vecteur de sortie
+     * @return out
+     */
+    public Vector2 getPlayerPosition(float alpha, Vector2 out) {
+        return out.set(playerPrevious).lerp(player, alpha);
+    }
+
+    /**
+     * Definit la date de publication (horloge {@code System.nanoTime()}).
+     * @param publishTime date de publication (nanosecondes)
+     */
+    public void setPublishTime(long publishTime) {
+        this.publishTime = publishTime;
+    }
+
+    /**
+     * Retourne la date de publication.
+     * @return date (nanosecondes)
+     */
+    public long getPublishTime() {
+        return publishTime;
+    }
+
+    /**
+     * Retourne les totaux cumules des sections profilees sur le thread de simulation
+     * (rempli par {@link FrameProfiler#copySimulationTotals(long[])}).
+     * @return durees cumulees par section (nanosecondes)
+     */
+    public long[] getProfileTotals() {
+        return profileTotals;
+    }
+
+    /**
+     * Retourne les compteurs d'entites et de pools releves au tick de l'image
+     * (rempli par {@link io.github.Wasnowl.controllers.GameController#countEntities(long[])}).
+     * @return valeurs par compteur
+     */
+    public long[] getProfileCounts() {
+        return profileCounts;
+    }
+
+    /**
+     * Retourne le numero du tick represente.
+     * @return tick
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Retourne le nombre de sprites.
+     * @return sprites a dessiner
+     */
+    public int getSpriteCount() {
+        return spriteCount;
+    }
+
+    /**
+     * Retourne l'or du joueur.
+     * @return or
+     */
+    public int getGold() {
+        return gold;
+    }
+
+    /**
+     * Retourne la vie courante du joueur.
+     * @return vie
+     */
+    public float getPlayerHealth() {
+        return playerHealth;
+    }
+
+    /**
+     * Retourne la vie max du joueur.
+     * @return vie max
+     */
+    public float getPlayerMaxHealth() {
+        return playerMaxHealth;
+    }
+
+    /**
+     * Indique si la vague courante est terminee.
+     * @return true si terminee
+     */
+    public boolean isWaveFinished() {
+        return waveFinished;
+    }
+
+    private void grow() {
+        TextureRegion[] newRegions = new TextureRegion[regions.length * 2];
+        System.arraycopy(regions, 0, newRegions, 0, spriteCount);
+        regions = newRegions;
+        float[] newSprites = new float[sprites.length * 2];
+        System.arraycopy(sprites, 0, newSprites, 0, spriteCount * STRIDE);
+        sprites = newSprites;
+    }
+}
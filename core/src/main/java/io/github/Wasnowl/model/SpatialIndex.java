@@ -0,0 +1,250 @@
+package io.github.Wasnowl.model;
+
+import com.badlogic.gdx.utils.Array;
+import io.github.Wasnowl.entities.Enemy;
+
+/**
+ * SpatialIndex : grille uniforme sur les ennemis actifs.
+ * Reconstruite une fois par tick (apres WaveManager.update), elle sert les requetes
+ * de portee (tours), de rayon (AOE) et de plus proche voisin (ricochet)
+ * en ne visitant que les cellules couvertes par la requete.
+ */
+public class SpatialIndex {
+    /** Taille de cellule par defaut (pixels). */
+    public static final float DEFAULT_CELL_SIZE = 64f;
+    private static final int MAX_CELLS = 1 << 16;
+
+    private final float baseCellSize;
+    private float cellSize;
+    private float originX;
+    private float originY;
+    private int cols;
+    private int rows;
+
+    // Tri par cellule (counting sort) : cellStart[c]..cellStart[c+1] indexe entries
+    private int[] cellStart = new int[1];
+    private Enemy[] entries = new Enemy[0];
+    private float[] entryX = new float[0];
+    private float[] entryY = new float[0];
+    private int[] tmpCell = new int[0];
+    private int[] cursorBuffer = new int[1];
+    private int count;
+
+    /**
+     * Cree un index avec la taille de cellule par defaut.
+     */
+    public SpatialIndex() {
+        this(DEFAULT_CELL_SIZE);
+    }
+
+    /**
+     * Cree un index avec une taille de cellule donnee.
+     * @param cellSize taille d'une cellule (pixels)
+     */
+    public SpatialIndex(float cellSize) {
+        this.baseCellSize = cellSize > 0f ? cellSize : DEFAULT_CELL_SIZE;
+        this.cellSize = this.baseCellSize;
+    }
+
+    /**
+     * Reconstruit la grille a partir des ennemis vivants du store.
+     * La grille couvre la boite englobante des ennemis ; la taille de cellule
+     * double si la boite depasse le nombre maximal de cellules.
+     * @param store store des ennemis
+     */
+    public void rebuild(EnemyStore store) {
+        count = 0;
+        cols = 0;
+        rows = 0;
+        int n = store.size();
+        if (n == 0) return;
+
+        float[] xs = store.getX();
+        float[] ys = store.getY();
+        int[] state = store.getState();
+        Array<Enemy> views = store.getEnemies();
+
+        float minX = Float.MAX_VALUE, minY = Float.MAX_VALUE;
+        float maxX = -Float.MAX_VALUE, maxY = -Float.MAX_VALUE;
+        int live = 0;
+        for (int i = 0; i < n; i++) {
+            if (state[i] == EnemyStore.STATE_DEAD) continue;
+            float x = xs[i];
+            float y = ys[i];
+            if (x < minX) minX = x;
+            if (y < minY) minY = y;
+            if (x > maxX) maxX = x;
+            if (y > maxY) maxY = y;
+            live++;
+        }
+        if (live == 0) return;
+
+        cellSize = baseCellSize;
+        cols = (int) ((maxX - minX) / cellSize) + 1;
+        rows = (int) ((maxY - minY) / cellSize) + 1;
+        while ((long) cols * rows > MAX_CELLS) {
+            cellSize *= 2f;
+            cols = (int) ((maxX - minX) / cellSize) + 1;
+            rows = (int) ((maxY - minY) / cellSize) + 1;
+        }
+        originX = minX;
+        originY = minY;
+        ensureCapacity(live, n, cols * rows);
+
+        int cells = cols * rows;
+        for (int c = 0; c <= cells; c++) cellStart[c] = 0;
+
+        // 1er passage : compter les ennemis par cellule
+        for (int i = 0; i < n; i++) {
+            if (state[i] == EnemyStore.STATE_DEAD) {
+                tmpCell[i] = -1;
+                continue;
+            }
+            int cell = cellIndex(xs[i], ys[i]);
+            tmpCell[i] = cell;
+            cellStart[cell + 1]++;
+        }
+        for (int c = 0; c < cells; c++) cellStart[c + 1] += cellStart[c];
+
+        // 2e passage : placer chaque ennemi dans sa cellule (ordre des slots conserve)
+        int[] cursor = tmpCursor(cells);
+        for (int i = 0; i < n; i++) {
+            int cell = tmpCell[i];
+            if (cell < 0) continue;
+            int slot = cursor[cell]++;
+            entries[slot] = views.get(i);
+            entryX[slot] = xs[i];
+            entryY[slot] = ys[i];
+        }
+        for (int k = live; k < entries.length && entries[k] != null; k++) entries[k] = null;
+        count = live;
+    }
+
+    /**
+     * Ajoute a {@code out} tous les ennemis vivants dans un rayon (degats de zone : les ennemis
+     * en animation de mort sont inclus).
+     * @param x centre X
+     * @param y centre Y
+     * @param radius rayon
+     * @param out liste de sortie (non videe)
+     */
+    public void queryRadius(float x, float y, float radius, Array<Enemy> out) {
+        query(x, y, radius, out, false);
+    }
+
+    /**
+     * Ajoute a {@code out} tous les ennemis ciblables dans un rayon (filtre de ciblage des tours).
+     * @param x centre X
+     * @param y centre Y
+     * @param radius rayon
+     * @param out liste de sortie (non videe)
+     */
+    public void queryTargetable(float x, float y, float radius, Array<Enemy> out) {
+        query(x, y, radius, out, true);
+    }
+
+    private void query(float x, float y, float radius, Array<Enemy> out, boolean targetableOnly) {
+        if (count == 0) return;
+        float r2 = radius * radius;
+        int minCx = cellX(x - radius), maxCx = cellX(x + radius);
+        int minCy = cellY(y - radius), maxCy = cellY(y + radius);
+        for (int cy = minCy; cy <= maxCy; cy++) {
+            for (int cx = minCx; cx <= maxCx; cx++) {
+                int cell = cy * cols + cx;
+                for (int k = cellStart[cell], end = cellStart[cell + 1]; k < end; k++) {
+                    float dx = entryX[k] - x;
+                    float dy = entryY[k] - y;
+                    if (dx * dx + dy * dy > r2) continue;
+                    Enemy e = entries[k];
+                    if (targetableOnly ? e.isTargetable() : !e.isDead()) out.add(e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Retourne l'ennemi ciblable le plus proche dans un rayon, hors exclusions.
+     * Les ennemis en animation de mort sont ignores, comme pour les autres politiques de ciblage.
+     * @param x centre X
+     * @param y centre Y
+     * @param maxRadius rayon maximal
+     * @param exclude ennemis a ignorer (peut etre null)
+     * @return ennemi le plus proche ou null
+     */
+    public Enemy nearest(float x, float y, float maxRadius, Array<Enemy> exclude) {
+        if (count == 0) return null;
+        float best2 = maxRadius * maxRadius;
+        int minCx = cellX(x - maxRadius), maxCx = cellX(x + maxRadius);
+        int minCy = cellY(y - maxRadius), maxCy = cellY(y + maxRadius);
+        Enemy best = null;
+        for (int cy = minCy; cy <= maxCy; cy++) {
+            for (int cx = minCx; cx <= maxCx; cx++) {
+                int cell = cy * cols + cx;
+                for (int k = cellStart[cell], end = cellStart[cell + 1]; k < end; k++) {
+                    float dx = entryX[k] - x;
+                    float dy = entryY[k] - y;
+                    float d2 = dx * dx + dy * dy;
+                    if (d2 > best2) continue;
+                    Enemy e = entries[k];
+                    if (!e.isTargetable() || (exclude != null && exclude.contains(e, true))) continue;
+                    best2 = d2;
+                    best = e;
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Retourne le nombre d'ennemis indexes lors du dernier rebuild.
+     * @return nombre d'ennemis
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Retourne la taille de cellule effective du dernier rebuild.
+     * @return taille de cellule
+     */
+    public float getCellSize() {
+        return cellSize;
+    }
+
+    private int cellIndex(float x, float y) {
+        return cellY(y) * cols + cellX(x);
+    }
+
+    private int cellX(float x) {
+        int cx = (int) ((x - originX) / cellSize);
+        if (cx < 0) return 0;
+        return cx >= cols ? cols - 1 : cx;
+    }
+
+    private int cellY(float y) {
+        int cy = (int) ((y - originY) / cellSize);
+        if (cy < 0) return 0;
+        return cy >= rows ? rows - 1 : cy;
+    }
+
+    private int[] tmpCursor(int cells) {
+        System.arraycopy(cellStart, 0, cursorBuffer, 0, cells);
+        return cursorBuffer;
+    }
+
+    private void ensureCapacity(int live, int total, int cells) {
+        if (entries.length < live) {
+            int cap = Math.max(live, entries.length * 2);
+            entries = new Enemy[cap];
+            entryX = new float[cap];
+            entryY = new float[cap];
+        }
+        if (tmpCell.length < total) {
+            tmpCell = new int[Math.max(total, tmpCell.length * 2)];
+        }
+        if (cellStart.length < cells + 1) {
+            cellStart = new int[Math.max(cells + 1, cellStart.length * 2)];
+            cursorBuffer = new int[cellStart.length];
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package io.github.Wasnowl.model;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * SpscQueue : file bornee sans verrou pour un seul producteur et un seul consommateur
+ * (ex: commandes du thread de rendu vers le thread de simulation). Tableau circulaire dont la
+ * capacite est arrondie a une puissance de deux ; chaque index n'est ecrit que par un seul thread.
+ * @param <T> type des elements
+ */
+public class SpscQueue<T> {
+    private final AtomicReferenceArray<T> items;
+    private final int mask;
+    // prochain index a ecrire (producteur) / a lire (consommateur)
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * Cree une file d'au moins {@code capacity} places.
+     * @param capacity capacite minimale
+     */
+    public SpscQueue(int capacity) {
+        int size = 1;
+        while (size < capacity) size <<= 1;
+        this.items = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * Ajoute un element (thread producteur uniquement).
+     * @param item element non null
+     * @return false si la file est pleine
+     */
+    public boolean offer(T item) {
+        long t = tail.get();
+        if (t - head.get() > mask) return false;
+        items.lazySet((int) t & mask, item);
+        tail.lazySet(t + 1);
+        return true;
+    }
+
+    /**
+     * Retire le plus ancien element (thread consommateur uniquement).
+     * @return element ou null si la file est vide
+     */
+    public T poll() {
+        long h = head.get();
+        if (h >= tail.get()) return null;
+        int index = (int) h & mask;
+        T item = items.get(index);
+        items.lazySet(index, null);
+        head.lazySet(h + 1);
+        return item;
+    }
+
+    /**
+     * Retourne la capacite de la file.
+     * @return nombre max d'elements
+     */
+    public int capacity() {
+        return mask + 1;
+    }
+}
@@ -0,0 +1,63 @@
+package io.github.Wasnowl.model;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * TripleBuffer : echange sans verrou de la derniere valeur publiee entre un ecrivain et un lecteur
+ * (un thread chacun). L'ecrivain remplit {@link #getWriteBuffer()} puis {@link #publish()} ; le lecteur
+ * obtient la derniere valeur publiee avec {@link #read()}. Les trois instances sont reutilisees :
+ * l'ecrivain ne touche jamais celle que lit le lecteur et aucun des deux n'attend l'autre.
+ * @param <T> type des valeurs echangees
+ */
+public class TripleBuffer<T> {
+    // bit indiquant que l'instance du milieu est plus recente que celle du lecteur
+    private static final int FRESH = 4;
+    private static final int INDEX_MASK = 3;
+
+    private final Object[] buffers;
+    private final AtomicInteger middle;
+    private int back;
+    private int front;
+
+    /**
+     * Cree un triple buffer sur trois instances distinctes.
+     * @param first instance lue tant que rien n'a ete publie
+     * @param second deuxieme instance
+     * @param third troisieme instance
+     */
+    public TripleBuffer(T first, T second, T third) {
+        this.buffers = new Object[]{first, second, third};
+        this.front = 0;
+        this.middle = new AtomicInteger(1);
+        this.back = 2;
+    }
+
+    /**
+     * Retourne l'instance a remplir par l'ecrivain (thread ecrivain uniquement).
+     * @return instance en ecriture
+     */
+    @SuppressWarnings("unchecked")
+    public T getWriteBuffer() {
+        return (T) buffers[back];
+    }
+
+    /**
+     * Publie l'instance en ecriture ; l'ecrivain recoit une autre instance (thread ecrivain uniquement).
+     */
+    public void publish() {
+        back = middle.getAndSet(back | FRESH) & INDEX_MASK;
+    }
+
+    /**
+     * Retourne la derniere instance publiee (thread lecteur uniquement). Elle reste valide et
+     * inchangee jusqu'au {@code read()} suivant.
+     * @return derniere valeur publiee
+     */
+    @SuppressWarnings("unchecked")
+    public T read() {
+        if ((middle.get() & FRESH) != 0) {
+            front = middle.getAndSet(front) & INDEX_MASK;
+        }
+        return (T) buffers[front];
+    }
+}
@@ -0,0 +1,150 @@
+package io.github.Wasnowl.model;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+
+/**
+ * WaveDefinition : description d'une vague chargee depuis un fichier JSON (assets/waves/).
+ * Une vague est une liste de groupes de spawn independants, chacun avec son type d'ennemi,
+ * son nombre, son delai de depart, son intervalle et sa taille de rafale.
+ * <pre>
+ * { "waves": [ { "groups": [ { "enemy": 1, "count": 3, "delay": 1.5, "interval": 1.5, "burst": 1 } ] } ] }
+ * </pre>
+ */
+public class WaveDefinition {
+    private final Array<SpawnGroup> groups = new Array<>();
+
+    /**
+     * Retourne les groupes de spawn de la vague.
+     * @return groupes
+     */
+    public Array<SpawnGroup> getGroups() {
+        return groups;
+    }
+
+    /**
+     * Ajoute un groupe de spawn.
+     * @param group groupe a ajouter
+     * @return vague courante
+     */
+    public WaveDefinition addGroup(SpawnGroup group) {
+        groups.add(group);
+        return this;
+    }
+
+    /**
+     * Retourne le nombre total d'ennemis de la vague.
+     * @return nombre d'ennemis
+     */
+    public int getEnemyCount() {
+        int total = 0;
+        for (SpawnGroup g : groups) total += g.getCount();
+        return total;
+    }
+
+    /**
+     * Charge les vagues d'un fichier JSON.
+     * @param file fichier de vagues
+     * @return vagues dans l'ordre du fichier
+     */
+    public static Array<WaveDefinition> load(FileHandle file) {
+        Array<WaveDefinition> waves = new Array<>();
+        JsonValue root = new JsonReader().parse(file);
+        JsonValue list = root.get("waves");
+        if (list == null) return waves;
+        for (JsonValue w = list.child; w != null; w = w.next) {
+            WaveDefinition wave = new WaveDefinition();
+            JsonValue groups = w.get("groups");
+            if (groups != null) {
+                for (JsonValue g = groups.child; g != null; g = g.next) {
+                    wave.addGroup(new SpawnGroup(
+                            g.getInt("enemy", -1),
+                            g.getInt("count", 1),
+                            g.getFloat("delay", 0f),
+                            g.getFloat("interval", 0f),
+                            g.getInt("burst", 1),
+                            g.getFloat("health", SpawnGroup.DEFAULT_HEALTH),
+                            g.getFloat("speed", SpawnGroup.DEFAULT_SPEED)));
+                }
+            }
+            waves.add(wave);
+        }
+        return waves;
+    }
+
+    /**
+     * SpawnGroup : un flux d'ennemis d'un meme type (rafales de burst ennemis toutes les interval secondes).
+     */
+    public static class SpawnGroup {
+        /** Vie par defaut d'un ennemi. */
+        public static final float DEFAULT_HEALTH = 100f;
+        /** Vitesse par defaut d'un ennemi. */
+        public static final float DEFAULT_SPEED = 50f;
+
+        private final int enemyType;
+        private final int count;
+        private final float delay;
+        private final float interval;
+        private final int burst;
+        private final float health;
+        private final float speed;
+
+        /**
+         * Cree un groupe de spawn.
+         * @param enemyType identifiant du type d'ennemi (-1 si aucun)
+         * @param count nombre total d'ennemis
+         * @param delay delai avant la premiere rafale (secondes)
+         * @param interval delai entre deux rafales (secondes)
+         * @param burst ennemis par rafale
+         * @param health vie maximale
+         * @param speed vitesse de deplacement
+         */
+        public SpawnGroup(int enemyType, int count, float delay, float interval, int burst, float health, float speed) {
+            this.enemyType = enemyType;
+            this.count = Math.max(0, count);
+            this.delay = Math.max(0f, delay);
+            this.interval = Math.max(0f, interval);
+            this.burst = Math.max(1, burst);
+            this.health = health;
+            this.speed = speed;
+        }
+
+        /**
+         * Retourne le type d'ennemi.
+         * @return type d'ennemi
+         */
+        public int getEnemyType() { return enemyType; }
+        /**
+         * Retourne le nombre total d'ennemis.
+         * @return nombre d'ennemis
+         */
+        public int getCount() { return count; }
+        /**
+         * Retourne le delai avant la premiere rafale.
+         * @return delai (secondes)
+         */
+        public float getDelay() { return delay; }
+        /**
+         * Retourne le delai entre deux rafales.
+         * @return intervalle (secondes)
+         */
+        public float getInterval() { return interval; }
+        /**
+         * Retourne le nombre d'ennemis par rafale.
+         * @return taille de rafale
+         */
+        public int getBurst() { return burst; }
+        /**
+         * Retourne la vie maximale des ennemis du groupe.
+         * @return vie max
+         */
+        public float getHealth() { return health; }
+        /**
+         * Retourne la vitesse des ennemis du groupe.
+         * @return vitesse
+         */
+        public float getSpeed() { return speed; }
+    }
+}
@@ -58,7 +58,7 @@ public class CombatScreen extends ScreenAdapter {
             null,
             keycode -> {
                 if (keycode == com.badlogic.gdx.Input.Keys.ESCAPE) {
-                    game.setScreen(new GameScreen(game));
+                    game.setScreen(new LoadingScreen(game));
                     return true;
                 }
                 return false;
@@ -104,12 +104,23 @@ public class CombatScreen extends ScreenAdapter {
         viewport.update(width, height);
     }
 
+    /**
+     * Quitte l'ecran : ses ressources sont liberees.
+     */
+    @Override
+    public void hide() {
+        dispose();
+    }
+
     /**
      * Libere les ressources de l'ecran.
      */
     @Override
     public void dispose() {
+        if (batch == null) return;
         if (inputController != null) inputController.detach();
+        if (player != null) player.dispose();
         batch.dispose();
+        batch = null;
     }
 }
@@ -51,7 +51,7 @@ public class GameOverScreen extends ScreenAdapter {
         retry.addListener(new ClickListener() {
             @Override
             public void clicked(InputEvent event, float x, float y) {
-                game.setScreen(new GameScreen(game));
+                game.setScreen(new LoadingScreen(game));
             }
         });
 
@@ -18,7 +18,6 @@ import com.badlogic.gdx.maps.objects.TextureMapObject;
 import com.badlogic.gdx.maps.tiled.TiledMap;
 import com.badlogic.gdx.maps.tiled.TiledMapTile;
 import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
-import com.badlogic.gdx.maps.tiled.TmxMapLoader;
 import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.math.Vector3;
@@ -46,17 +45,28 @@ import io.github.Wasnowl.GameMain;
 import io.github.Wasnowl.entities.*;
 import io.github.Wasnowl.managers.WaveManager;
 import io.github.Wasnowl.controllers.GameInputController;
+import io.github.Wasnowl.managers.FrameProfiler;
 import io.github.Wasnowl.managers.ProjectileManager;
+import io.github.Wasnowl.managers.ProjectilePool;
+import io.github.Wasnowl.managers.SpriteAtlasManager;
+import io.github.Wasnowl.managers.EnemyAssetManager;
+import io.github.Wasnowl.managers.TowerAssetManager;
+import io.github.Wasnowl.managers.TextureRegistry;
 import io.github.Wasnowl.builders.TowerBuilder;
 import io.github.Wasnowl.managers.CurrencyManager;
 import io.github.Wasnowl.entities.TowerType;
-import com.badlogic.gdx.graphics.glutils.FrameBuffer;
-import com.badlogic.gdx.graphics.Pixmap;
-import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.MathUtils;
 import io.github.Wasnowl.controllers.GameController;
+import io.github.Wasnowl.controllers.SimulationThread;
+import io.github.Wasnowl.map.AtlasTilesetMapLoader;
+import io.github.Wasnowl.map.BlurredBackground;
+import io.github.Wasnowl.map.ObjectLayerDrawList;
+import io.github.Wasnowl.map.TileLayerCache;
+import io.github.Wasnowl.model.CollisionMap;
 import io.github.Wasnowl.model.GameState;
+import io.github.Wasnowl.model.RenderSnapshot;
+import io.github.Wasnowl.ui.ProfilerOverlay;
 
 /**
  * Ecran principal du jeu tower defense.
@@ -75,53 +85,20 @@ public class GameScreen extends ScreenAdapter {
     private static final float DEFAULT_PLAYER_MAX_HEALTH = 20f;
     private static final String PAUSE_TITLE = "Pause";
     private static final String OPTIONS_TITLE = "Options";
-    private static final String BLUR_VERTEX_SHADER =
-        "attribute vec4 a_position;\n" +
-        "attribute vec4 a_color;\n" +
-        "attribute vec2 a_texCoord0;\n" +
-        "uniform mat4 u_projTrans;\n" +
-        "varying vec4 v_color;\n" +
-        "varying vec2 v_texCoords;\n" +
-        "void main() {\n" +
-        "    v_color = a_color;\n" +
-        "    v_texCoords = a_texCoord0;\n" +
-        "    gl_Position = u_projTrans * a_position;\n" +
-        "}\n";
-    private static final String BLUR_FRAGMENT_SHADER =
-        "#ifdef GL_ES\n" +
-        "precision mediump float;\n" +
-        "#endif\n" +
-        "varying vec4 v_color;\n" +
-        "varying vec2 v_texCoords;\n" +
-        "uniform sampler2D u_texture;\n" +
-        "uniform vec2 u_texelSize;\n" +
-        "void main() {\n" +
-        "    vec4 sum = vec4(0.0);\n" +
-        "    sum += texture2D(u_texture, v_texCoords) * 0.16;\n" +
-        "    sum += texture2D(u_texture, v_texCoords + vec2(u_texelSize.x, 0.0)) * 0.12;\n" +
-        "    sum += texture2D(u_texture, v_texCoords - vec2(u_texelSize.x, 0.0)) * 0.12;\n" +
-        "    sum += texture2D(u_texture, v_texCoords + vec2(0.0, u_texelSize.y)) * 0.12;\n" +
-        "    sum += texture2D(u_texture, v_texCoords - vec2(0.0, u_texelSize.y)) * 0.12;\n" +
-        "    sum += texture2D(u_texture, v_texCoords + u_texelSize) * 0.09;\n" +
-        "    sum += texture2D(u_texture, v_texCoords - u_texelSize) * 0.09;\n" +
-        "    sum += texture2D(u_texture, v_texCoords + vec2(u_texelSize.x, -u_texelSize.y)) * 0.09;\n" +
-        "    sum += texture2D(u_texture, v_texCoords + vec2(-u_texelSize.x, u_texelSize.y)) * 0.09;\n" +
-        "    gl_FragColor = v_color * sum;\n" +
-        "}\n";
 
 
     private OrthographicCamera camera;
-    private OrthographicCamera screenCamera;
     private Viewport viewport;
     private TiledMap map;
     private OrthogonalTiledMapRenderer mapRenderer;
+    private ObjectLayerDrawList objectDrawList;
+    private TileLayerCache tileLayerCache;
+    private boolean cacheStaticTiles = true;
     private SpriteBatch batch;
     private int mapPixelWidth;
     private int mapPixelHeight;
-    private Array<Rectangle> collisionRects;
-    private FrameBuffer backgroundBuffer;
-    private TextureRegion backgroundRegion;
-    private ShaderProgram blurShader;
+    private CollisionMap collisionMap;
+    private BlurredBackground backgroundBlur;
     // UI
     private Stage uiStage;
     private Skin uiSkin;
@@ -129,10 +106,14 @@ public class GameScreen extends ScreenAdapter {
     private boolean showTowerMenu = false;
     private boolean placingPreview = false;
     private TowerType previewTowerType = null;
+    // Politique de ciblage des prochaines tours posees (bouton du menu des tours)
+    private TargetingPolicy targetingPolicy = TargetingPolicy.FIRST;
     private Vector2 previewPosition = new Vector2();
     private final Vector2 cameraOffset = new Vector2();
+    private final Vector2 playerRenderPosition = new Vector2();
     private ShapeRenderer shapeRenderer;
     private BitmapFont hudFont;
+    private ProfilerOverlay profilerOverlay;
     private Label balanceLabel;
     private Label costLabel;
     private TextButton nextWaveButton;
@@ -143,6 +124,11 @@ public class GameScreen extends ScreenAdapter {
     private Window pauseWindow;
     private Window pauseOptionsWindow;
     private boolean paused = false;
+    // Sortie d'ecran pendant render() (portail, game over) : liberation reportee en fin de frame
+    private boolean rendering;
+    private boolean exited;
+    private boolean disposed;
+    private final Array<String> projectileSheets = new Array<>();
 
     private PlayerTower player;
     private Array<Tower> towers;
@@ -155,6 +141,13 @@ public class GameScreen extends ScreenAdapter {
     private WaveManager waveManager;
     private GameInputController inputController;
     private GameController gameController;
+    // Simulation sur un thread dedie (optionnel) : le rendu ne lit que les images publiees
+    private boolean threadedSimulation;
+    private SimulationThread simulation;
+    private RenderSnapshot snapshot;
+    private final long[] profileCounts = new long[FrameProfiler.Counter.values().length];
+    private final Vector2 sentInputDirection = new Vector2();
+    private int displayedGold = -1;
 
     /**
      * Cree l'ecran principal avec la map par defaut.
@@ -174,6 +167,25 @@ public class GameScreen extends ScreenAdapter {
         this.mapPath = mapPath;
     }
 
+    /**
+     * Active ou desactive le rendu des tile layers statiques par chunks precalcules
+     * (a appeler avant l'affichage de l'ecran).
+     * @param enabled true pour le cache de tuiles (par defaut), false pour le renderer Tiled seul
+     */
+    public void setStaticTileCaching(boolean enabled) {
+        this.cacheStaticTiles = enabled;
+    }
+
+    /**
+     * Active la simulation sur un thread dedie (a appeler avant l'affichage de l'ecran) : le modele avance
+     * sur son propre thread, le rendu dessine la derniere {@link RenderSnapshot} publiee et les actions du
+     * joueur sont transmises par une file de commandes.
+     * @param enabled true pour le thread de simulation, false pour la boucle sur le thread de rendu (par defaut)
+     */
+    public void setThreadedSimulation(boolean enabled) {
+        this.threadedSimulation = enabled;
+    }
+
     /**
      * Charge la map, initialise les entites, UI et controleurs.
      */
@@ -195,7 +207,7 @@ public class GameScreen extends ScreenAdapter {
         gameState.setPlayerMaxHealth(DEFAULT_PLAYER_MAX_HEALTH);
         gameState.setPlayerHealth(DEFAULT_PLAYER_MAX_HEALTH);
         gameState.getTowers().clear();
-        gameState.getEnemies().clear();
+        gameState.getEnemyStore().clear();
         gameState.getProjectiles().clear();
 
         // assign arrays to our references and GameState
@@ -214,37 +226,32 @@ public class GameScreen extends ScreenAdapter {
         portals.add(new Portal(new Rectangle(750, 550, 50, 50), "maps/NextLevel.tmx", Portal.Type.MAP));
 
         player = new PlayerTower(100, 100, 150, 1f, enemies, projectiles, portals, game);
+        player.setSpatialIndex(gameState.getSpatialIndex());
+        player.setProgressIndex(gameState.getProgressIndex());
         gameState.setPlayer(player);
         // WaveManager now can use GameState
         waveManager = new WaveManager(gameState);
+        // Animations de tous les ennemis des vagues : rien a charger pendant le combat
+        waveManager.preloadEnemyAssets();
         // Controller: orchestre les updates du modèle (séparation MVC)
-        gameController = new GameController(waveManager, projectileManager, player, towers, enemies, projectiles);
+        gameController = new GameController(gameState, waveManager, projectileManager);
 
         // ShapeRenderer for preview
         shapeRenderer = new ShapeRenderer();
 
-        // Charger les sprites de projectiles (si présents) depuis assets/projectiles/
+        // Charger les sprites de projectiles (si présents) depuis l'atlas des entites ou assets/projectiles/
         try {
-            com.badlogic.gdx.graphics.Texture tSimple = null;
-            com.badlogic.gdx.graphics.Texture tAoe = null;
-            com.badlogic.gdx.graphics.Texture tRic = null;
-            if (Gdx.files.internal("projectiles/simple.png").exists()) {
-                tSimple = new com.badlogic.gdx.graphics.Texture(Gdx.files.internal("projectiles/simple.png"));
-            }
-            if (Gdx.files.internal("projectiles/aoe.png").exists()) {
-                tAoe = new com.badlogic.gdx.graphics.Texture(Gdx.files.internal("projectiles/aoe.png"));
-            }
-            if (Gdx.files.internal("projectiles/ricochet.png").exists()) {
-                tRic = new com.badlogic.gdx.graphics.Texture(Gdx.files.internal("projectiles/ricochet.png"));
-            }
+            com.badlogic.gdx.graphics.g2d.TextureRegion tSimple = loadProjectileSheet("projectiles/simple.png");
+            com.badlogic.gdx.graphics.g2d.TextureRegion tAoe = loadProjectileSheet("projectiles/AOE.png");
+            com.badlogic.gdx.graphics.g2d.TextureRegion tRic = loadProjectileSheet("projectiles/ricochet.png");
 
             float frameDuration = 0.12f;
-            java.util.function.BiConsumer<com.badlogic.gdx.graphics.Texture, io.github.Wasnowl.entities.ProjectileType> buildAnim = (tex, ptype) -> {
+            java.util.function.BiConsumer<com.badlogic.gdx.graphics.g2d.TextureRegion, io.github.Wasnowl.entities.ProjectileType> buildAnim = (tex, ptype) -> {
                 if (tex == null) return;
                 int frameCount = 2;
-                int fw = tex.getWidth() / frameCount;
-                int fh = tex.getHeight();
-                com.badlogic.gdx.graphics.g2d.TextureRegion[][] tmp = com.badlogic.gdx.graphics.g2d.TextureRegion.split(tex, fw, fh);
+                int fw = tex.getRegionWidth() / frameCount;
+                int fh = tex.getRegionHeight();
+                com.badlogic.gdx.graphics.g2d.TextureRegion[][] tmp = tex.split(fw, fh);
                 com.badlogic.gdx.utils.Array<com.badlogic.gdx.graphics.g2d.TextureRegion> frames = new com.badlogic.gdx.utils.Array<>();
                 for (int i = 0; i < frameCount; i++) frames.add(tmp[0][i]);
                 com.badlogic.gdx.graphics.g2d.Animation<com.badlogic.gdx.graphics.g2d.TextureRegion> anim = new com.badlogic.gdx.graphics.g2d.Animation<>(frameDuration, frames, com.badlogic.gdx.graphics.g2d.Animation.PlayMode.LOOP);
@@ -264,14 +271,19 @@ public class GameScreen extends ScreenAdapter {
         }
 
         // Charger la carte depuis assets/maps/
-        map = new TmxMapLoader().load(mapPath);
+        map = new AtlasTilesetMapLoader().load(mapPath);
         mapRenderer = new OrthogonalTiledMapRenderer(map, 1f);
+        objectDrawList = new ObjectLayerDrawList(map);
+        if (cacheStaticTiles) tileLayerCache = new TileLayerCache(map, mapRenderer);
         configureViewportForMap();
-        collisionRects = buildCollisionRects();
-        player.setCollisionRects(collisionRects);
-        player.setWorldBounds(mapPixelWidth, mapPixelHeight);
         int tileWidth = map.getProperties().get("tilewidth", Integer.class);
         int tileHeight = map.getProperties().get("tileheight", Integer.class);
+        collisionMap = new CollisionMap(buildCollisionRects(),
+                map.getProperties().get("width", Integer.class),
+                map.getProperties().get("height", Integer.class),
+                tileWidth, tileHeight);
+        player.setCollisionMap(collisionMap);
+        player.setWorldBounds(mapPixelWidth, mapPixelHeight);
         float step = Math.min(tileWidth, tileHeight);
         float searchRadius = Math.max(mapPixelWidth, mapPixelHeight);
         player.setPositionSafe(mapPixelWidth * 0.5f, mapPixelHeight * 0.5f, searchRadius, step);
@@ -282,12 +294,13 @@ public class GameScreen extends ScreenAdapter {
         setupBackgroundBlur();
 
         // UI stage for tower menu (use same aspect ratio as the map)
-        uiSkin = new Skin(Gdx.files.internal("uiskin.json"));
+        uiSkin = TextureRegistry.getInstance().acquire(LoadingScreen.SKIN_PATH, Skin.class);
         uiStage = new Stage(new FitViewport(mapPixelWidth, mapPixelHeight));
         uiStage.getViewport().update(Gdx.graphics.getWidth(), Gdx.graphics.getHeight(), true);
 
         // HUD font and labels
-        hudFont = new BitmapFont(Gdx.files.internal("default.fnt"));
+        hudFont = TextureRegistry.getInstance().acquire(LoadingScreen.FONT_PATH, BitmapFont.class);
+        profilerOverlay = new ProfilerOverlay(hudFont);
         balanceLabel = new Label("Gold: " + currencyManager.getBalance(), new Label.LabelStyle(hudFont, Color.WHITE));
         costLabel = new Label("", new Label.LabelStyle(hudFont, Color.YELLOW));
 
@@ -314,8 +327,10 @@ public class GameScreen extends ScreenAdapter {
                 shapeRenderer.setColor(Color.DARK_GRAY);
                 shapeRenderer.rect(x, y, barWidth, barHeight);
                 // Remplissage selon la vie
-                float maxHealth = gameState != null ? gameState.getPlayerMaxHealth() : 0f;
-                float currentHealth = gameState != null ? gameState.getPlayerHealth() : 0f;
+                float maxHealth = snapshot != null ? snapshot.getPlayerMaxHealth()
+                    : gameState != null ? gameState.getPlayerMaxHealth() : 0f;
+                float currentHealth = snapshot != null ? snapshot.getPlayerHealth()
+                    : gameState != null ? gameState.getPlayerHealth() : 0f;
                 float ratio = maxHealth > 0f ? Math.max(0f, Math.min(1f, currentHealth / maxHealth)) : 0f;
                 shapeRenderer.setColor(Color.RED);
                 shapeRenderer.rect(x, y, barWidth * ratio, barHeight);
@@ -353,8 +368,10 @@ public class GameScreen extends ScreenAdapter {
         nextWaveButton.addListener(new ClickListener() {
             @Override
             public void clicked(InputEvent event, float x, float y) {
-                if (waveManager != null && waveManager.isWaveFinished()) {
-                    waveManager.startNextWave();
+                if (simulation != null) {
+                    simulation.post(GameScreen.this::startNextWave);
+                } else {
+                    startNextWave();
                 }
             }
         });
@@ -371,7 +388,17 @@ public class GameScreen extends ScreenAdapter {
             // MoveHandler: transmet la direction continue de l'utilisateur
             (com.badlogic.gdx.math.Vector2 dir) -> {
                 // dir est un Vector2 indicatif, normaliser si nécessaire
-                if (player != null) player.setInputDirection(dir);
+                if (simulation != null) {
+                    // seuls les changements de direction traversent la file
+                    if (!sentInputDirection.equals(dir)) {
+                        sentInputDirection.set(dir);
+                        final float dx = dir.x;
+                        final float dy = dir.y;
+                        simulation.post(() -> player.setInputDirection(new Vector2(dx, dy)));
+                    }
+                } else if (player != null) {
+                    player.setInputDirection(dir);
+                }
             },
             (int screenX, int screenY, int pointer, int button) -> {
                   // Left click placement
@@ -380,22 +407,16 @@ public class GameScreen extends ScreenAdapter {
                     viewport.unproject(tmp);
                     float wx = tmp.x;
                     float wy = tmp.y;
-                    // simple overlap check: don't place if too close to existing tower
-                    boolean overlap = false;
-                    for (Tower t : towers) {
-                        if (t.getPosition().dst(wx, wy) < 32f) { overlap = true; break; }
-                    }
-                    if (!overlap && previewTowerType != null && currencyManager.canAfford(previewTowerType.getCost())) {
-                        currencyManager.spend(previewTowerType.getCost());
-                        balanceLabel.setText("Gold: " + currencyManager.getBalance());
-                        Tower placed = new TowerBuilder(wx, wy)
-                            .withRange(previewTowerType.getProjectileType().isAOE() ? 180f : 200f)
-                            .withFireRate(previewTowerType.getProjectileType().isAOE() ? 1f : 1.5f)
-                            .withTowerType(previewTowerType)
-                            .withEnemies(enemies)
-                            .withProjectiles(projectiles)
-                            .build();
-                        towers.add(placed);
+                    if (previewTowerType != null) {
+                        TowerType type = previewTowerType;
+                        if (simulation != null) {
+                            // tour construite ici (chargement des textures), placee par le thread de simulation
+                            Tower tower = buildTower(type, wx, wy);
+                            simulation.post(() -> placeTower(tower, type));
+                        } else if (canPlaceTower(type, wx, wy)) {
+                            placeTower(buildTower(type, wx, wy), type);
+                            balanceLabel.setText("Gold: " + currencyManager.getBalance());
+                        }
                     }
                     // exit placement mode
                     placingPreview = false;
@@ -432,7 +453,8 @@ public class GameScreen extends ScreenAdapter {
 
         // Callback pour mettre à jour l'UI quand l'argent change
         waveManager.setOnMoneyChanged(() -> {
-            balanceLabel.setText("Gold: " + currencyManager.getBalance());
+            // avec le thread de simulation, le HUD suit l'image publiee
+            if (simulation == null) balanceLabel.setText("Gold: " + currencyManager.getBalance());
         });
 
         // Callback pour gérer la perte de vie lorsque des ennemis atteignent la fin du chemin
@@ -440,6 +462,11 @@ public class GameScreen extends ScreenAdapter {
             float currentHealth = gameState != null ? gameState.getPlayerHealth() : 0f;
             setPlayerHealth(currentHealth - amount);
         });
+
+        if (threadedSimulation) {
+            simulation = new SimulationThread(gameController, gameState, waveManager, projectileManager);
+            simulation.start();
+        }
     }
 
     /**
@@ -448,6 +475,9 @@ public class GameScreen extends ScreenAdapter {
      */
     @Override
     public void render(float delta) {
+        rendering = true;
+        FrameProfiler profiler = FrameProfiler.getInstance();
+        profiler.begin(FrameProfiler.Section.FRAME);
         Gdx.gl.glClearColor(0, 0, 0, 1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
@@ -456,9 +486,9 @@ public class GameScreen extends ScreenAdapter {
         if (!paused) {
             // Update input controller first (continuous input like movement)
             if (inputController != null) inputController.update(delta);
-             // Update via GameController (sépare la logique d'update de la vue)
-             if (gameController != null) {
-                 gameController.update(delta);
+             // Update via GameController (pas fixes, sépare la logique d'update de la vue)
+             if (gameController != null && simulation == null) {
+                 gameController.advance(delta);
                  // Activer/désactiver le bouton Next Wave selon l'état de la vague
                  if (nextWaveButton != null && waveManager != null) {
                      nextWaveButton.setDisabled(!waveManager.isWaveFinished());
@@ -466,27 +496,53 @@ public class GameScreen extends ScreenAdapter {
              }
          }
 
+        float alpha;
+        if (simulation != null) {
+            snapshot = simulation.getLatestSnapshot();
+            alpha = simulation.getAlpha(snapshot);
+            profiler.addSimulationTotals(snapshot.getProfileTotals());
+            updateHudFromSnapshot();
+            snapshot.getPlayerPosition(alpha, playerRenderPosition);
+        } else {
+            alpha = gameController != null ? gameController.getAlpha() : 1f;
+            if (player != null) player.getInterpolatedPosition(alpha, playerRenderPosition);
+        }
         if (player != null) {
-            camera.position.x = player.getPosition().x + cameraOffset.x;
-            camera.position.y = player.getPosition().y + cameraOffset.y;
+            camera.position.x = playerRenderPosition.x + cameraOffset.x;
+            camera.position.y = playerRenderPosition.y + cameraOffset.y;
         }
 
         viewport.apply();
         camera.update();
-        mapRenderer.setView(camera);
-        mapRenderer.render();
+        profiler.begin(FrameProfiler.Section.MAP);
+        if (tileLayerCache != null) {
+            // Tuiles statiques en chunks precalcules, seules les tuiles animees sont resoumises
+            tileLayerCache.render(camera);
+        } else {
+            mapRenderer.setView(camera);
+            mapRenderer.render();
+        }
+        profiler.end(FrameProfiler.Section.MAP);
 
         // Rendre les object layers (buildings, trees, props, etc.)
+        profiler.begin(FrameProfiler.Section.OBJECTS);
         renderMapObjectLayer(batch);
+        profiler.end(FrameProfiler.Section.OBJECTS);
 
         // Render
+        profiler.begin(FrameProfiler.Section.ENTITIES);
         batch.setProjectionMatrix(camera.combined);
         batch.begin();
-        player.render(batch);
-        for (Tower t : towers) t.render(batch);
-        for (Enemy e : enemies) e.render(batch);
-        projectileManager.render(batch);  // Utiliser le ProjectileManager
+        if (simulation != null) {
+            snapshot.render(batch, alpha);
+        } else {
+            player.render(batch, alpha);
+            for (Tower t : towers) t.render(batch);
+            for (Enemy e : enemies) e.render(batch, alpha);
+            projectileManager.render(batch, alpha);  // Utiliser le ProjectileManager
+        }
         batch.end();
+        profiler.end(FrameProfiler.Section.ENTITIES);
 
         // Projectiles are now rendered by their Sprite/Animation via ProjectileManager
 
@@ -510,10 +566,27 @@ public class GameScreen extends ScreenAdapter {
         }
 
         // Draw UI on top
+        profiler.begin(FrameProfiler.Section.UI);
         if (uiStage != null) {
             uiStage.act(delta);
             uiStage.draw();
         }
+        profiler.end(FrameProfiler.Section.UI);
+        profiler.end(FrameProfiler.Section.FRAME);
+        if (profiler.isEnabled()) recordProfilerCounts(profiler);
+        profiler.endFrame();
+        profilerOverlay.render(batch, delta, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        rendering = false;
+        if (exited) dispose();
+    }
+
+    /**
+     * Quitte l'ecran : ses ressources sont liberees (en fin de frame si l'on est dans render()).
+     */
+    @Override
+    public void hide() {
+        exited = true;
+        if (!rendering) dispose();
     }
 
     /**
@@ -525,7 +598,6 @@ public class GameScreen extends ScreenAdapter {
     public void resize(int width, int height) {
         if (viewport != null) viewport.update(width, height);
         if (uiStage != null) uiStage.getViewport().update(width, height, true);
-        if (screenCamera != null) screenCamera.setToOrtho(false, width, height);
         centerWindow(pauseWindow);
         centerWindow(pauseOptionsWindow);
     }
@@ -535,15 +607,25 @@ public class GameScreen extends ScreenAdapter {
      */
     @Override
     public void dispose() {
+        if (disposed) return;
+        disposed = true;
+        // le modele n'est plus touche par la simulation une fois le thread arrete
+        if (simulation != null) simulation.stop();
+        for (String path : projectileSheets) SpriteAtlasManager.getInstance().releaseSheet(path);
+        projectileSheets.clear();
+        // spritesheets des ennemis et des tours : rechargees a la demande par la partie suivante
+        EnemyAssetManager.getInstance().dispose();
+        TowerAssetManager.getInstance().dispose();
+        if (player != null) player.dispose();
         map.dispose();
         mapRenderer.dispose();
+        if (tileLayerCache != null) tileLayerCache.dispose();
         batch.dispose();
         if (uiStage != null) uiStage.dispose();
-        if (uiSkin != null) uiSkin.dispose();
+        if (uiSkin != null) TextureRegistry.getInstance().release(LoadingScreen.SKIN_PATH);
         if (shapeRenderer != null) shapeRenderer.dispose();
-        if (hudFont != null) hudFont.dispose();
-        if (backgroundBuffer != null) backgroundBuffer.dispose();
-        if (blurShader != null) blurShader.dispose();
+        if (hudFont != null) TextureRegistry.getInstance().release(LoadingScreen.FONT_PATH);
+        if (backgroundBlur != null) backgroundBlur.dispose();
         // Detach input controller
         if (inputController != null) inputController.detach();
     }
@@ -563,11 +645,13 @@ public class GameScreen extends ScreenAdapter {
         TextButton btnSimple = new TextButton("Simple (" + TowerType.SIMPLE.getCost() + ")", uiSkin);
         TextButton btnAOE = new TextButton("AOE (" + TowerType.AOE.getCost() + ")", uiSkin);
         TextButton btnCleave = new TextButton("Cleave (" + TowerType.RICOCHET.getCost() + ")", uiSkin);
+        final TextButton btnTarget = new TextButton("Target: " + targetingPolicy.getLabel(), uiSkin);
         TextButton btnClose = new TextButton("Close", uiSkin);
 
         window.add(btnSimple).row();
         window.add(btnAOE).row();
         window.add(btnCleave).row();
+        window.add(btnTarget).row();
         window.add(btnClose).row();
         window.pack();
         window.setPosition(uiStage.getViewport().getWorldWidth()/2f - window.getWidth()/2f, 60);
@@ -632,6 +716,14 @@ public class GameScreen extends ScreenAdapter {
             }
         });
 
+        btnTarget.addListener(new ClickListener() {
+            @Override
+            public void clicked(InputEvent event, float x, float y) {
+                targetingPolicy = targetingPolicy.next();
+                btnTarget.setText("Target: " + targetingPolicy.getLabel());
+            }
+        });
+
         btnClose.addListener(new ClickListener() {
             @Override
             public void clicked(InputEvent event, float x, float y) {
@@ -645,38 +737,11 @@ public class GameScreen extends ScreenAdapter {
     }
 
     private void renderMapObjectLayer(SpriteBatch batch) {
-        if (map == null) return;
+        if (objectDrawList == null) return;
 
         batch.setProjectionMatrix(camera.combined);
         batch.begin();
-
-        // Parcourir tous les layers pour trouver les object layers
-        for (com.badlogic.gdx.maps.MapLayer mapLayer : map.getLayers()) {
-            // Vérifier si c'est un layer sans tuiles (object layer)
-            if (!(mapLayer instanceof com.badlogic.gdx.maps.tiled.TiledMapTileLayer)) {
-                // Accéder aux objets du layer
-                com.badlogic.gdx.maps.MapObjects objects = mapLayer.getObjects();
-                if (objects != null) {
-                    for (com.badlogic.gdx.maps.MapObject obj : objects) {
-                        // Vérifier s'il y a un GID (global tile id)
-                        Object gidObj = obj.getProperties().get("gid");
-                        if (gidObj != null) {
-                            int gid = ((Number) gidObj).intValue();
-
-                            // Chercher le tile avec ce gid dans les tilesets
-                            com.badlogic.gdx.maps.tiled.TiledMapTile tile = map.getTileSets().getTile(gid);
-                            if (tile != null && tile.getTextureRegion() != null) {
-                                com.badlogic.gdx.graphics.g2d.TextureRegion region = tile.getTextureRegion();
-                                float x = ((Number) obj.getProperties().get("x")).floatValue();
-                                float y = ((Number) obj.getProperties().get("y")).floatValue();
-                                batch.draw(region, x, y);
-                            }
-                        }
-                    }
-                }
-            }
-        }
-
+        objectDrawList.render(batch, camera);
         batch.end();
     }
 
@@ -704,60 +769,32 @@ public class GameScreen extends ScreenAdapter {
         if (mapPixelWidth <= 0 || mapPixelHeight <= 0) {
             return;
         }
-
-        backgroundBuffer = new FrameBuffer(Pixmap.Format.RGBA8888, mapPixelWidth, mapPixelHeight, false);
-        backgroundBuffer.begin();
-        Gdx.gl.glViewport(0, 0, mapPixelWidth, mapPixelHeight);
-        Gdx.gl.glClearColor(0, 0, 0, 1);
-        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
-
-        OrthographicCamera bgCamera = new OrthographicCamera();
-        bgCamera.setToOrtho(false, mapPixelWidth, mapPixelHeight);
-        mapRenderer.setView(bgCamera);
-        mapRenderer.render();
-        backgroundBuffer.end();
-
-        backgroundRegion = new TextureRegion(backgroundBuffer.getColorBufferTexture());
-        backgroundRegion.flip(false, true);
-
-        blurShader = new ShaderProgram(BLUR_VERTEX_SHADER, BLUR_FRAGMENT_SHADER);
-        if (!blurShader.isCompiled()) {
-            Gdx.app.log("SHADER", "Blur shader compile error: " + blurShader.getLog());
-            blurShader = null;
-        }
-
-        screenCamera = new OrthographicCamera();
-        screenCamera.setToOrtho(false, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        backgroundBlur = new BlurredBackground(mapRenderer, mapPixelWidth, mapPixelHeight);
     }
 
     private void renderBackgroundBlur() {
-        if (backgroundRegion == null || blurShader == null) {
+        if (backgroundBlur == null) {
             return;
         }
+        backgroundBlur.render(batch, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+    }
 
-        float screenWidth = Gdx.graphics.getWidth();
-        float screenHeight = Gdx.graphics.getHeight();
-        Gdx.gl.glViewport(0, 0, (int) screenWidth, (int) screenHeight);
-        screenCamera.setToOrtho(false, screenWidth, screenHeight);
-        screenCamera.update();
-
-        batch.setProjectionMatrix(screenCamera.combined);
-        batch.setShader(blurShader);
-        batch.begin();
-        blurShader.setUniformf(
-            "u_texelSize",
-            1f / backgroundRegion.getTexture().getWidth(),
-            1f / backgroundRegion.getTexture().getHeight()
-        );
+    private void recordProfilerCounts(FrameProfiler profiler) {
+        // avec le thread de simulation, les collections ne sont lues que par lui : compteurs de l'image
+        if (simulation != null) {
+            profiler.countSimulation(snapshot.getProfileCounts());
+        } else if (gameController != null) {
+            gameController.countEntities(profileCounts);
+            profiler.countSimulation(profileCounts);
+        }
+    }
 
-        float scale = Math.max(screenWidth / mapPixelWidth, screenHeight / mapPixelHeight);
-        float drawWidth = mapPixelWidth * scale;
-        float drawHeight = mapPixelHeight * scale;
-        float drawX = (screenWidth - drawWidth) / 2f;
-        float drawY = (screenHeight - drawHeight) / 2f;
-        batch.draw(backgroundRegion, drawX, drawY, drawWidth, drawHeight);
-        batch.end();
-        batch.setShader(null);
+    private TextureRegion loadProjectileSheet(String path) {
+        SpriteAtlasManager atlas = SpriteAtlasManager.getInstance();
+        if (!atlas.hasSheet(path)) return null;
+        TextureRegion sheet = atlas.getSheet(path);
+        projectileSheets.add(path);
+        return sheet;
     }
 
     private Array<Rectangle> buildCollisionRects() {
@@ -864,6 +901,7 @@ public class GameScreen extends ScreenAdapter {
 
     private void togglePause() {
         paused = !paused;
+        if (simulation != null) simulation.setPaused(paused);
         if (paused) {
             if (placingPreview) {
                 placingPreview = false;
@@ -990,11 +1028,59 @@ public class GameScreen extends ScreenAdapter {
         if (gameState != null) {
             gameState.setPlayerHealth(clamped);
         }
-        if (clamped <= 0f) {
+        // avec le thread de simulation, le game over est detecte au rendu (updateHudFromSnapshot)
+        if (clamped <= 0f && simulation == null) {
             game.setScreen(new GameOverScreen(game));
         }
     }
 
+    private void updateHudFromSnapshot() {
+        if (snapshot.getGold() != displayedGold) {
+            displayedGold = snapshot.getGold();
+            balanceLabel.setText("Gold: " + displayedGold);
+        }
+        if (nextWaveButton != null && !paused) nextWaveButton.setDisabled(!snapshot.isWaveFinished());
+        if (snapshot.getPlayerMaxHealth() > 0f && snapshot.getPlayerHealth() <= 0f && !exited) {
+            game.setScreen(new GameOverScreen(game));
+        }
+    }
+
+    private void startNextWave() {
+        if (waveManager != null && waveManager.isWaveFinished()) {
+            // Pré-allouer les projectiles des tours posées avant le combat
+            ProjectilePool.getInstance().prewarm(gameState.getTowers());
+            waveManager.startNextWave();
+        }
+    }
+
+    private boolean canPlaceTower(TowerType type, float x, float y) {
+        // simple overlap check: don't place if too close to existing tower
+        for (Tower t : towers) {
+            if (t.getPosition().dst(x, y) < 32f) return false;
+        }
+        return currencyManager.canAfford(type.getCost());
+    }
+
+    private Tower buildTower(TowerType type, float x, float y) {
+        return new TowerBuilder(x, y)
+            .withRange(type.getProjectileType().isAOE() ? 180f : 200f)
+            .withFireRate(type.getProjectileType().isAOE() ? 1f : 1.5f)
+            .withTowerType(type)
+            .withEnemies(enemies)
+            .withProjectiles(projectiles)
+            .withSpatialIndex(gameState.getSpatialIndex())
+            .withProgressIndex(gameState.getProgressIndex())
+            .withTargetingPolicy(targetingPolicy)
+            .build();
+    }
+
+    private void placeTower(Tower tower, TowerType type) {
+        // re-verifie sur le thread de simulation : l'or a pu changer depuis le clic
+        if (!canPlaceTower(type, tower.getPosition().x, tower.getPosition().y)) return;
+        currencyManager.spend(type.getCost());
+        towers.add(tower);
+    }
+
     private void setGameplayUiVisible(boolean visible) {
         if (hudTable != null) hudTable.setVisible(visible);
         if (towerButtonTable != null) towerButtonTable.setVisible(visible);
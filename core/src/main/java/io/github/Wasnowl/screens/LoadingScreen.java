@@ -0,0 +1,140 @@
+package io.github.Wasnowl.screens;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.ScreenAdapter;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.badlogic.gdx.utils.Array;
+import io.github.Wasnowl.GameMain;
+import io.github.Wasnowl.managers.AssetIndex;
+import io.github.Wasnowl.managers.SpriteAtlasManager;
+import io.github.Wasnowl.managers.TextureRegistry;
+import io.github.Wasnowl.map.AtlasTilesetMapLoader;
+
+/**
+ * Ecran de chargement entre le menu et le {@link GameScreen}.
+ * Met en file les ressources du jeu dans le {@link TextureRegistry} (decodage des images en tache
+ * de fond), affiche la progression, puis lance le GameScreen dont le {@code show()} ne fait plus
+ * que recuperer des ressources pretes. {@code Game.setScreen} appelle {@link #hide()} avant le
+ * {@code show()} du GameScreen : les references prises ici ne sont rendues qu'a la frame suivante
+ * (via {@code postRunnable}), une fois que le GameScreen a pris les siennes.
+ */
+public class LoadingScreen extends ScreenAdapter {
+    /** Skin de l'interface. */
+    public static final String SKIN_PATH = "uiskin.json";
+    /** Police du HUD. */
+    public static final String FONT_PATH = "default.fnt";
+    // Spritesheets utilises des l'entree en jeu (l'atlas des entites s'il existe)
+    private static final String[] ENTITY_SHEETS = {
+        "player/Char.png", "player/Char_Idle.png",
+        "projectiles/simple.png", "projectiles/AOE.png", "projectiles/ricochet.png"
+    };
+    private static final int UPDATE_BUDGET_MS = 12;
+    private static final float BAR_WIDTH = 400f;
+    private static final float BAR_HEIGHT = 16f;
+
+    private final GameMain game;
+    private final String mapPath;
+    private final Array<String> queuedSheets = new Array<>();
+    private final Array<String> queuedAssets = new Array<>();
+    private ShapeRenderer shapeRenderer;
+
+    /**
+     * Cree un ecran de chargement vers la map par defaut.
+     * @param game instance du jeu
+     */
+    public LoadingScreen(GameMain game) {
+        this(game, null);
+    }
+
+    /**
+     * Cree un ecran de chargement vers une map donnee.
+     * @param game instance du jeu
+     * @param mapPath chemin de la map (null pour la map par defaut)
+     */
+    public LoadingScreen(GameMain game, String mapPath) {
+        this.game = game;
+        this.mapPath = mapPath;
+    }
+
+    /**
+     * Met en file les ressources du GameScreen.
+     */
+    @Override
+    public void show() {
+        shapeRenderer = new ShapeRenderer();
+        SpriteAtlasManager sheets = SpriteAtlasManager.getInstance();
+        for (String path : ENTITY_SHEETS) {
+            if (!sheets.hasSheet(path)) continue;
+            sheets.queueSheet(path);
+            queuedSheets.add(path);
+        }
+        if (AssetIndex.getInstance().contains(AtlasTilesetMapLoader.ATLAS_PATH)) {
+            queue(AtlasTilesetMapLoader.ATLAS_PATH, TextureAtlas.class);
+        }
+        queue(SKIN_PATH, Skin.class);
+        queue(FONT_PATH, BitmapFont.class);
+    }
+
+    /**
+     * Avance le chargement et affiche la barre de progression.
+     * @param delta temps ecoule (secondes)
+     */
+    @Override
+    public void render(float delta) {
+        boolean done = TextureRegistry.getInstance().update(UPDATE_BUDGET_MS);
+
+        Gdx.gl.glClearColor(0.1f, 0.1f, 0.1f, 1);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        float width = Gdx.graphics.getWidth();
+        float height = Gdx.graphics.getHeight();
+        float x = (width - BAR_WIDTH) / 2f;
+        float y = (height - BAR_HEIGHT) / 2f;
+        shapeRenderer.getProjectionMatrix().setToOrtho2D(0, 0, width, height);
+        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
+        shapeRenderer.setColor(Color.DARK_GRAY);
+        shapeRenderer.rect(x, y, BAR_WIDTH, BAR_HEIGHT);
+        shapeRenderer.setColor(Color.GOLD);
+        shapeRenderer.rect(x, y, BAR_WIDTH * TextureRegistry.getInstance().getProgress(), BAR_HEIGHT);
+        shapeRenderer.end();
+
+        // Dernier appel de la frame : hide() planifie la liberation de cet ecran
+        if (done) {
+            GameScreen screen = mapPath != null ? new GameScreen(game, mapPath) : new GameScreen(game);
+            screen.setThreadedSimulation(game.isThreadedSimulation());
+            game.setScreen(screen);
+        }
+    }
+
+    /**
+     * Quitte l'ecran : ses ressources sont liberees a la frame suivante, apres le show() du GameScreen
+     * (sinon leur compteur tomberait a 0 et elles seraient dechargees puis rechargees).
+     */
+    @Override
+    public void hide() {
+        Gdx.app.postRunnable(this::dispose);
+    }
+
+    /**
+     * Rend les references prises au chargement et libere le renderer.
+     */
+    @Override
+    public void dispose() {
+        if (shapeRenderer == null) return;
+        for (String path : queuedSheets) SpriteAtlasManager.getInstance().releaseSheet(path);
+        queuedSheets.clear();
+        for (String path : queuedAssets) TextureRegistry.getInstance().release(path);
+        queuedAssets.clear();
+        shapeRenderer.dispose();
+        shapeRenderer = null;
+    }
+
+    private void queue(String path, Class<?> type) {
+        TextureRegistry.getInstance().queue(path, type);
+        queuedAssets.add(path);
+    }
+}
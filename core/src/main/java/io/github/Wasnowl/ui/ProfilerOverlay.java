@@ -0,0 +1,94 @@
+package io.github.Wasnowl.ui;
+
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.math.Matrix4;
+import io.github.Wasnowl.controllers.GameInputController;
+import io.github.Wasnowl.managers.FrameProfiler;
+
+/**
+ * ProfilerOverlay : affiche en haut a gauche de l'ecran les percentiles p50/p95/p99 de chaque section
+ * du {@link FrameProfiler}, les compteurs d'entites et de pools, les draw calls, bindings de texture
+ * et octets alloues de la derniere frame. Le texte n'est recalcule que toutes les {@link #REFRESH_INTERVAL}
+ * secondes (le tri des percentiles n'est pas fait a chaque frame).
+ */
+public class ProfilerOverlay {
+    /** Intervalle de rafraichissement du texte (secondes). */
+    public static final float REFRESH_INTERVAL = 0.5f;
+    private static final float MARGIN = 8f;
+
+    private final BitmapFont font;
+    private final Matrix4 projection = new Matrix4();
+    private final StringBuilder text = new StringBuilder();
+    private final Color previousColor = new Color();
+    private float sinceRefresh = REFRESH_INTERVAL;
+
+    /**
+     * Cree l'overlay.
+     * @param font police d'affichage (non possedee par l'overlay)
+     */
+    public ProfilerOverlay(BitmapFont font) {
+        this.font = font;
+    }
+
+    /**
+     * Dessine l'overlay si le profiler est actif. Le batch ne doit pas etre commence.
+     * @param batch batch de rendu (sa matrice de projection est remplacee)
+     * @param delta temps ecoule (secondes)
+     * @param width largeur de l'ecran
+     * @param height hauteur de l'ecran
+     */
+    public void render(Batch batch, float delta, int width, int height) {
+        FrameProfiler profiler = FrameProfiler.getInstance();
+        if (!profiler.isEnabled()) {
+            sinceRefresh = REFRESH_INTERVAL;
+            return;
+        }
+        sinceRefresh += delta;
+        if (sinceRefresh >= REFRESH_INTERVAL) {
+            sinceRefresh = 0f;
+            refresh(profiler);
+        }
+        projection.setToOrtho2D(0, 0, width, height);
+        batch.setProjectionMatrix(projection);
+        batch.begin();
+        previousColor.set(font.getColor());
+        font.setColor(Color.GREEN);
+        font.draw(batch, text, MARGIN, height - MARGIN);
+        font.setColor(previousColor);
+        batch.end();
+    }
+
+    private void refresh(FrameProfiler profiler) {
+        text.setLength(0);
+        text.append("Profiler (").append(profiler.getSampleCount()).append(" frames)  p50 / p95 / p99 ms\n");
+        for (FrameProfiler.Section section : FrameProfiler.Section.values()) {
+            text.append(section.getLabel()).append(": ");
+            appendMillis(profiler.getPercentile(section, 0.5f)).append(" / ");
+            appendMillis(profiler.getPercentile(section, 0.95f)).append(" / ");
+            appendMillis(profiler.getPercentile(section, 0.99f)).append('\n');
+        }
+        text.append("enemies ").append(profiler.getLast(FrameProfiler.Counter.ENEMIES))
+            .append("  towers ").append(profiler.getLast(FrameProfiler.Counter.TOWERS))
+            .append("  projectiles ").append(profiler.getLast(FrameProfiler.Counter.PROJECTILES)).append('\n');
+        text.append("pools free: projectiles ").append(profiler.getLast(FrameProfiler.Counter.PROJECTILE_POOL_FREE))
+            .append("  enemies ").append(profiler.getLast(FrameProfiler.Counter.ENEMY_POOL_FREE)).append('\n');
+        text.append("draw calls ").append(profiler.getLast(FrameProfiler.Counter.DRAW_CALLS))
+            .append("  texture binds ").append(profiler.getLast(FrameProfiler.Counter.TEXTURE_BINDS)).append('\n');
+        long allocated = profiler.getLast(FrameProfiler.Counter.ALLOCATED_BYTES);
+        text.append("alloc/frame ").append(allocated >= 0 ? allocated + " B" : "n/a").append('\n');
+        text.append(Input.Keys.toString(GameInputController.PROFILER_EXPORT_KEY)).append(" : export CSV  -  ")
+            .append(Input.Keys.toString(GameInputController.PROFILER_KEY)).append(" : masquer");
+    }
+
+    private StringBuilder appendMillis(float millis) {
+        // deux decimales sans String.format
+        int hundredths = Math.round(millis * 100f);
+        text.append(hundredths / 100).append('.');
+        int rest = hundredths % 100;
+        if (rest < 10) text.append('0');
+        return text.append(rest);
+    }
+}
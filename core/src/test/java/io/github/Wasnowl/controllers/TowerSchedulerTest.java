@@ -0,0 +1,155 @@
+package io.github.Wasnowl.controllers;
+
+import static org.junit.Assert.assertEquals;
+
+import com.badlogic.gdx.utils.Array;
+import io.github.Wasnowl.entities.Enemy;
+import io.github.Wasnowl.entities.EnemyHealth;
+import io.github.Wasnowl.entities.Projectile;
+import io.github.Wasnowl.entities.Tower;
+import io.github.Wasnowl.model.EnemyStore;
+import java.util.Arrays;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * TowerScheduler : ordre de sortie du tas, rechargements, tours sans cible et suivi de la liste.
+ * Pas de 1/8 s et cadences en puissances de deux : les dates sont exactes.
+ */
+public class TowerSchedulerTest {
+    private static final float STEP = 0.125f;
+
+    private final StringBuilder log = new StringBuilder();
+    private final Array<Tower> towers = new Array<>();
+    private Enemy target;
+
+    /** Tour de test : cible fixe, tirs notes dans le journal. */
+    private final class LoggingTower extends Tower {
+        private final char name;
+        private Enemy current;
+
+        LoggingTower(char name, float fireRate) {
+            super(0f, 0f, 100f, fireRate, new Array<Enemy>(), new Array<Projectile>());
+            this.name = name;
+            this.current = target;
+        }
+
+        @Override
+        public Enemy selectTarget() {
+            return current;
+        }
+
+        @Override
+        public void fire(Enemy enemy) {
+            log.append(name);
+        }
+    }
+
+    @Before
+    public void setUp() {
+        EnemyStore store = new EnemyStore();
+        target = new Enemy(store, new EnemyHealth(store));
+    }
+
+    private String tick(TowerScheduler scheduler) {
+        log.setLength(0);
+        scheduler.update(STEP);
+        return log.toString();
+    }
+
+    // tirs d'un tick a dates egales : ordre du tas non specifie
+    private String tickSorted(TowerScheduler scheduler) {
+        char[] fired = tick(scheduler).toCharArray();
+        Arrays.sort(fired);
+        return new String(fired);
+    }
+
+    @Test
+    public void towersFireWhenTheirCooldownElapses() {
+        towers.add(new LoggingTower('a', 4f)); // toutes les 0.25 s
+        towers.add(new LoggingTower('b', 2f)); // toutes les 0.5 s
+        TowerScheduler scheduler = new TowerScheduler(towers);
+
+        StringBuilder ticks = new StringBuilder();
+        for (int i = 0; i < 8; i++) ticks.append(tickSorted(scheduler)).append('|');
+
+        assertEquals("ab||a||ab||a||", ticks.toString());
+        assertEquals(2, scheduler.getScheduledCount());
+    }
+
+    @Test
+    public void readyTowersLeaveTheHeapByFireDate() {
+        towers.add(new LoggingTower('a', 4f / 3f)); // 0.75 s
+        towers.add(new LoggingTower('b', 4f));      // 0.25 s
+        towers.add(new LoggingTower('c', 2f));      // 0.5 s
+        TowerScheduler scheduler = new TowerScheduler(towers);
+        assertEquals("abc", tickSorted(scheduler));
+
+        // un long pas rend les trois tours pretes : elles tirent dans l'ordre de leur date
+        log.setLength(0);
+        scheduler.update(1f);
+        assertEquals("bca", log.toString());
+    }
+
+    @Test
+    public void towerWithoutTargetRetriesOnTheNextTick() {
+        LoggingTower idle = new LoggingTower('a', 1f);
+        idle.current = null;
+        towers.add(idle);
+        TowerScheduler scheduler = new TowerScheduler(towers);
+
+        assertEquals("", tick(scheduler));
+        idle.current = target;
+        assertEquals("a", tick(scheduler));
+        assertEquals("", tick(scheduler));
+    }
+
+    @Test
+    public void replacedTowersAreDetectedWithoutReset() {
+        towers.add(new LoggingTower('a', 1f));
+        towers.add(new LoggingTower('b', 1f));
+        TowerScheduler scheduler = new TowerScheduler(towers);
+        assertEquals("ab", tickSorted(scheduler));
+
+        // meme taille de liste : c remplace b, a garde son rechargement
+        towers.set(1, new LoggingTower('c', 1f));
+        assertEquals("c", tick(scheduler));
+        assertEquals(2, scheduler.getScheduledCount());
+
+        towers.removeIndex(0);
+        assertEquals("", tick(scheduler));
+        assertEquals(1, scheduler.getScheduledCount());
+
+        towers.add(new LoggingTower('d', 1f));
+        assertEquals("d", tick(scheduler));
+    }
+
+    @Test
+    public void resetMakesEveryTowerReady() {
+        towers.add(new LoggingTower('a', 1f));
+        TowerScheduler scheduler = new TowerScheduler(towers);
+        assertEquals("a", tick(scheduler));
+        assertEquals("", tick(scheduler));
+
+        scheduler.reset();
+
+        assertEquals("a", tick(scheduler));
+    }
+
+    @Test
+    public void parallelTargetingKeepsTheSerialOrder() {
+        for (int i = 0; i < TowerScheduler.PARALLEL_THRESHOLD + 10; i++) {
+            towers.add(new LoggingTower((char) ('a' + i % 26), 1f + i % 3));
+        }
+        TowerScheduler serial = new TowerScheduler(towers);
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 16; i++) expected.append(tick(serial)).append('|');
+
+        TowerScheduler parallel = new TowerScheduler(towers);
+        parallel.setParallelTargeting(true);
+        StringBuilder actual = new StringBuilder();
+        for (int i = 0; i < 16; i++) actual.append(tick(parallel)).append('|');
+
+        assertEquals(expected.toString(), actual.toString());
+    }
+}
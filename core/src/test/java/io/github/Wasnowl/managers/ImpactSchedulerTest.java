@@ -0,0 +1,112 @@
+package io.github.Wasnowl.managers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import io.github.Wasnowl.entities.Projectile;
+import io.github.Wasnowl.entities.ProjectileType;
+import org.junit.Test;
+
+/**
+ * ImpactScheduler : echeance des impacts, vols plus longs que la roue et changement de pas.
+ */
+public class ImpactSchedulerTest {
+
+    private static Projectile impactingAt(double time) {
+        return new Projectile(new Vector2(), null, ProjectileType.SIMPLE) {
+            {
+                impactTime = time;
+            }
+        };
+    }
+
+    // numero du tick ou l'impact est collecte (-1 si jamais)
+    private static int ticksUntilImpact(ImpactScheduler impacts, float step, int maxTicks) {
+        Array<Projectile> out = new Array<>();
+        for (int tick = 1; tick <= maxTicks; tick++) {
+            impacts.advance(step);
+            assertTrue(impacts.step(out));
+            if (out.size > 0) return tick;
+        }
+        return -1;
+    }
+
+    @Test
+    public void impactIsCollectedOnItsTick() {
+        ImpactScheduler impacts = new ImpactScheduler(0.1f);
+        Projectile p = impactingAt(0.5);
+        impacts.schedule(p, p.getImpactTime());
+        assertEquals(1, impacts.getScheduledCount());
+
+        assertEquals(5, ticksUntilImpact(impacts, 0.1f, 50));
+        assertEquals(0, impacts.getScheduledCount());
+    }
+
+    @Test
+    public void pastImpactsFireOnTheNextTick() {
+        ImpactScheduler impacts = new ImpactScheduler(0.1f);
+        impacts.schedule(impactingAt(0.0), 0.0);
+        assertEquals(1, ticksUntilImpact(impacts, 0.1f, 5));
+    }
+
+    @Test
+    public void stepWaitsForAFullTick() {
+        ImpactScheduler impacts = new ImpactScheduler(0.1f);
+        Array<Projectile> out = new Array<>();
+        impacts.advance(0.05f);
+        assertFalse(impacts.step(out));
+        impacts.advance(0.05f);
+        assertTrue(impacts.step(out));
+        assertEquals(0.1, impacts.getTime(), 1e-6);
+    }
+
+    @Test
+    public void flightsLongerThanTheWheelKeepTheirTick() {
+        ImpactScheduler impacts = new ImpactScheduler(0.1f);
+        Projectile near = impactingAt(1.0);
+        Projectile far = impactingAt(30.0); // 300 ticks, roue de 256 slots
+        impacts.schedule(near, near.getImpactTime());
+        impacts.schedule(far, far.getImpactTime());
+
+        Array<Projectile> out = new Array<>();
+        int farTick = -1;
+        for (int tick = 1; tick <= 400 && farTick < 0; tick++) {
+            impacts.advance(0.1f);
+            impacts.step(out);
+            if (out.contains(far, true)) farTick = tick;
+        }
+        assertEquals(300, farTick);
+        assertSame(near, out.first());
+    }
+
+    @Test
+    public void changingTheTickDurationReschedulesPendingImpacts() {
+        ImpactScheduler impacts = new ImpactScheduler(0.1f);
+        Projectile p = impactingAt(1.0);
+        impacts.schedule(p, p.getImpactTime());
+        Array<Projectile> out = new Array<>();
+        for (int i = 0; i < 2; i++) {
+            impacts.advance(0.1f);
+            impacts.step(out);
+        }
+
+        impacts.setTickDuration(0.05f);
+
+        assertEquals(0.05f, impacts.getTickDuration(), 0f);
+        assertEquals(16, ticksUntilImpact(impacts, 0.05f, 50));
+        assertEquals(1.0, impacts.getTime(), 1e-6);
+    }
+
+    @Test
+    public void clearForgetsScheduledImpacts() {
+        ImpactScheduler impacts = new ImpactScheduler(0.1f);
+        impacts.schedule(impactingAt(0.3), 0.3);
+        impacts.clear();
+        assertEquals(0, impacts.getScheduledCount());
+        assertEquals(-1, ticksUntilImpact(impacts, 0.1f, 10));
+    }
+}
@@ -0,0 +1,93 @@
+package io.github.Wasnowl.managers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.badlogic.gdx.utils.IntArray;
+import io.github.Wasnowl.model.WaveDefinition;
+import io.github.Wasnowl.model.WaveDefinition.SpawnGroup;
+import org.junit.Test;
+
+/**
+ * SpawnScheduler : delais, intervalles et rafales sur la roue, tours de roue et changement de pas.
+ */
+public class SpawnSchedulerTest {
+
+    private static SpawnGroup group(int type, int count, float delay, float interval, int burst) {
+        return new SpawnGroup(type, count, delay, interval, burst, SpawnGroup.DEFAULT_HEALTH, SpawnGroup.DEFAULT_SPEED);
+    }
+
+    // numero de tick de chaque spawn, jusqu'a la fin de la vague
+    private static IntArray run(SpawnScheduler scheduler, float step, int maxTicks) {
+        IntArray ticks = new IntArray();
+        for (int tick = 1; tick <= maxTicks && !scheduler.isFinished(); tick++) {
+            scheduler.update(step);
+            while (scheduler.poll() >= 0) ticks.add(tick);
+        }
+        return ticks;
+    }
+
+    @Test
+    public void burstsFollowTheDelayAndInterval() {
+        SpawnScheduler scheduler = new SpawnScheduler(0.1f);
+        scheduler.start(new WaveDefinition().addGroup(group(1, 5, 0.5f, 0.3f, 2)));
+
+        IntArray ticks = run(scheduler, 0.1f, 100);
+
+        assertEquals(IntArray.with(5, 5, 8, 8, 11), ticks);
+        assertTrue(scheduler.isFinished());
+    }
+
+    @Test
+    public void groupsKeepTheirOwnTimeline() {
+        SpawnScheduler scheduler = new SpawnScheduler(0.1f);
+        scheduler.start(new WaveDefinition()
+            .addGroup(group(1, 2, 0.2f, 0.4f, 1))
+            .addGroup(group(2, 1, 0.3f, 1f, 1)));
+
+        IntArray types = new IntArray();
+        for (int tick = 0; tick < 20; tick++) {
+            scheduler.update(0.1f);
+            for (int g = scheduler.poll(); g >= 0; g = scheduler.poll()) {
+                types.add(scheduler.getGroup(g).getEnemyType());
+            }
+        }
+        assertEquals(IntArray.with(1, 2, 1), types);
+    }
+
+    @Test
+    public void delaysLongerThanTheWheelWaitForTheirRound() {
+        float step = 1f / 60f;
+        SpawnScheduler scheduler = new SpawnScheduler(step);
+        // 1200 ticks : plus d'un tour de la roue de 1024 slots
+        scheduler.start(new WaveDefinition().addGroup(group(1, 1, 20f, 1f, 1)));
+
+        assertEquals(IntArray.with(1200), run(scheduler, step, 2000));
+    }
+
+    @Test
+    public void changingTheTickDurationKeepsTheDueTimeInSeconds() {
+        SpawnScheduler scheduler = new SpawnScheduler(0.1f);
+        scheduler.start(new WaveDefinition().addGroup(group(1, 2, 1f, 0.5f, 1)));
+        for (int i = 0; i < 3; i++) scheduler.update(0.1f);
+
+        scheduler.setTickDuration(0.05f);
+
+        // 0.7s restantes puis 0.5s d'intervalle, en ticks de 0.05s
+        assertEquals(IntArray.with(14, 24), run(scheduler, 0.05f, 100));
+    }
+
+    @Test
+    public void clearDropsTheCurrentWave() {
+        SpawnScheduler scheduler = new SpawnScheduler(0.1f);
+        scheduler.start(new WaveDefinition().addGroup(group(1, 3, 0f, 0.1f, 3)));
+        scheduler.update(0.1f);
+        assertEquals(3, scheduler.getPendingCount());
+
+        scheduler.clear();
+
+        assertEquals(0, scheduler.getPendingCount());
+        assertTrue(scheduler.isFinished());
+        assertEquals(-1, scheduler.poll());
+    }
+}
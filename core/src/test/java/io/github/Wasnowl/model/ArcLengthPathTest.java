@@ -0,0 +1,79 @@
+package io.github.Wasnowl.model;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import com.badlogic.gdx.math.Vector2;
+import org.junit.Test;
+
+/**
+ * ArcLengthPath : positions par distance parcourue et intervalles a portee d'un disque.
+ */
+public class ArcLengthPathTest {
+    private static final float EPSILON = 1e-4f;
+
+    // L de 100 vers la droite puis 50 vers le haut
+    private final ArcLengthPath path = new ArcLengthPath(new Vector2[]{
+        new Vector2(0f, 0f), new Vector2(100f, 0f), new Vector2(100f, 50f)
+    });
+
+    @Test
+    public void lengthIsTheSumOfTheSegments() {
+        assertEquals(150f, path.getLength(), EPSILON);
+    }
+
+    @Test
+    public void positionsFollowTheSegments() {
+        Vector2 out = new Vector2();
+        path.positionAt(40f, 0, out);
+        assertEquals(40f, out.x, EPSILON);
+        assertEquals(0f, out.y, EPSILON);
+        path.positionAt(120f, 0, out);
+        assertEquals(100f, out.x, EPSILON);
+        assertEquals(20f, out.y, EPSILON);
+    }
+
+    @Test
+    public void segmentSearchWorksFromAnyHint() {
+        assertEquals(1, path.segmentAt(120f, 0));
+        assertEquals(0, path.segmentAt(10f, 1));
+        assertEquals(1, path.segmentAt(100f, 0));
+        assertEquals(1, path.segmentAt(120f, 99));
+    }
+
+    @Test
+    public void distancesBeyondTheEndStayOnTheLastPoint() {
+        Vector2 out = path.positionAt(500f, 1, new Vector2());
+        assertEquals(100f, out.x, EPSILON);
+        assertEquals(50f, out.y, EPSILON);
+        out = path.positionAt(-10f, 0, out);
+        assertEquals(0f, out.x, EPSILON);
+    }
+
+    @Test
+    public void singlePointPathStaysInPlace() {
+        ArcLengthPath point = new ArcLengthPath(new Vector2[]{new Vector2(3f, 4f)});
+        assertEquals(0f, point.getLength(), 0f);
+        Vector2 out = point.positionAt(10f, 0, new Vector2());
+        assertEquals(3f, out.x, 0f);
+        assertEquals(4f, out.y, 0f);
+    }
+
+    @Test
+    public void intervalsCoverTheChordsInsideTheDisc() {
+        // disque centre sur le premier segment
+        assertArrayEquals(new float[]{30f, 70f}, path.intervalsWithin(50f, 0f, 20f), EPSILON);
+        // disque autour du coin : les deux segments forment un seul intervalle
+        assertArrayEquals(new float[]{90f, 110f}, path.intervalsWithin(100f, 0f, 10f), EPSILON);
+        // disque hors du chemin
+        assertEquals(0, path.intervalsWithin(50f, 40f, 10f).length);
+    }
+
+    @Test
+    public void intervalContainingTheLastPointIsOpenEnded() {
+        float[] intervals = path.intervalsWithin(100f, 50f, 10f);
+        assertEquals(2, intervals.length);
+        assertEquals(140f, intervals[0], EPSILON);
+        assertEquals(Float.MAX_VALUE, intervals[1], 0f);
+    }
+}
@@ -0,0 +1,68 @@
+package io.github.Wasnowl.model;
+
+import static org.junit.Assert.assertEquals;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.IntArray;
+import io.github.Wasnowl.entities.Enemy;
+import io.github.Wasnowl.entities.EnemyHealth;
+import io.github.Wasnowl.entities.ProjectileType;
+import org.junit.Test;
+
+/**
+ * DamageBuffer : stockage des entrees, puis cumul par ennemi lors de l'application par EnemyHealth.
+ */
+public class DamageBufferTest {
+
+    @Test
+    public void entriesSurviveGrowthAndClear() {
+        DamageBuffer buffer = new DamageBuffer(2);
+        for (int i = 0; i < 10; i++) buffer.add(i, i * 1.5f, i % 3);
+
+        assertEquals(10, buffer.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, buffer.getHandle(i));
+            assertEquals(i * 1.5f, buffer.getAmount(i), 0f);
+            assertEquals(i % 3, buffer.getSource(i));
+        }
+        buffer.clear();
+        assertEquals(0, buffer.size());
+    }
+
+    @Test
+    public void queuedDamageIsSummedPerEnemy() {
+        EnemyStore store = new EnemyStore();
+        EnemyHealth health = new EnemyHealth(store);
+        int path = store.registerPath(new Vector2[]{new Vector2(0f, 0f), new Vector2(100f, 0f)});
+        int a = store.add(new Enemy(store, health), 0f, 10f, 50f, -1, path);
+        int b = store.add(new Enemy(store, health), 5f, 10f, 50f, -1, path);
+        int removed = store.add(new Enemy(store, health), 8f, 10f, 50f, -1, path);
+
+        int simple = ProjectileType.SIMPLE.ordinal();
+        int aoe = ProjectileType.AOE.ordinal();
+        health.queueDamage(a, 6f, simple);
+        health.queueDamage(a, 6f, aoe);
+        health.queueDamage(b, 3f, simple);
+        health.queueDamage(removed, 4f, simple);
+        store.remove(store.slotOf(removed));
+        // aucun changement avant l'application
+        assertEquals(10f, store.getHealth()[store.slotOf(a)], 0f);
+
+        IntArray killed = new IntArray();
+        int kills = health.applyQueuedDamage(killed);
+
+        // deux coups de 6 sur a : un seul deces ; le tir sur l'ennemi retire est ignore
+        assertEquals(1, kills);
+        assertEquals(IntArray.with(store.slotOf(a)), killed);
+        assertEquals(EnemyStore.STATE_DEATH, store.getState()[store.slotOf(a)]);
+        assertEquals(0f, store.getHealth()[store.slotOf(a)], 0f);
+        assertEquals(7f, store.getHealth()[store.slotOf(b)], 0f);
+        assertEquals(9f, health.getDamageDealt(ProjectileType.SIMPLE), 0f);
+        assertEquals(6f, health.getDamageDealt(ProjectileType.AOE), 0f);
+        assertEquals(0, health.getQueuedDamageCount());
+
+        // un ennemi deja mourant n'est pas compte deux fois
+        health.queueDamage(a, 5f, simple);
+        assertEquals(0, health.applyQueuedDamage(null));
+    }
+}
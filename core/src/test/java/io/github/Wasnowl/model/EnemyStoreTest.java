@@ -0,0 +1,106 @@
+package io.github.Wasnowl.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import com.badlogic.gdx.math.Vector2;
+import io.github.Wasnowl.entities.Enemy;
+import io.github.Wasnowl.entities.EnemyHealth;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * EnemyStore : handles generationnels et retrait par echange avec le dernier slot.
+ */
+public class EnemyStoreTest {
+    private EnemyStore store;
+    private EnemyHealth health;
+    private int path;
+
+    @Before
+    public void setUp() {
+        store = new EnemyStore(2);
+        health = new EnemyHealth(store);
+        path = store.registerPath(new Vector2[]{new Vector2(0f, 0f), new Vector2(100f, 0f)});
+    }
+
+    private int add(float distance) {
+        return store.add(new Enemy(store, health), distance, 10f, 50f, -1, path);
+    }
+
+    @Test
+    public void handlesResolveToTheirSlot() {
+        int a = add(0f);
+        int b = add(10f);
+        int c = add(20f);
+        assertEquals(0, store.slotOf(a));
+        assertEquals(1, store.slotOf(b));
+        assertEquals(2, store.slotOf(c));
+        assertEquals(20f, store.getX()[store.slotOf(c)], 1e-4f);
+    }
+
+    @Test
+    public void removeMovesTheLastEnemyIntoTheFreedSlot() {
+        int a = add(0f);
+        int b = add(10f);
+        int c = add(20f);
+        Enemy last = store.getEnemies().get(2);
+
+        store.remove(0);
+
+        assertEquals(2, store.size());
+        assertEquals(-1, store.slotOf(a));
+        assertEquals(0, store.slotOf(c));
+        assertEquals(1, store.slotOf(b));
+        assertSame(last, store.getEnemies().get(0));
+        assertEquals(20f, store.getDistance()[0], 0f);
+        assertEquals(c, store.getHandles()[0]);
+    }
+
+    @Test
+    public void reusedIndexGetsANewGeneration() {
+        int a = add(0f);
+        store.remove(store.slotOf(a));
+        int b = add(5f);
+
+        // meme index de handle, generation differente : l'ancien handle reste invalide
+        assertNotEquals(a, b);
+        assertEquals(-1, store.slotOf(a));
+        assertEquals(0, store.slotOf(b));
+    }
+
+    @Test
+    public void clearInvalidatesEveryHandle() {
+        int a = add(0f);
+        int b = add(10f);
+        store.clear();
+        assertEquals(0, store.size());
+        assertEquals(-1, store.slotOf(a));
+        assertEquals(-1, store.slotOf(b));
+        assertEquals(-1, store.slotOf(EnemyStore.NO_HANDLE));
+    }
+
+    @Test
+    public void registerPathReusesKnownPaths() {
+        Vector2[] other = {new Vector2(0f, 0f), new Vector2(0f, 50f)};
+        int id = store.registerPath(other);
+        assertEquals(path + 1, id);
+        assertEquals(id, store.registerPath(other));
+        assertEquals(50f, store.getArcLengthPath(id).getLength(), 1e-4f);
+    }
+
+    @Test
+    public void registerPathRejectsPathsBeyondTheSortKeyBits() {
+        for (int i = 1; i < EnemyStore.MAX_PATHS; i++) {
+            store.registerPath(new Vector2[]{new Vector2(i, 0f)});
+        }
+        try {
+            store.registerPath(new Vector2[]{new Vector2(-1f, 0f)});
+            fail("chemin au-dela de MAX_PATHS accepte");
+        } catch (IllegalStateException expected) {
+            // attendu
+        }
+    }
+}
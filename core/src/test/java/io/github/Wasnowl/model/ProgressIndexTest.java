@@ -0,0 +1,151 @@
+package io.github.Wasnowl.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import com.badlogic.gdx.math.Vector2;
+import io.github.Wasnowl.entities.Enemy;
+import io.github.Wasnowl.entities.EnemyHealth;
+import java.util.Random;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * ProgressIndex : l'ordre maintenu par insertion et les arbres de vie donnent les memes cibles
+ * qu'un parcours complet, tick apres tick (depassements, apparitions, retraits, morts).
+ */
+public class ProgressIndexTest {
+    private static final float RANGE = 120f;
+
+    private EnemyStore store;
+    private EnemyHealth health;
+    private int[] paths;
+    private Random random;
+
+    @Before
+    public void setUp() {
+        store = new EnemyStore();
+        health = new EnemyHealth(store);
+        random = new Random(42);
+        paths = new int[]{
+            store.registerPath(new Vector2[]{new Vector2(0f, 0f), new Vector2(600f, 0f), new Vector2(600f, 400f)}),
+            store.registerPath(new Vector2[]{new Vector2(0f, 200f), new Vector2(600f, 200f)})
+        };
+    }
+
+    private Enemy add(int path, float distance, float hp) {
+        Enemy view = new Enemy(store, health);
+        store.add(view, distance, hp, 50f, -1, path);
+        store.getHealth()[store.slotOf(view.getHandle())] = hp;
+        return view;
+    }
+
+    @Test
+    public void emptyIndexHasNoTarget() {
+        ProgressIndex index = new ProgressIndex();
+        index.rebuild(store);
+        assertEquals(0, index.size());
+        assertNull(index.first(0f, 0f, RANGE, new ProgressIndex.Coverage()));
+    }
+
+    @Test
+    public void firstAndLastFollowTheDistanceOrder() {
+        Enemy behind = add(paths[0], 10f, 5f);
+        Enemy ahead = add(paths[0], 90f, 5f);
+        Enemy middle = add(paths[0], 50f, 5f);
+        ProgressIndex index = new ProgressIndex();
+        index.rebuild(store);
+        ProgressIndex.Coverage coverage = new ProgressIndex.Coverage();
+
+        assertSame(ahead, index.first(50f, 0f, RANGE, coverage));
+        assertSame(behind, index.last(50f, 0f, RANGE, coverage));
+
+        // le dernier passe devant les autres : l'ordre est repare au rebuild suivant
+        store.getDistance()[store.slotOf(behind.getHandle())] = 100f;
+        store.invalidatePositions();
+        index.rebuild(store);
+        assertSame(behind, index.first(50f, 0f, RANGE, coverage));
+        assertSame(middle, index.last(50f, 0f, RANGE, coverage));
+    }
+
+    @Test
+    public void dyingEnemiesLeaveTheIndex() {
+        Enemy strong = add(paths[0], 20f, 90f);
+        Enemy weak = add(paths[0], 30f, 10f);
+        ProgressIndex index = new ProgressIndex();
+        index.rebuild(store);
+        store.getState()[store.slotOf(strong.getHandle())] = EnemyStore.STATE_DEATH;
+        index.rebuild(store);
+
+        assertEquals(1, index.size());
+        assertSame(weak, index.strongest(0f, 0f, RANGE, new ProgressIndex.Coverage()));
+    }
+
+    @Test
+    public void queriesMatchABruteForceScanAcrossTicks() {
+        ProgressIndex index = new ProgressIndex();
+        ProgressIndex.Coverage coverage = new ProgressIndex.Coverage();
+        for (int i = 0; i < 200; i++) spawn();
+
+        for (int tick = 0; tick < 60; tick++) {
+            step();
+            index.rebuild(store);
+            for (int q = 0; q < 20; q++) {
+                float x = random.nextFloat() * 700f;
+                float y = random.nextFloat() * 450f;
+                assertSame(brute(x, y, 0), index.first(x, y, RANGE, coverage));
+                assertSame(brute(x, y, 1), index.last(x, y, RANGE, coverage));
+                assertEquals(health(brute(x, y, 2)), health(index.strongest(x, y, RANGE, coverage)), 0f);
+                assertEquals(health(brute(x, y, 3)), health(index.weakest(x, y, RANGE, coverage)), 0f);
+            }
+        }
+    }
+
+    private void spawn() {
+        int path = paths[random.nextInt(paths.length)];
+        add(path, random.nextFloat() * store.getArcLengthPath(path).getLength(), 1f + random.nextInt(100));
+    }
+
+    // deplacements aleatoires (depassements), morts, retraits et apparitions
+    private void step() {
+        float[] distance = store.getDistance();
+        int[] state = store.getState();
+        for (int i = store.size() - 1; i >= 0; i--) {
+            if (state[i] == EnemyStore.STATE_DEATH) {
+                store.remove(i);
+                continue;
+            }
+            distance[i] += random.nextFloat() * 30f;
+            if (random.nextInt(50) == 0) state[i] = EnemyStore.STATE_DEATH;
+        }
+        store.invalidatePositions();
+        for (int i = 0; i < 5; i++) spawn();
+    }
+
+    // 0 : FIRST, 1 : LAST, 2 : STRONGEST, 3 : WEAKEST
+    private Enemy brute(float x, float y, int policy) {
+        Enemy best = null;
+        float bestScore = 0f;
+        for (int i = 0; i < store.size(); i++) {
+            Enemy e = store.getEnemies().get(i);
+            if (!e.isTargetable() || e.dst2(x, y) > RANGE * RANGE) continue;
+            float score;
+            switch (policy) {
+                case 0: score = store.getDistance()[i]; break;
+                case 1: score = -store.getDistance()[i]; break;
+                case 2: score = store.getHealth()[i]; break;
+                default: score = -store.getHealth()[i]; break;
+            }
+            if (best == null || score > bestScore) {
+                best = e;
+                bestScore = score;
+            }
+        }
+        return best;
+    }
+
+    private float health(Enemy e) {
+        return e == null ? -1f : e.getHealth();
+    }
+}
@@ -0,0 +1,115 @@
+package io.github.Wasnowl.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import io.github.Wasnowl.entities.Enemy;
+import io.github.Wasnowl.entities.EnemyHealth;
+import java.util.Random;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * SpatialIndex : la grille triee par cellule rend les memes ennemis qu'un parcours complet.
+ */
+public class SpatialIndexTest {
+    private EnemyStore store;
+    private EnemyHealth health;
+    private int path;
+
+    @Before
+    public void setUp() {
+        store = new EnemyStore();
+        health = new EnemyHealth(store);
+        // serpentin de 10 rangees sur 1000 x 900
+        Vector2[] points = new Vector2[20];
+        for (int r = 0; r < 10; r++) {
+            points[r * 2] = new Vector2((r & 1) == 0 ? 0f : 1000f, r * 100f);
+            points[r * 2 + 1] = new Vector2((r & 1) == 0 ? 1000f : 0f, r * 100f);
+        }
+        path = store.registerPath(points);
+    }
+
+    private Enemy add(float distance) {
+        Enemy view = new Enemy(store, health);
+        store.add(view, distance, 10f, 50f, -1, path);
+        return view;
+    }
+
+    @Test
+    public void queryRadiusMatchesABruteForceScan() {
+        Random random = new Random(7);
+        float length = store.getArcLengthPath(path).getLength();
+        for (int i = 0; i < 500; i++) add(random.nextFloat() * length);
+        SpatialIndex index = new SpatialIndex(32f);
+        index.rebuild(store);
+        assertEquals(500, index.size());
+
+        Array<Enemy> found = new Array<>();
+        for (int q = 0; q < 50; q++) {
+            float x = random.nextFloat() * 1000f;
+            float y = random.nextFloat() * 900f;
+            float radius = 20f + random.nextFloat() * 150f;
+            found.clear();
+            index.queryRadius(x, y, radius, found);
+            int expected = 0;
+            for (Enemy e : store.getEnemies()) {
+                boolean inside = e.dst2(x, y) <= radius * radius;
+                if (inside) expected++;
+                assertEquals(inside, found.contains(e, true));
+            }
+            assertEquals(expected, found.size);
+        }
+    }
+
+    @Test
+    public void rebuildSkipsDeadEnemies() {
+        add(0f);
+        add(10f);
+        store.getState()[1] = EnemyStore.STATE_DEAD;
+        SpatialIndex index = new SpatialIndex();
+        index.rebuild(store);
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    public void nearestIgnoresDyingAndExcludedEnemies() {
+        Enemy close = add(100f);
+        Enemy dying = add(95f);
+        Enemy far = add(130f);
+        store.getState()[store.slotOf(dying.getHandle())] = EnemyStore.STATE_DEATH;
+        SpatialIndex index = new SpatialIndex();
+        index.rebuild(store);
+
+        assertSame(close, index.nearest(95f, 0f, 50f, null));
+        Array<Enemy> exclude = new Array<>();
+        exclude.add(close);
+        assertSame(far, index.nearest(95f, 0f, 50f, exclude));
+        assertNull(index.nearest(95f, 0f, 2f, null));
+    }
+
+    @Test
+    public void queryTargetableLeavesDyingEnemiesToAreaDamage() {
+        Enemy alive = add(100f);
+        Enemy dying = add(105f);
+        store.getState()[store.slotOf(dying.getHandle())] = EnemyStore.STATE_DEATH;
+        SpatialIndex index = new SpatialIndex();
+        index.rebuild(store);
+
+        Array<Enemy> out = new Array<>();
+        index.queryTargetable(100f, 0f, 20f, out);
+        assertEquals(1, out.size);
+        assertSame(alive, out.first());
+
+        out.clear();
+        index.queryRadius(100f, 0f, 20f, out);
+        assertEquals(2, out.size);
+        assertTrue(out.contains(dying, true));
+        assertFalse(index.size() == 0);
+    }
+}
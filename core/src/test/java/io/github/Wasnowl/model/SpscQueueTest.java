@@ -0,0 +1,57 @@
+package io.github.Wasnowl.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * SpscQueue : ordre FIFO, capacite bornee et transfert entre deux threads.
+ */
+public class SpscQueueTest {
+
+    @Test
+    public void capacityIsRoundedToAPowerOfTwo() {
+        assertEquals(8, new SpscQueue<Integer>(5).capacity());
+        assertEquals(1, new SpscQueue<Integer>(1).capacity());
+    }
+
+    @Test
+    public void elementsComeOutInOrderUntilEmpty() {
+        SpscQueue<Integer> queue = new SpscQueue<>(4);
+        assertNull(queue.poll());
+        for (int i = 0; i < 4; i++) assertTrue(queue.offer(i));
+        assertFalse(queue.offer(4));
+
+        assertEquals(Integer.valueOf(0), queue.poll());
+        assertTrue(queue.offer(4));
+        for (int i = 1; i <= 4; i++) assertEquals(Integer.valueOf(i), queue.poll());
+        assertNull(queue.poll());
+    }
+
+    @Test(timeout = 10000)
+    public void consumerSeesEveryElementOnceAndInOrder() throws InterruptedException {
+        final int count = 200_000;
+        final SpscQueue<Integer> queue = new SpscQueue<>(64);
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < count; i++) {
+                while (!queue.offer(i)) Thread.yield();
+            }
+        });
+        producer.start();
+
+        int expected = 0;
+        while (expected < count) {
+            Integer value = queue.poll();
+            if (value == null) {
+                Thread.yield();
+                continue;
+            }
+            assertEquals(expected++, value.intValue());
+        }
+        producer.join();
+        assertNull(queue.poll());
+    }
+}
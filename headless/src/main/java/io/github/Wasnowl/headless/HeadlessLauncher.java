@@ -0,0 +1,48 @@
+package io.github.Wasnowl.headless;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import io.github.Wasnowl.entities.TargetingPolicy;
+
+/** Launches the simulation without OpenGL (headless backend). */
+public class HeadlessLauncher {
+    public static void main(String[] args) {
+        int waves = 3;
+        int towers = 6;
+        String wavesFile = null;
+        boolean analytic = false;
+        boolean parallel = false;
+        TargetingPolicy policy = TargetingPolicy.FIRST;
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if ("--waves".equals(args[i])) waves = Integer.parseInt(args[i + 1]);
+            else if ("--towers".equals(args[i])) towers = Integer.parseInt(args[i + 1]);
+            else if ("--waves-file".equals(args[i])) wavesFile = args[i + 1];
+            else if ("--projectiles".equals(args[i])) analytic = "analytic".equals(args[i + 1]);
+            else if ("--targeting".equals(args[i])) parallel = "parallel".equals(args[i + 1]);
+            else if ("--policy".equals(args[i])) policy = TargetingPolicy.valueOf(args[i + 1].toUpperCase(java.util.Locale.ROOT));
+        }
+        createApplication(waves, towers, wavesFile, analytic, parallel, policy);
+    }
+
+    private static HeadlessApplication createApplication(final int waves, final int towers, final String wavesFile,
+                                                         final boolean analytic, final boolean parallel,
+                                                         final TargetingPolicy policy) {
+        HeadlessApplicationConfiguration configuration = new HeadlessApplicationConfiguration();
+        // Pas de boucle de rendu : toute la simulation tourne dans create().
+        configuration.updatesPerSecond = -1;
+        return new HeadlessApplication(new ApplicationAdapter() {
+            @Override
+            public void create() {
+                HeadlessSimulation simulation = new HeadlessSimulation(towers);
+                simulation.setAnalyticProjectiles(analytic);
+                simulation.setParallelTargeting(parallel);
+                simulation.setTargetingPolicy(policy);
+                if (wavesFile != null) simulation.loadWaves(wavesFile);
+                simulation.run(waves);
+                Gdx.app.exit();
+            }
+        }, configuration);
+    }
+}
@@ -0,0 +1,155 @@
+package io.github.Wasnowl.headless;
+
+import com.badlogic.gdx.math.Vector2;
+import io.github.Wasnowl.builders.TowerBuilder;
+import io.github.Wasnowl.controllers.GameController;
+import io.github.Wasnowl.entities.ProjectileType;
+import io.github.Wasnowl.entities.TargetingPolicy;
+import io.github.Wasnowl.entities.Tower;
+import io.github.Wasnowl.entities.TowerType;
+import io.github.Wasnowl.managers.CurrencyManager;
+import io.github.Wasnowl.managers.EnemyAssetManager;
+import io.github.Wasnowl.managers.ProjectileManager;
+import io.github.Wasnowl.managers.ProjectilePool;
+import io.github.Wasnowl.managers.TowerAssetManager;
+import io.github.Wasnowl.managers.WaveManager;
+import io.github.Wasnowl.model.GameState;
+import io.github.Wasnowl.strategies.PathStrategyFactory;
+
+/**
+ * HeadlessSimulation : fait tourner les vagues sans rendu ni textures.
+ * Meme modele que GameScreen (GameState, WaveManager, tours, projectiles, GameController)
+ * mais le temps est avance par pas fixes aussi vite que le CPU le permet.
+ */
+public class HeadlessSimulation {
+    /** Nombre max de ticks par vague (1h simulee a 60 Hz), garde-fou contre une vague bloquee. */
+    private static final int MAX_TICKS_PER_WAVE = 60 * 60 * 60;
+    private static final float TOWER_OFFSET = 24f;
+
+    private final GameState state;
+    private final WaveManager waveManager;
+    private final GameController controller;
+    private final ProjectileManager projectileManager;
+    private final float step;
+    private int livesLost = 0;
+
+    /**
+     * Prepare une simulation avec des tours placees le long du chemin.
+     * @param towerCount nombre de tours a placer
+     */
+    public HeadlessSimulation(int towerCount) {
+        EnemyAssetManager.getInstance().setLoadingEnabled(false);
+        TowerAssetManager.getInstance().setLoadingEnabled(false);
+
+        state = new GameState();
+        state.setCurrencyManager(new CurrencyManager(0));
+        waveManager = new WaveManager(state);
+        waveManager.setOnLifeLost(amount -> livesLost += amount);
+        projectileManager = new ProjectileManager(state);
+        controller = new GameController(state, waveManager, projectileManager);
+        step = controller.getFixedStep();
+        placeTowers(towerCount);
+    }
+
+    /**
+     * Remplace les vagues par celles d'un autre fichier JSON (ex: waves/stress.json).
+     * @param path chemin relatif aux assets
+     */
+    public void loadWaves(String path) {
+        waveManager.loadWaves(path);
+    }
+
+    /**
+     * Active la resolution analytique des projectiles (impacts planifies au lieu du guidage par frame).
+     * @param analytic true pour le mode analytique
+     */
+    public void setAnalyticProjectiles(boolean analytic) {
+        projectileManager.setAnalyticResolution(analytic);
+    }
+
+    /**
+     * Active le ciblage parallele des tours (meme resultat que le mode serie).
+     * @param parallel true pour repartir le ciblage sur plusieurs coeurs
+     */
+    public void setParallelTargeting(boolean parallel) {
+        controller.setParallelTargeting(parallel);
+    }
+
+    /**
+     * Applique une politique de ciblage a toutes les tours placees.
+     * @param policy politique de ciblage
+     */
+    public void setTargetingPolicy(TargetingPolicy policy) {
+        for (Tower tower : state.getTowers()) tower.setTargetingPolicy(policy);
+    }
+
+    /**
+     * Joue les vagues demandees et affiche le debit de simulation de chacune.
+     * @param waves nombre de vagues a jouer
+     */
+    public void run(int waves) {
+        System.out.println("Simulation headless : " + state.getTowers().size + " tours, "
+                + waveManager.getWaveCount() + " vagues definies, pas " + step + "s");
+        for (int w = 0; w < waves; w++) {
+            int before = waveManager.getCurrentWave();
+            ProjectilePool.getInstance().prewarm(state.getTowers());
+            waveManager.startNextWave();
+            if (waveManager.getCurrentWave() == before) break;
+
+            long start = System.nanoTime();
+            int ticks = runWave();
+            long elapsed = System.nanoTime() - start;
+
+            double wallSeconds = elapsed / 1e9;
+            double simSeconds = ticks * (double) step;
+            System.out.println(String.format(java.util.Locale.ROOT,
+                    "Vague %d : %d ticks (%.1fs simulees) en %.1f ms -> %.0f ticks/s, x%.0f temps reel",
+                    waveManager.getCurrentWave(), ticks, simSeconds, wallSeconds * 1000.0,
+                    ticks / Math.max(wallSeconds, 1e-9), simSeconds / Math.max(wallSeconds, 1e-9)));
+        }
+        System.out.println("Argent : " + state.getCurrencyManager().getBalance() + ", vies perdues : " + livesLost);
+        System.out.println("Pool ennemis : acquire=" + waveManager.getEnemyPool().getAcquired()
+                + " miss=" + waveManager.getEnemyPool().getMisses());
+        for (ProjectileType type : ProjectileType.values()) {
+            System.out.println("Pool " + type + " : " + ProjectilePool.getInstance().getStats(type)
+                    + ", degats=" + (long) waveManager.getDamageDealt(type));
+        }
+    }
+
+    private int runWave() {
+        int ticks = 0;
+        while (!waveManager.isWaveFinished() && ticks < MAX_TICKS_PER_WAVE) {
+            controller.update(step);
+            ticks++;
+        }
+        if (ticks == MAX_TICKS_PER_WAVE) {
+            System.err.println("Warning: vague " + waveManager.getCurrentWave() + " interrompue apres " + ticks + " ticks");
+        }
+        return ticks;
+    }
+
+    private void placeTowers(int count) {
+        Vector2[] path = PathStrategyFactory.getStrategyForWave(0).getPath();
+        TowerType[] types = TowerType.values();
+        int segments = path.length - 1;
+        int perSegment = (count + segments - 1) / segments;
+        for (int i = 0; i < count; i++) {
+            // Repartir les tours sur les segments du chemin, decalees sur le cote
+            int segment = i % segments;
+            float t = (i / segments + 1f) / (perSegment + 1f);
+            Vector2 a = path[segment];
+            Vector2 b = path[segment + 1];
+            float x = a.x + (b.x - a.x) * t + TOWER_OFFSET;
+            float y = a.y + (b.y - a.y) * t + TOWER_OFFSET;
+
+            Tower tower = new TowerBuilder(x, y)
+                    .withTowerType(types[i % types.length])
+                    .withEnemies(state.getEnemies())
+                    .withProjectiles(state.getProjectiles())
+                    .withSpatialIndex(state.getSpatialIndex())
+                    .withProgressIndex(state.getProgressIndex())
+                    .build();
+            state.getTowers().add(tower);
+        }
+    }
+}
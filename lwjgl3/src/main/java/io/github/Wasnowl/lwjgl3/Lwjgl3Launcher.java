@@ -8,11 +8,16 @@ import io.github.Wasnowl.GameMain;
 public class Lwjgl3Launcher {
     public static void main(String[] args) {
         if (StartupHelper.startNewJvmIfRequired()) return; // This handles macOS support and helps on Windows.
-        createApplication();
+        GameMain game = new GameMain();
+        for (String arg : args) {
+            // --sim-thread : simulation sur un thread dedie, le rendu lit des snapshots
+            if ("--sim-thread".equals(arg)) game.setThreadedSimulation(true);
+        }
+        createApplication(game);
     }
 
-    private static Lwjgl3Application createApplication() {
-        return new Lwjgl3Application(new GameMain(), getDefaultConfiguration());
+    private static Lwjgl3Application createApplication(GameMain game) {
+        return new Lwjgl3Application(game, getDefaultConfiguration());
     }
 
     private static Lwjgl3ApplicationConfiguration getDefaultConfiguration() {